@@ -0,0 +1,59 @@
+package com.example.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Configuration
+public class ExecutorConfig {
+
+    /**
+     * Sağlayıcılara yapılan dış HTTP çağrıları için ortak havuz.
+     * Havuz boyutu aynı anda uçuşta olabilecek istek sayısının üst sınırıdır.
+     */
+    @Bean(name = "providerExecutor", destroyMethod = "shutdownNow")
+    public ExecutorService providerExecutor(@Value("${provider.fetch.parallelism:4}") int parallelism) {
+        return Executors.newFixedThreadPool(Math.max(1, parallelism), namedThreadFactory("provider-fetch-"));
+    }
+
+    /**
+     * Asenkron üye çekme işleri için sınırlı havuz. Kuyruk dolduğunda yeni işler
+     * reddedilir (AbortPolicy) ve API 429 döner; Tomcat thread'leri beklemez.
+     */
+    @Bean(name = "fetchJobExecutor", destroyMethod = "shutdownNow")
+    public ExecutorService fetchJobExecutor(@Value("${fetch.jobs.workers:2}") int workers,
+                                            @Value("${fetch.jobs.queue-capacity:20}") int queueCapacity) {
+        int poolSize = Math.max(1, workers);
+        return new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, queueCapacity)),
+                namedThreadFactory("fetch-job-"),
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /**
+     * Zamanlanmış üye yenilemesi: üyeler yenileme penceresine yayılmış gecikmelerle bu havuza
+     * verilir. Sağlayıcı bazındaki eşzamanlılık sınırı ayrıca MemberRefreshService'te uygulanır.
+     */
+    @Bean(name = "memberRefreshExecutor", destroyMethod = "shutdownNow")
+    public ScheduledExecutorService memberRefreshExecutor(@Value("${members.refresh.workers:4}") int workers) {
+        return Executors.newScheduledThreadPool(Math.max(1, workers), namedThreadFactory("member-refresh-"));
+    }
+
+    static ThreadFactory namedThreadFactory(String prefix) {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
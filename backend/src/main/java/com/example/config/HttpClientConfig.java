@@ -0,0 +1,121 @@
+package com.example.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+import org.apache.hc.client5.http.classic.methods.HttpUriRequestBase;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.http.ClassicHttpRequest;
+import org.apache.hc.core5.pool.PoolConcurrencyPolicy;
+import org.apache.hc.core5.pool.PoolReusePolicy;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.web.client.RestTemplate;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Sağlayıcı çağrılarında kullanılan RestTemplate'in HTTP katmanı: host başına bağlantı havuzu,
+ * keep-alive ile sayfalar arası bağlantı yeniden kullanımı, gzip ve bağlantı/okuma/toplam zaman aşımı.
+ * Havuz metrikleri Micrometer'a (actuator /metrics) "providers" adıyla yayınlanır.
+ */
+@Configuration
+public class HttpClientConfig {
+
+    @Value("${provider.http.max-connections-total:50}")
+    private int maxConnectionsTotal;
+
+    @Value("${provider.http.max-connections-per-route:10}")
+    private int maxConnectionsPerRoute;
+
+    @Value("${provider.http.connect-timeout:PT5S}")
+    private Duration connectTimeout;
+
+    @Value("${provider.http.read-timeout:PT30S}")
+    private Duration readTimeout;
+
+    @Value("${provider.http.connection-request-timeout:PT10S}")
+    private Duration connectionRequestTimeout;
+
+    @Value("${provider.http.total-timeout:PT60S}")
+    private Duration totalTimeout;
+
+    @Value("${provider.http.keep-alive:PT30S}")
+    private Duration keepAlive;
+
+    @Bean(destroyMethod = "close")
+    public PoolingHttpClientConnectionManager providerConnectionManager(ObjectProvider<MeterRegistry> meterRegistry) {
+        PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(maxConnectionsTotal)
+                .setMaxConnPerRoute(maxConnectionsPerRoute)
+                .setPoolConcurrencyPolicy(PoolConcurrencyPolicy.STRICT)
+                // LIFO: en son kullanılan (sıcak) bağlantı tekrar kullanılır, soğuklar zaman aşımına uğrar
+                .setConnPoolPolicy(PoolReusePolicy.LIFO)
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.of(connectTimeout))
+                        .setSocketTimeout(Timeout.of(readTimeout))
+                        .setTimeToLive(TimeValue.ofMinutes(5))
+                        .setValidateAfterInactivity(TimeValue.ofSeconds(10))
+                        .build())
+                .build();
+        meterRegistry.ifAvailable(registry ->
+                new PoolingHttpClientConnectionManagerMetricsBinder(connectionManager, "providers").bindTo(registry));
+        return connectionManager;
+    }
+
+    @Bean(destroyMethod = "close")
+    public CloseableHttpClient pooledHttpClient(PoolingHttpClientConnectionManager providerConnectionManager) {
+        // Content compression varsayılan olarak açık: Accept-Encoding: gzip, x-gzip, deflate gönderilir
+        // ve cevap şeffaf olarak açılır.
+        return HttpClients.custom()
+                .setConnectionManager(providerConnectionManager)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectionRequestTimeout(Timeout.of(connectionRequestTimeout))
+                        .setResponseTimeout(Timeout.of(readTimeout))
+                        .setConnectionKeepAlive(TimeValue.of(keepAlive))
+                        .build())
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.of(keepAlive))
+                .build();
+    }
+
+    @Bean(name = "httpDeadlineScheduler", destroyMethod = "shutdownNow")
+    public ScheduledExecutorService httpDeadlineScheduler() {
+        ScheduledThreadPoolExecutor scheduler = (ScheduledThreadPoolExecutor) Executors.newScheduledThreadPool(1,
+                ExecutorConfig.namedThreadFactory("http-deadline-"));
+        scheduler.setRemoveOnCancelPolicy(true);
+        return scheduler;
+    }
+
+    @Bean
+    public RestTemplate restTemplate(CloseableHttpClient pooledHttpClient, ScheduledExecutorService httpDeadlineScheduler) {
+        HttpComponentsClientHttpRequestFactory requestFactory = new HttpComponentsClientHttpRequestFactory(pooledHttpClient) {
+            @Override
+            protected ClassicHttpRequest createHttpUriRequest(HttpMethod httpMethod, URI uri) {
+                ClassicHttpRequest request = super.createHttpUriRequest(httpMethod, uri);
+                // Toplam süre sınırı: okuma zaman aşımı her paket için sıfırlandığından, yavaş akan
+                // bir cevap da isteği sonsuza kadar tutamasın. Tamamlanmış isteği iptal etmek no-op'tur.
+                if (request instanceof HttpUriRequestBase cancellable) {
+                    httpDeadlineScheduler.schedule(cancellable::cancel, totalTimeout.toMillis(), TimeUnit.MILLISECONDS);
+                }
+                return request;
+            }
+        };
+        return new RestTemplate(requestFactory);
+    }
+}
@@ -0,0 +1,12 @@
+package com.example.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * @Scheduled görevlerini (örn. MemberRefreshService'in periyodik yenilemesi) etkinleştirir.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -0,0 +1,48 @@
+package com.example.controller;
+
+import com.example.model.Author;
+import com.example.model.Publication;
+import com.example.service.AuthorService;
+import io.swagger.v3.oas.annotations.Operation;
+import org.springframework.data.domain.Page;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/authors")
+public class AuthorController {
+
+    private final AuthorService authorService;
+
+    public AuthorController(AuthorService authorService) {
+        this.authorService = authorService;
+    }
+
+    @GetMapping
+    @Operation(summary = "Search authors by name", description = "Prefix search on the normalized author name (case, accents and punctuation ignored)")
+    public ResponseEntity<Page<Author>> searchAuthors(
+            @RequestParam String name,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(authorService.searchByName(name, page, size));
+    }
+
+    @GetMapping("/{id}")
+    @Operation(summary = "Get an author")
+    public ResponseEntity<Author> getAuthor(@PathVariable Long id) {
+        return ResponseEntity.ok(authorService.getAuthor(id));
+    }
+
+    @GetMapping("/{id}/publications")
+    @Operation(summary = "List an author's publications", description = "Publications linked to the author across all members")
+    public ResponseEntity<Page<Publication>> getPublications(
+            @PathVariable Long id,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(authorService.getPublications(id, page, size));
+    }
+}
@@ -0,0 +1,51 @@
+package com.example.controller;
+
+import com.example.model.Publication;
+import com.example.service.CollaborationService;
+import com.example.service.CollaborationService.CollaborationGraph;
+import com.example.service.CollaborationService.Collaborator;
+import io.swagger.v3.oas.annotations.Operation;
+import org.springframework.data.domain.Page;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api")
+public class CollaborationController {
+
+    private final CollaborationService collaborationService;
+
+    public CollaborationController(CollaborationService collaborationService) {
+        this.collaborationService = collaborationService;
+    }
+
+    @GetMapping("/members/{id}/collaborators")
+    @Operation(summary = "Top collaborators of a member", description = "Co-authors ordered by number of shared publications; co-authors who are group members carry their memberId")
+    public ResponseEntity<List<Collaborator>> getTopCollaborators(
+            @PathVariable Long id,
+            @RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(collaborationService.getTopCollaborators(id, limit));
+    }
+
+    @GetMapping("/members/{id}/shared-publications/{otherId}")
+    @Operation(summary = "Publications shared by two members")
+    public ResponseEntity<Page<Publication>> getSharedPublications(
+            @PathVariable Long id,
+            @PathVariable Long otherId,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(collaborationService.getSharedPublications(id, otherId, page, size));
+    }
+
+    @GetMapping("/collaborations/graph")
+    @Operation(summary = "Group collaboration graph", description = "Members as nodes, member pairs with at least minWeight shared publications as weighted edges")
+    public ResponseEntity<CollaborationGraph> getGroupGraph(@RequestParam(defaultValue = "1") int minWeight) {
+        return ResponseEntity.ok(collaborationService.getGroupGraph(minWeight));
+    }
+}
@@ -0,0 +1,30 @@
+package com.example.controller;
+
+import com.example.model.FetchJob;
+import com.example.service.FetchJobService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/fetch-jobs")
+public class FetchJobController {
+
+    private final FetchJobService fetchJobService;
+
+    public FetchJobController(FetchJobService fetchJobService) {
+        this.fetchJobService = fetchJobService;
+    }
+
+    @GetMapping("/{id}")
+    @Operation(summary = "Get fetch job status", description = "Returns state, pages fetched, publications saved and duplicates skipped for an async member fetch")
+    public ResponseEntity<FetchJob> getFetchJob(@Parameter(description = "Fetch job ID", required = true) @PathVariable String id) {
+        return fetchJobService.getJob(id)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+}
@@ -1,8 +1,10 @@
 package com.example.controller;
 
+import com.example.service.FetchQueueFullException;
 import io.swagger.v3.oas.annotations.Hidden;  
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -29,6 +31,20 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(error, HttpStatus.BAD_REQUEST);
     }
 
+    @ExceptionHandler(FetchQueueFullException.class)
+    public ResponseEntity<Map<String, String>> handleFetchQueueFull(FetchQueueFullException e) {
+        logger.warn("Job queue full: {}", e.getMessage());
+        Map<String, String> error = new HashMap<>();
+        error.put("timestamp", java.time.Instant.now().toString());
+        error.put("status", "429");
+        error.put("error", "Too Many Requests");
+        error.put("message", "Fetch job queue is full, please retry later.");
+        error.put("path", "N/A");
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, "30")
+                .body(error);
+    }
+
     @ExceptionHandler(Exception.class)
     public ResponseEntity<Map<String, String>> handleGenericException(Exception e) {
         logger.error("Unexpected error: {}", e.getMessage(), e);
@@ -3,8 +3,13 @@ package com.example.controller;
 import com.example.model.Member;
 import com.example.model.Publication;
 import com.example.model.Conference;
+import com.example.model.FetchJob;
 import com.example.service.MemberService;
+import com.example.service.PublicationMetadata;
+import com.example.service.PublicationSlice;
 import com.example.service.ConferenceService;
+import com.example.service.FetchJobService;
+import com.example.service.ResyncResult;
 import com.example.model.YearCount;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -17,13 +22,13 @@ import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 import java.io.File;
 import java.io.IOException;
+import java.net.URI;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
-import java.util.Map;
 
 
 @RestController
@@ -35,10 +40,12 @@ public class MemberController {
 
     private final MemberService memberService;
     private final ConferenceService conferenceService;
+    private final FetchJobService fetchJobService;
 
-    public MemberController(MemberService memberService, ConferenceService conferenceService) {
+    public MemberController(MemberService memberService, ConferenceService conferenceService, FetchJobService fetchJobService) {
         this.memberService = memberService;
         this.conferenceService = conferenceService;
+        this.fetchJobService = fetchJobService;
         // Uploads dizinini oluştur
         File uploadDir = new File(UPLOAD_DIR);
         if (!uploadDir.exists()) {
@@ -128,14 +135,30 @@ public class MemberController {
     }
 
     @PostMapping("/fetch")
-    @Operation(summary = "Fetch a member from external source", description = "Fetches and saves a member from OpenAlex or SerpAPI")
-    public ResponseEntity<Member> fetchMember(
+    @Operation(summary = "Fetch a member from external source",
+               description = "Fetches and saves a member from OpenAlex or SerpAPI. With async=true returns 202 and a fetch job to poll at /api/fetch-jobs/{id}; 429 when the job queue is full")
+    public ResponseEntity<?> fetchMember(
             @Parameter(description = "Source ID (e.g., OpenAlex or Google Scholar ID)", required = true) @RequestParam String sourceId,
-            @Parameter(description = "Provider type (openalex or serpapi)", required = false) @RequestParam(defaultValue = "openalex") String providerType) {
+            @Parameter(description = "Provider type (openalex or serpapi)", required = false) @RequestParam(defaultValue = "openalex") String providerType,
+            @Parameter(description = "Run the fetch as a background job (default: false)", required = false) @RequestParam(defaultValue = "false") boolean async) {
+        if (async) {
+            FetchJob job = fetchJobService.submit(sourceId, providerType);
+            return ResponseEntity.accepted()
+                    .location(URI.create("/api/fetch-jobs/" + job.getId()))
+                    .body(job);
+        }
         Member member = memberService.fetchAndSaveMember(sourceId, providerType);
         return ResponseEntity.ok(member);
     }
 
+    @PostMapping("/{id}/resync")
+    @Operation(summary = "Re-sync a member with its source",
+               description = "Fetches only works changed since the member's last sync, inserts new ones, updates changed ones and adjusts the member's counts")
+    public ResponseEntity<ResyncResult> resyncMember(
+            @Parameter(description = "Member ID", required = true) @PathVariable Long id) {
+        return ResponseEntity.ok(memberService.resyncMember(id));
+    }
+
     @GetMapping("/{id}/publications")
     @Operation(summary = "Get publications by member", 
                description = "Returns a paginated list of publications of a member with optional sorting and filtering")
@@ -155,12 +178,35 @@ public class MemberController {
         return ResponseEntity.ok(memberService.getPublicationsByMemberId(id, page, size, sort, types, tags));
     }
     
+    @GetMapping("/{id}/publications/scroll")
+    @Operation(summary = "Scroll publications by member",
+               description = "Returns publications of a member with keyset pagination: pass the returned nextCursor to get "
+                       + "the next page. No total count is computed, so deep pages cost the same as the first one")
+    public ResponseEntity<PublicationSlice> scrollPublicationsByMember(
+            @Parameter(description = "Member ID", required = true) @PathVariable Long id,
+            @Parameter(description = "Continuation token from the previous page (optional)", required = false) @RequestParam(required = false) String cursor,
+            @Parameter(description = "Page size (default: 10)", required = false) @RequestParam(defaultValue = "10") int size,
+            @Parameter(description = "Sort field: publicationYear, publicationYearAsc, citedByCount, citedByCountAsc or id", required = false) @RequestParam(defaultValue = "id") String sort,
+            @Parameter(description = "Filter by types (optional)", required = false) @RequestParam(required = false) List<String> types,
+            @Parameter(description = "Filter by tags (optional)", required = false) @RequestParam(required = false) List<String> tags) {
+
+        if (!memberService.memberExists(id)) {
+             return ResponseEntity.notFound().build();
+        }
+
+        return ResponseEntity.ok(memberService.getPublicationSliceByMemberId(id, cursor, size, sort, types, tags));
+    }
+
     @GetMapping("/{id}/publication-metadata")
-    @Operation(summary = "Get publication filter metadata", description = "Returns all unique tags and types for a member's publications")
-    public ResponseEntity<Map<String, List<String>>> getPublicationMetadata(
-            @Parameter(description = "Member ID", required = true) @PathVariable Long id) {
+    @Operation(summary = "Get publication filter metadata",
+               description = "Returns all unique tags and types for a member's publications with the number of publications "
+                       + "matching each; tag counts honour the type filter and type counts honour the tag filter")
+    public ResponseEntity<PublicationMetadata> getPublicationMetadata(
+            @Parameter(description = "Member ID", required = true) @PathVariable Long id,
+            @Parameter(description = "Active type filter (optional)", required = false) @RequestParam(required = false) List<String> types,
+            @Parameter(description = "Active tag filter (optional)", required = false) @RequestParam(required = false) List<String> tags) {
         
-        Map<String, List<String>> metadata = memberService.getPublicationMetadata(id);
+        PublicationMetadata metadata = memberService.getPublicationMetadata(id, types, tags);
         return ResponseEntity.ok(metadata);
     }
 
@@ -0,0 +1,35 @@
+package com.example.controller;
+
+import com.example.model.MemberRefreshRun;
+import com.example.service.MemberRefreshService;
+import io.swagger.v3.oas.annotations.Operation;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/member-refresh")
+public class MemberRefreshController {
+
+    private final MemberRefreshService memberRefreshService;
+
+    public MemberRefreshController(MemberRefreshService memberRefreshService) {
+        this.memberRefreshService = memberRefreshService;
+    }
+
+    @GetMapping("/runs")
+    @Operation(summary = "List member refresh runs", description = "Returns statistics of recent background refresh runs (newest first): duration, requests made, rows changed")
+    public ResponseEntity<List<MemberRefreshRun>> getRuns() {
+        return ResponseEntity.ok(memberRefreshService.getRuns());
+    }
+
+    @PostMapping("/runs")
+    @Operation(summary = "Start a member refresh run", description = "Starts refreshing all stale members in the background; returns the already running run if there is one")
+    public ResponseEntity<MemberRefreshRun> startRun() {
+        return ResponseEntity.accepted().body(memberRefreshService.startRun("manual"));
+    }
+}
@@ -1,9 +1,16 @@
 package com.example.controller;
 
 import com.example.model.Publication;
+import com.example.service.DuplicateDetectionService;
+import com.example.service.DuplicateDetectionService.DeduplicationReport;
+import com.example.service.PublicationSearchService;
+import com.example.service.PublicationSearchService.SearchHit;
 import com.example.service.PublicationService; // Bu servisi import ettiğinizden emin olun
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import java.util.Map;
@@ -16,6 +23,32 @@ public class PublicationController {
     @Autowired
     private PublicationService publicationService;
 
+    @Autowired
+    private PublicationSearchService publicationSearchService;
+
+    @Autowired
+    private DuplicateDetectionService duplicateDetectionService;
+
+    @GetMapping("/search")
+    @Operation(summary = "Search publications",
+               description = "Full-text search over titles, authors and venues of all members' publications, ranked by BM25. "
+                       + "All query words must match; the last word also matches as a prefix. Turkish and accented letters are folded (ş→s, ı→i).")
+    public ResponseEntity<Page<SearchHit>> search(
+            @Parameter(description = "Search query", required = true) @RequestParam String q,
+            @Parameter(description = "Filter by member (optional)") @RequestParam(required = false) Long memberId,
+            @Parameter(description = "Filter by types (optional)") @RequestParam(required = false) List<String> types,
+            @Parameter(description = "Earliest publication year (optional)") @RequestParam(required = false) Integer yearFrom,
+            @Parameter(description = "Latest publication year (optional)") @RequestParam(required = false) Integer yearTo,
+            @Parameter(description = "Filter by tags (optional)") @RequestParam(required = false) List<String> tags,
+            @Parameter(description = "Page number (default: 0)") @RequestParam(defaultValue = "0") int page,
+            @Parameter(description = "Page size (default: 20, max: 100)") @RequestParam(defaultValue = "20") int size) {
+
+        // İndeks açılışta kurulurken 503 döner
+        return publicationSearchService.search(q, memberId, types, yearFrom, yearTo, tags, page, size)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build());
+    }
+
     @PutMapping("/{id}/tags")
     @Operation(summary = "Update tags for a publication", description = "Updates the list of tags for a specific publication")
     public ResponseEntity<Publication> updateTags(
@@ -41,4 +74,16 @@ public class PublicationController {
         Publication updatedPublication = publicationService.updatePublicationType(id, type);
         return ResponseEntity.ok(updatedPublication);
     }
-}
\ No newline at end of file
+
+    @PostMapping("/deduplicate")
+    @Operation(summary = "Merge near-duplicate publications",
+               description = "Finds publications stored more than once (e.g. from OpenAlex and Scholar) by title similarity, year and author overlap. "
+                       + "Each cluster keeps one publication (DOI first, then most cited), moves the others' tags to it and deletes the rest. "
+                       + "With dryRun=true (default) only the clusters are reported.")
+    public ResponseEntity<DeduplicationReport> deduplicate(
+            @Parameter(description = "Only report clusters without deleting (default: true)") @RequestParam(defaultValue = "true") boolean dryRun) {
+        return duplicateDetectionService.deduplicate(dryRun)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build());
+    }
+}
@@ -0,0 +1,104 @@
+package com.example.model;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import jakarta.persistence.*;
+
+import java.text.Normalizer;
+import java.util.Locale;
+
+/**
+ * Yayın yazarı. Her yazar bir kez saklanır ve yayınlara publication_author tablosu üzerinden
+ * sıralı olarak bağlanır. Kimlik (authorKey) OpenAlex yazar ID'si varsa odur, yoksa normalize
+ * edilmiş addır ("name:k he"); ingestion sırasında AuthorService bu anahtarla yazarları tekilleştirir.
+ */
+@Entity
+@Table(name = "author",
+       uniqueConstraints = @UniqueConstraint(columnNames = {"author_key"}),
+       indexes = @Index(name = "idx_author_normalized_name", columnList = "normalized_name"))
+public class Author {
+
+    static final int MAX_LENGTH = 255;
+    private static final String NAME_KEY_PREFIX = "name:";
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "author_seq")
+    @SequenceGenerator(name = "author_seq", sequenceName = "author_seq", allocationSize = 50)
+    private Long id;
+
+    @JsonIgnore
+    @Column(name = "author_key", nullable = false)
+    private String authorKey;
+
+    @Column(name = "openalex_id")
+    private String openAlexId;
+
+    @Column(name = "name", nullable = false)
+    private String name;
+
+    @JsonIgnore
+    @Column(name = "normalized_name", nullable = false)
+    private String normalizedName;
+
+    protected Author() {
+    }
+
+    /**
+     * Henüz veritabanına bağlanmamış yazar; openAlexId yoksa yazar adıyla tekilleştirilir.
+     */
+    public Author(String openAlexId, String name) {
+        this.name = truncate(name != null && !name.isBlank() ? name.trim() : "Unknown Author");
+        this.normalizedName = normalizeName(this.name);
+        this.openAlexId = openAlexId != null && !openAlexId.isBlank() ? stripOpenAlexPrefix(openAlexId.trim()) : null;
+        this.authorKey = this.openAlexId != null ? this.openAlexId : truncate(NAME_KEY_PREFIX + normalizedName);
+    }
+
+    /**
+     * Arama ve tekilleştirme için ad: küçük harf, aksanlar ve noktalama atılmış, boşluklar tekil.
+     * "K. He", "k  he" ve "K He" aynı sonucu verir.
+     */
+    public static String normalizeName(String name) {
+        if (name == null) {
+            return "";
+        }
+        String decomposed = Normalizer.normalize(name, Normalizer.Form.NFKD);
+        StringBuilder normalized = new StringBuilder(decomposed.length());
+        boolean pendingSpace = false;
+        for (int i = 0; i < decomposed.length(); i++) {
+            char c = decomposed.charAt(i);
+            if (Character.getType(c) == Character.NON_SPACING_MARK) {
+                continue;
+            }
+            if (Character.isLetterOrDigit(c)) {
+                if (pendingSpace && normalized.length() > 0) {
+                    normalized.append(' ');
+                }
+                pendingSpace = false;
+                normalized.append(c == 'ı' ? 'i' : Character.toLowerCase(c));
+            } else if (Character.isWhitespace(c) || c == '.' || c == '-' || c == ',') {
+                pendingSpace = true;
+            }
+        }
+        return normalized.toString().toLowerCase(Locale.ROOT);
+    }
+
+    private static String stripOpenAlexPrefix(String openAlexId) {
+        int slash = openAlexId.lastIndexOf('/');
+        return slash >= 0 ? openAlexId.substring(slash + 1) : openAlexId;
+    }
+
+    private static String truncate(String value) {
+        return value.length() > MAX_LENGTH ? value.substring(0, MAX_LENGTH) : value;
+    }
+
+    // Getters & Setters
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+
+    public String getAuthorKey() { return authorKey; }
+
+    public String getOpenAlexId() { return openAlexId; }
+
+    public String getName() { return name; }
+
+    public String getNormalizedName() { return normalizedName; }
+}
@@ -8,7 +8,8 @@ import jakarta.persistence.*;
 public class Conference {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "conference_seq")
+    @SequenceGenerator(name = "conference_seq", sequenceName = "conference_seq", allocationSize = 50)
     private Long id;
 
     private String name;  // ← Simple field
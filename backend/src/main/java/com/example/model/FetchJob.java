@@ -0,0 +1,74 @@
+package com.example.model;
+
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Arka planda çalışan bir üye çekme (fetch) işinin durumu. Veritabanında değil, bellekte tutulur.
+ */
+public class FetchJob {
+
+    public enum State { QUEUED, RUNNING, COMPLETED, FAILED }
+
+    private final String id;
+    private final String sourceId;
+    private final String providerType;
+    private final Instant createdAt = Instant.now();
+
+    private volatile State state = State.QUEUED;
+    private volatile Instant startedAt;
+    private volatile Instant finishedAt;
+    private volatile Long memberId;
+    private volatile String error;
+
+    private final AtomicInteger pagesFetched = new AtomicInteger();
+    private final AtomicInteger publicationsSaved = new AtomicInteger();
+    private final AtomicInteger duplicatesSkipped = new AtomicInteger();
+
+    public FetchJob(String id, String sourceId, String providerType) {
+        this.id = id;
+        this.sourceId = sourceId;
+        this.providerType = providerType;
+    }
+
+    public void markRunning() {
+        this.startedAt = Instant.now();
+        this.state = State.RUNNING;
+    }
+
+    public void markCompleted(Long memberId) {
+        this.memberId = memberId;
+        this.finishedAt = Instant.now();
+        this.state = State.COMPLETED;
+    }
+
+    public void markFailed(String error) {
+        this.error = error;
+        this.finishedAt = Instant.now();
+        this.state = State.FAILED;
+    }
+
+    public void recordPage(int saved, int duplicates) {
+        pagesFetched.incrementAndGet();
+        publicationsSaved.addAndGet(saved);
+        duplicatesSkipped.addAndGet(duplicates);
+    }
+
+    public boolean isFinished() {
+        return state == State.COMPLETED || state == State.FAILED;
+    }
+
+    // Getters
+    public String getId() { return id; }
+    public String getSourceId() { return sourceId; }
+    public String getProviderType() { return providerType; }
+    public State getState() { return state; }
+    public Instant getCreatedAt() { return createdAt; }
+    public Instant getStartedAt() { return startedAt; }
+    public Instant getFinishedAt() { return finishedAt; }
+    public Long getMemberId() { return memberId; }
+    public String getError() { return error; }
+    public int getPagesFetched() { return pagesFetched.get(); }
+    public int getPublicationsSaved() { return publicationsSaved.get(); }
+    public int getDuplicatesSkipped() { return duplicatesSkipped.get(); }
+}
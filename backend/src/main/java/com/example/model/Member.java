@@ -1,7 +1,9 @@
 package com.example.model;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonManagedReference;
 import jakarta.persistence.*;
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -10,7 +12,8 @@ import java.util.List;
 public class Member {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "member_seq")
+    @SequenceGenerator(name = "member_seq", sequenceName = "member_seq", allocationSize = 50)
     @Column(name = "id")
     private Long id;
 
@@ -35,6 +38,16 @@ public class Member {
     @Column(name = "cited_by_count", nullable = false)
     private int citedByCount = 0;
 
+    // Son başarılı senkronizasyonun başladığı an; delta re-sync bu andan sonra değişen yayınları ister
+    @Column(name = "last_synced_at")
+    private Instant lastSyncedAt;
+
+    // Yıl özeti (member_year_count) bu üye için kuruldu mu; özetten önceki kayıtlarda NULL kalır ve
+    // ilk counts-by-year isteğinde bir kez yeniden hesaplanır. Yeni üyelerin özeti yazma yollarında tutulur.
+    @JsonIgnore
+    @Column(name = "year_counts_built")
+    private Boolean yearCountsBuilt = true;
+
     @OneToMany(mappedBy = "member", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
     @JsonManagedReference
     private List<Publication> publications = new ArrayList<>();
@@ -76,6 +89,11 @@ public class Member {
     public int getCitedByCount() { return citedByCount; }
     public void setCitedByCount(int citedByCount) { this.citedByCount = citedByCount; }
 
+    public Instant getLastSyncedAt() { return lastSyncedAt; }
+    public void setLastSyncedAt(Instant lastSyncedAt) { this.lastSyncedAt = lastSyncedAt; }
+
+    public boolean isYearCountsBuilt() { return Boolean.TRUE.equals(yearCountsBuilt); }
+
     public List<Publication> getPublications() { 
         return publications != null ? publications : new ArrayList<>(); 
     }
@@ -0,0 +1,79 @@
+package com.example.model;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Toplu üye yenilemesinin bir çalışması ve istatistikleri. Veritabanında değil, bellekte tutulur.
+ */
+public class MemberRefreshRun {
+
+    public enum State { RUNNING, COMPLETED }
+
+    private final String id;
+    private final String trigger;
+    private final Instant startedAt = Instant.now();
+    private final int membersTotal;
+    private final int membersSkipped;
+    private final int membersScheduled;
+
+    private volatile State state = State.RUNNING;
+    private volatile Instant finishedAt;
+    private volatile long requestsMade;
+
+    private final AtomicInteger membersRefreshed = new AtomicInteger();
+    private final AtomicInteger membersFailed = new AtomicInteger();
+    private final AtomicInteger publicationsInserted = new AtomicInteger();
+    private final AtomicInteger publicationsUpdated = new AtomicInteger();
+
+    public MemberRefreshRun(String id, String trigger, int membersTotal, int membersSkipped) {
+        this.id = id;
+        this.trigger = trigger;
+        this.membersTotal = membersTotal;
+        this.membersSkipped = membersSkipped;
+        this.membersScheduled = membersTotal - membersSkipped;
+    }
+
+    public void recordRefreshed(int inserted, int updated) {
+        membersRefreshed.incrementAndGet();
+        publicationsInserted.addAndGet(inserted);
+        publicationsUpdated.addAndGet(updated);
+    }
+
+    public void recordFailed() {
+        membersFailed.incrementAndGet();
+    }
+
+    /**
+     * Planlanan tüm üyeler bittiyse true döner.
+     */
+    public boolean isDone() {
+        return membersRefreshed.get() + membersFailed.get() >= membersScheduled;
+    }
+
+    public void markCompleted(long requestsMade) {
+        this.requestsMade = requestsMade;
+        this.finishedAt = Instant.now();
+        this.state = State.COMPLETED;
+    }
+
+    // Getters
+    public String getId() { return id; }
+    public String getTrigger() { return trigger; }
+    public State getState() { return state; }
+    public Instant getStartedAt() { return startedAt; }
+    public Instant getFinishedAt() { return finishedAt; }
+    public Long getDurationMillis() {
+        return finishedAt != null ? Duration.between(startedAt, finishedAt).toMillis() : null;
+    }
+    public int getMembersTotal() { return membersTotal; }
+    public int getMembersSkipped() { return membersSkipped; }
+    public int getMembersScheduled() { return membersScheduled; }
+    public int getMembersRefreshed() { return membersRefreshed.get(); }
+    public int getMembersFailed() { return membersFailed.get(); }
+    public long getRequestsMade() { return requestsMade; }
+    public int getPublicationsInserted() { return publicationsInserted.get(); }
+    public int getPublicationsUpdated() { return publicationsUpdated.get(); }
+    public int getRowsChanged() { return publicationsInserted.get() + publicationsUpdated.get(); }
+}
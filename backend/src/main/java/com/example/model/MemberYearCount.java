@@ -0,0 +1,47 @@
+package com.example.model;
+
+import jakarta.persistence.*;
+
+/**
+ * Bir üyenin yıl bazında yayın sayısı (counts-by-year grafiği için önceden hesaplanmış özet).
+ * Yayın eklenirken/silinirken MemberYearCountService tarafından güncellenir; yıl bilgisi olmayan
+ * yayınlar sayılmaz.
+ */
+@Entity
+@Table(name = "member_year_count",
+       uniqueConstraints = @UniqueConstraint(columnNames = {"member_id", "publication_year"}))
+public class MemberYearCount {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "member_year_count_seq")
+    @SequenceGenerator(name = "member_year_count_seq", sequenceName = "member_year_count_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(name = "member_id", nullable = false)
+    private Long memberId;
+
+    @Column(name = "publication_year", nullable = false)
+    private int year;
+
+    @Column(name = "publication_count", nullable = false)
+    private int count;
+
+    protected MemberYearCount() {
+    }
+
+    public MemberYearCount(Long memberId, int year, int count) {
+        this.memberId = memberId;
+        this.year = year;
+        this.count = count;
+    }
+
+    // Getters & Setters
+    public Long getId() { return id; }
+
+    public Long getMemberId() { return memberId; }
+
+    public int getYear() { return year; }
+
+    public int getCount() { return count; }
+    public void setCount(int count) { this.count = count; }
+}
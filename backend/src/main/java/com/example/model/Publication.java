@@ -1,16 +1,28 @@
 package com.example.model;
 
 import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 
 import com.fasterxml.jackson.annotation.JsonBackReference;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
+import org.hibernate.annotations.BatchSize;
 
 @Entity
-@Table(name = "publication", uniqueConstraints = @UniqueConstraint(columnNames = {"identifier_url"}))
+// Keyset sayfalama üyenin yayınlarında (değer, id) noktasına bu indekslerle doğrudan konumlanır
+@Table(name = "publication", uniqueConstraints = @UniqueConstraint(columnNames = {"identifier_url"}),
+       indexes = {
+           @Index(name = "idx_publication_member_year", columnList = "member_id, publication_year, id"),
+           @Index(name = "idx_publication_member_cited", columnList = "member_id, cited_by_count, id")
+       })
 public class Publication {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    // Pooled sequence: Hibernate ID'leri önceden ayırır, böylece insert'ler JDBC batch'lenebilir
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "publication_seq")
+    @SequenceGenerator(name = "publication_seq", sequenceName = "publication_seq", allocationSize = 50)
     private Long id;
 
     @Column(name = "title", nullable = false)
@@ -22,9 +34,18 @@ public class Publication {
     @Column(name = "cited_by_count")
     private int citedByCount = 0;
 
-    @Column(name = "authors", columnDefinition = "TEXT")
-    private String authors; // Yazarlar, TEXT olarak
-    
+    // Yazarlar sıralı olarak publication_author tablosunda; JSON'daki 'authors' alanı bu listeden türetilir.
+    // Sayfa halinde listelenen yayınların yazarları 50'şerli IN sorgularıyla yüklenir.
+    @ManyToMany
+    @JoinTable(name = "publication_author",
+               joinColumns = @JoinColumn(name = "publication_id"),
+               inverseJoinColumns = @JoinColumn(name = "author_id"),
+               indexes = @Index(name = "idx_publication_author_author", columnList = "author_id"))
+    @OrderColumn(name = "author_order")
+    @BatchSize(size = 50)
+    @JsonIgnore
+    private List<Author> authorList = new ArrayList<>();
+
     @Column(name = "source_name", columnDefinition = "TEXT")
     private String sourceName;
 
@@ -36,11 +57,18 @@ public class Publication {
     private String type;
 
 
-    // @ElementCollection, bu listeyi ayrı bir 'publication_tags' tablosunda tutar
-    @ElementCollection(fetch = FetchType.EAGER) // Eager yüklüyoruz ki JSON'da direkt gitsin
-    @CollectionTable(name = "publication_tags", joinColumns = @JoinColumn(name = "publication_id"))
-    @Column(name = "tag")
-    private List<String> tags = new ArrayList<>();
+    // Etiketler tag sözlüğünde, yayınla bağlantıları publication_tag(publication_id, tag_id) tablosunda;
+    // JSON'daki 'tags' alanı bu kümeden türetilir. Set olduğu için değişiklikler tek satırlık
+    // insert/delete'lere dönüşür (liste gibi hepsi silinip yeniden yazılmaz).
+    @ManyToMany
+    @JoinTable(name = "publication_tag",
+               joinColumns = @JoinColumn(name = "publication_id"),
+               inverseJoinColumns = @JoinColumn(name = "tag_id"),
+               indexes = @Index(name = "idx_publication_tag_tag", columnList = "tag_id"))
+    @OrderBy("name")
+    @BatchSize(size = 50)
+    @JsonIgnore
+    private Set<Tag> tagSet = new LinkedHashSet<>();
 
     @ManyToOne
     @JoinColumn(name = "member_id")
@@ -49,7 +77,6 @@ public class Publication {
 
     public Publication() {
         this.title = "Untitled";
-        this.authors = "Unknown Author";
     }
 
     // Getters & Setters
@@ -67,8 +94,45 @@ public class Publication {
     public int getCitedByCount() { return citedByCount; }
     public void setCitedByCount(int citedByCount) { this.citedByCount = citedByCount; }
 
-    public String getAuthors() { return authors; }
-    public void setAuthors(String authors) { this.authors = authors != null && !authors.trim().isEmpty() ? authors : "Unknown Author"; }
+    /**
+     * Yazar adları, sırayla ve virgülle ayrılmış olarak (API'nin eski 'authors' alanı).
+     */
+    public String getAuthors() {
+        if (authorList == null || authorList.isEmpty()) {
+            return "Unknown Author";
+        }
+        StringBuilder names = new StringBuilder();
+        for (Author author : authorList) {
+            if (names.length() > 0) {
+                names.append(", ");
+            }
+            names.append(author.getName());
+        }
+        return names.toString();
+    }
+
+    /**
+     * Virgülle ayrılmış yazar adlarından henüz kaydedilmemiş yazarlar oluşturur (örn. elle eklenen
+     * yayınlar); kaydetmeden önce AuthorService.intern ile mevcut yazarlara bağlanırlar.
+     */
+    public void setAuthors(String authors) {
+        this.authorList = new ArrayList<>();
+        if (authors == null || authors.trim().isEmpty() || "Unknown Author".equals(authors.trim())) {
+            return;
+        }
+        for (String name : authors.split(",")) {
+            if (!name.trim().isEmpty()) {
+                authorList.add(new Author(null, name));
+            }
+        }
+    }
+
+    public void addAuthor(String openAlexId, String name) {
+        authorList.add(new Author(openAlexId, name));
+    }
+
+    public List<Author> getAuthorList() { return authorList; }
+    public void setAuthorList(List<Author> authorList) { this.authorList = authorList; }
 
     public Integer getPublicationYear() { return publicationYear; }
     public void setPublicationYear(Integer publicationYear) { this.publicationYear = publicationYear != null && publicationYear > 0 ? publicationYear : null; }
@@ -92,11 +156,35 @@ public class Publication {
         this.type = type;
     }
 
+    /**
+     * Etiket adları (API'nin 'tags' alanı); kaydedilmiş yayınlarda ada göre sıralı.
+     */
     public List<String> getTags() {
-        return tags;
+        List<String> names = new ArrayList<>(tagSet.size());
+        for (Tag tag : tagSet) {
+            names.add(tag.getName());
+        }
+        return names;
     }
 
+    /**
+     * Adlardan henüz kaydedilmemiş etiketler oluşturur; kaydetmeden önce TagService.intern ile
+     * sözlükteki etiketlere bağlanırlar. Boş adlar ve tekrarlar atlanır.
+     */
     public void setTags(List<String> tags) {
-        this.tags = tags;
+        this.tagSet = new LinkedHashSet<>();
+        if (tags == null) {
+            return;
+        }
+        Set<String> seen = new HashSet<>();
+        for (String tag : tags) {
+            String name = Tag.normalizeName(tag);
+            if (!name.isEmpty() && seen.add(name)) {
+                tagSet.add(new Tag(name));
+            }
+        }
     }
+
+    public Set<Tag> getTagSet() { return tagSet; }
+    public void setTagSet(Set<Tag> tagSet) { this.tagSet = tagSet; }
 }
\ No newline at end of file
@@ -0,0 +1,47 @@
+package com.example.model;
+
+import jakarta.persistence.*;
+
+/**
+ * Etiket sözlüğü. Her etiket adı ("Computer science" gibi) bir kez saklanır; yayınlar etiketlere
+ * publication_tag tablosundaki int çiftleriyle bağlanır. Ingestion sırasında TagService adları
+ * bu tabloya karşı tekilleştirir.
+ */
+@Entity
+@Table(name = "tag", uniqueConstraints = @UniqueConstraint(columnNames = {"name"}))
+public class Tag {
+
+    static final int MAX_LENGTH = 255;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "tag_seq")
+    @SequenceGenerator(name = "tag_seq", sequenceName = "tag_seq", allocationSize = 50)
+    private Integer id;
+
+    @Column(name = "name", nullable = false)
+    private String name;
+
+    protected Tag() {
+    }
+
+    /**
+     * Henüz veritabanına bağlanmamış etiket.
+     */
+    public Tag(String name) {
+        this.name = normalizeName(name);
+    }
+
+    /**
+     * Sözlük anahtarı: baştaki/sondaki boşluklar atılır, kolon uzunluğuna kısaltılır. Büyük/küçük harf korunur.
+     */
+    public static String normalizeName(String name) {
+        String trimmed = name != null ? name.trim() : "";
+        return trimmed.length() > MAX_LENGTH ? trimmed.substring(0, MAX_LENGTH) : trimmed;
+    }
+
+    // Getters & Setters
+    public Integer getId() { return id; }
+    public void setId(Integer id) { this.id = id; }
+
+    public String getName() { return name; }
+}
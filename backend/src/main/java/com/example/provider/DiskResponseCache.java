@@ -0,0 +1,322 @@
+package com.example.provider;
+
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+/**
+ * Sağlayıcı cevaplarını diskte tutan kalıcı önbellek (isteğe bağlı, provider.disk-cache.enabled).
+ * <p>
+ * İki dosyadan oluşur:
+ * <ul>
+ *   <li>{@code responses.seg}: ham cevap gövdelerinin arka arkaya eklendiği (append-only) segment.</li>
+ *   <li>{@code responses.idx}: her kayıt için anahtar, segment ofseti, uzunluk ve son kullanma zamanı.
+ *       Açılışta memory-map edilip okunur; aynı anahtarın sonraki kaydı öncekini geçersiz kılar.</li>
+ * </ul>
+ * Segment read-only olarak map edilir; okumalar kopyalamadan segmentin bir dilimini (slice) döndürür.
+ * Anahtar, api_key içermeyen kanonik URL'dir (bkz. ProviderHttpClient.canonicalUrl), böylece
+ * diske gizli anahtar yazılmaz. Açılışta ölü baytlar (üzerine yazılmış/süresi geçmiş kayıtlar)
+ * segmentin yarısını aşıyorsa dosyalar canlı kayıtlarla yeniden yazılır.
+ */
+@Component
+public class DiskResponseCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(DiskResponseCache.class);
+
+    static final String SEGMENT_FILE = "responses.seg";
+    static final String INDEX_FILE = "responses.idx";
+    private static final int INDEX_MAGIC = 0x52475043; // "RGPC"
+    private static final int INDEX_VERSION = 1;
+    private static final int INDEX_HEADER_BYTES = 8;
+
+    private final boolean enabled;
+    private final boolean offline;
+    private final Path directory;
+    private final long maxSegmentBytes;
+    private final Map<String, Duration> ttls;
+    private final LongSupplier clock;
+
+    private final Map<String, Location> index = new ConcurrentHashMap<>();
+    private FileChannel segmentChannel;
+    private FileChannel indexChannel;
+    private volatile MappedByteBuffer segmentMap;
+    private long segmentSize;
+    private boolean fullWarningLogged;
+
+    @Autowired
+    public DiskResponseCache(@Value("${provider.disk-cache.enabled:false}") boolean enabled,
+                             @Value("${provider.disk-cache.offline:false}") boolean offline,
+                             @Value("${provider.disk-cache.directory:provider-cache}") Path directory,
+                             @Value("${provider.disk-cache.max-size-bytes:536870912}") long maxSegmentBytes,
+                             @Value("${provider.disk-cache.ttl.openalex:PT12H}") Duration openAlexTtl,
+                             @Value("${provider.disk-cache.ttl.serpapi:P7D}") Duration serpApiTtl) {
+        this(enabled, offline, directory, maxSegmentBytes,
+                Map.of(ProviderHttpClient.OPENALEX, openAlexTtl, ProviderHttpClient.SERPAPI, serpApiTtl),
+                System::currentTimeMillis);
+    }
+
+    DiskResponseCache(boolean enabled, boolean offline, Path directory, long maxSegmentBytes,
+                      Map<String, Duration> ttls, LongSupplier clock) {
+        // Segment tek bir MappedByteBuffer ile map edildiği için 2 GB'ı geçemez
+        this.maxSegmentBytes = Math.min(maxSegmentBytes, Integer.MAX_VALUE);
+        this.enabled = enabled || offline;
+        this.offline = offline;
+        this.directory = directory;
+        this.ttls = ttls;
+        this.clock = clock;
+        if (this.enabled) {
+            open();
+        }
+    }
+
+    /**
+     * Önbelleği kapalı bir örnek (testler ve önbelleksiz kullanım için).
+     */
+    public static DiskResponseCache disabled() {
+        return new DiskResponseCache(false, false, null, 0, Map.of(), System::currentTimeMillis);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Çevrimdışı modda sağlayıcılara hiç istek atılmaz; süresi geçmiş kayıtlar da kullanılır.
+     */
+    public boolean isOffline() {
+        return offline;
+    }
+
+    /**
+     * Anahtarın kaydını döndürür (yoksa null). Gövde segmentin read-only bir dilimidir.
+     */
+    public CachedResponse lookup(String key) {
+        if (!enabled) {
+            return null;
+        }
+        Location location = index.get(key);
+        if (location == null) {
+            return null;
+        }
+        MappedByteBuffer map = segmentMap;
+        if (map == null || location.offset() + location.length() > map.capacity()) {
+            map = remap();
+        }
+        ByteBuffer body = map.duplicate()
+                .position((int) location.offset())
+                .limit((int) (location.offset() + location.length()))
+                .slice()
+                .asReadOnlyBuffer();
+        return new CachedResponse(body, clock.getAsLong() < location.expiresAtMillis());
+    }
+
+    /**
+     * Gövdeyi segmentin sonuna, kaydını indeksin sonuna ekler. Segment en büyük boyuta ulaştıysa
+     * yeni kayıt alınmaz (bir sonraki açılıştaki sıkıştırma yer açar).
+     */
+    public synchronized void store(String provider, String key, ByteBuffer body) {
+        if (!enabled || body == null) {
+            return;
+        }
+        int length = body.remaining();
+        if (segmentSize + length > maxSegmentBytes) {
+            if (!fullWarningLogged) {
+                logger.warn("Provider disk cache {} reached {} bytes, not storing new responses until compaction", directory, segmentSize);
+                fullWarningLogged = true;
+            }
+            return;
+        }
+        long now = clock.getAsLong();
+        Duration ttl = ttls.getOrDefault(provider, Duration.ZERO);
+        Location location = new Location(segmentSize, length, now + ttl.toMillis());
+        try {
+            ByteBuffer source = body.duplicate();
+            long position = segmentSize;
+            while (source.hasRemaining()) {
+                position += segmentChannel.write(source, position);
+            }
+            segmentSize = position;
+            writeIndexRecord(indexChannel, key, location);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write provider disk cache entry for " + key, e);
+        }
+        index.put(key, location);
+    }
+
+    int size() {
+        return index.size();
+    }
+
+    @PreDestroy
+    public synchronized void close() throws IOException {
+        segmentMap = null;
+        if (segmentChannel != null) {
+            segmentChannel.close();
+            indexChannel.close();
+        }
+    }
+
+    private synchronized MappedByteBuffer remap() {
+        try {
+            segmentMap = segmentChannel.map(FileChannel.MapMode.READ_ONLY, 0, segmentSize);
+            return segmentMap;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to map provider disk cache segment", e);
+        }
+    }
+
+    private void open() {
+        try {
+            Files.createDirectories(directory);
+            Path segmentPath = directory.resolve(SEGMENT_FILE);
+            Path indexPath = directory.resolve(INDEX_FILE);
+
+            long validIndexBytes = readIndex(indexPath);
+            long segmentBytes = Files.exists(segmentPath) ? Files.size(segmentPath) : 0;
+            // İndeksin işaret ettiği ama segmentte olmayan kayıtlar (yarım kalmış yazma) atılır
+            index.values().removeIf(location -> location.offset() + location.length() > segmentBytes);
+
+            long liveBytes = 0;
+            long now = clock.getAsLong();
+            for (Location location : index.values()) {
+                if (offline || location.expiresAtMillis() > now) {
+                    liveBytes += location.length();
+                }
+            }
+            if (!offline && segmentBytes > 0 && liveBytes * 2 < segmentBytes) {
+                compact(segmentPath, indexPath, now);
+                validIndexBytes = Files.size(indexPath);
+            }
+
+            segmentChannel = FileChannel.open(segmentPath, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            indexChannel = FileChannel.open(indexPath, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            if (indexChannel.size() < INDEX_HEADER_BYTES) {
+                indexChannel.truncate(0);
+                writeIndexHeader(indexChannel);
+            } else if (indexChannel.size() > validIndexBytes) {
+                indexChannel.truncate(validIndexBytes);
+            }
+            indexChannel.position(indexChannel.size());
+            segmentSize = segmentChannel.size();
+            segmentMap = segmentChannel.map(FileChannel.MapMode.READ_ONLY, 0, segmentSize);
+
+            logger.info("Provider disk cache opened at {} ({} entries, {} bytes{})",
+                    directory, index.size(), segmentSize, offline ? ", offline mode" : "");
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to open provider disk cache at " + directory, e);
+        }
+    }
+
+    /**
+     * İndeks dosyasını map edip kayıtları belleğe okur; bozuk/yarım son kaydın öncesine kadar
+     * geçerli bayt sayısını döndürür.
+     */
+    private long readIndex(Path indexPath) throws IOException {
+        if (!Files.exists(indexPath) || Files.size(indexPath) < INDEX_HEADER_BYTES) {
+            return INDEX_HEADER_BYTES;
+        }
+        try (FileChannel channel = FileChannel.open(indexPath, StandardOpenOption.READ)) {
+            MappedByteBuffer map = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (map.getInt() != INDEX_MAGIC || map.getInt() != INDEX_VERSION) {
+                logger.warn("Ignoring provider disk cache index with unknown format: {}", indexPath);
+                return INDEX_HEADER_BYTES;
+            }
+            long valid = map.position();
+            while (map.remaining() >= Integer.BYTES) {
+                int keyLength = map.getInt();
+                if (keyLength <= 0 || map.remaining() < keyLength + Long.BYTES + Integer.BYTES + Long.BYTES) {
+                    break;
+                }
+                byte[] key = new byte[keyLength];
+                map.get(key);
+                Location location = new Location(map.getLong(), map.getInt(), map.getLong());
+                index.put(new String(key, StandardCharsets.UTF_8), location);
+                valid = map.position();
+            }
+            return valid;
+        }
+    }
+
+    /**
+     * Sadece canlı kayıtları yeni segment/indeks dosyalarına kopyalar ve eskilerin yerine taşır.
+     */
+    private void compact(Path segmentPath, Path indexPath, long now) throws IOException {
+        Path newSegment = directory.resolve(SEGMENT_FILE + ".tmp");
+        Path newIndex = directory.resolve(INDEX_FILE + ".tmp");
+        Map<String, Location> compacted = new HashMap<>();
+        try (FileChannel oldSegment = FileChannel.open(segmentPath, StandardOpenOption.READ);
+             FileChannel segmentOut = FileChannel.open(newSegment, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+             FileChannel indexOut = FileChannel.open(newIndex, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            writeIndexHeader(indexOut);
+            long position = 0;
+            for (Map.Entry<String, Location> entry : index.entrySet()) {
+                Location location = entry.getValue();
+                if (location.expiresAtMillis() <= now) {
+                    continue;
+                }
+                long copied = 0;
+                while (copied < location.length()) {
+                    copied += oldSegment.transferTo(location.offset() + copied, location.length() - copied, segmentOut);
+                }
+                Location moved = new Location(position, location.length(), location.expiresAtMillis());
+                writeIndexRecord(indexOut, entry.getKey(), moved);
+                compacted.put(entry.getKey(), moved);
+                position += location.length();
+            }
+        }
+        Files.move(newSegment, segmentPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        Files.move(newIndex, indexPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        logger.info("Compacted provider disk cache {}: {} of {} entries kept", directory, compacted.size(), index.size());
+        index.clear();
+        index.putAll(compacted);
+    }
+
+    private static void writeIndexHeader(FileChannel channel) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(INDEX_HEADER_BYTES).putInt(INDEX_MAGIC).putInt(INDEX_VERSION).flip();
+        while (header.hasRemaining()) {
+            channel.write(header);
+        }
+    }
+
+    private static void writeIndexRecord(FileChannel channel, String key, Location location) throws IOException {
+        byte[] keyBytes = key.getBytes(StandardCharsets.UTF_8);
+        ByteBuffer record = ByteBuffer.allocate(Integer.BYTES + keyBytes.length + Long.BYTES + Integer.BYTES + Long.BYTES)
+                .putInt(keyBytes.length)
+                .put(keyBytes)
+                .putLong(location.offset())
+                .putInt(location.length())
+                .putLong(location.expiresAtMillis())
+                .flip();
+        while (record.hasRemaining()) {
+            channel.write(record);
+        }
+    }
+
+    private record Location(long offset, int length, long expiresAtMillis) {
+    }
+
+    /**
+     * Diskten okunan cevap; fresh=false ise TTL geçmiştir (sadece çevrimdışı modda kullanılır).
+     */
+    public record CachedResponse(ByteBuffer body, boolean fresh) {
+    }
+}
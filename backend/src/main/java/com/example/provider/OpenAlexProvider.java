@@ -2,29 +2,70 @@ package com.example.provider;
 
 import com.example.model.Member;
 import com.example.model.Publication;
+import com.example.provider.OpenAlexWorksParser.WorksPage;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestTemplate;
+import org.springframework.web.client.HttpClientErrorException;
 import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.ByteBufferBackedInputStream;
 
-import java.util.ArrayList;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.time.LocalDate;
+import java.util.ArrayDeque;
+import java.util.Deque;
 import java.util.List;
-import java.util.stream.Collectors;
-import java.util.stream.StreamSupport;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
 
 @Service
 public class OpenAlexProvider implements PublicationProvider {
 
-    private final RestTemplate restTemplate;
+    private static final Logger logger = LoggerFactory.getLogger(OpenAlexProvider.class);
 
-    public OpenAlexProvider(RestTemplate restTemplate) {
-        this.restTemplate = restTemplate;
+    // OpenAlex, page/per-page ile sadece ilk 10.000 sonuca izin veriyor; ötesi için cursor gerekir
+    static final int MAX_OFFSET_RESULTS = 10_000;
+
+    // Offset sayfaları ile cursor devamı aynı sırayı görmeli; varsayılan sıraya güvenmek sınırda
+    // work kaybettirebilir veya tekrarlatabilir. ID tekil olduğu için sıra kararlı.
+    static final String WORKS_SORT = "id";
+
+    private final ProviderHttpClient httpClient;
+    private final OpenAlexWorksParser worksParser;
+    private final ExecutorService providerExecutor;
+
+    @Value("${openalex.api.base-url:https://api.openalex.org}")
+    private String baseUrl = "https://api.openalex.org";
+
+    @Value("${openalex.fetch.per-page:200}")
+    private int perPage = 200;
+
+    @Value("${provider.fetch.parallelism:4}")
+    private int parallelism = 4;
+
+    @Value("${openalex.fetch.concurrent:true}")
+    private boolean concurrentPaging = true;
+
+    public OpenAlexProvider(ProviderHttpClient httpClient, ObjectMapper objectMapper,
+                            @Qualifier("providerExecutor") ExecutorService providerExecutor) {
+        this.httpClient = httpClient;
+        this.worksParser = new OpenAlexWorksParser(objectMapper.getFactory());
+        this.providerExecutor = providerExecutor;
     }
 
     @Override
     public Member getMemberDetails(String openAlexId) {
         openAlexId = openAlexId.trim();
-        String url = "https://api.openalex.org/people/" + openAlexId;
-        JsonNode response = restTemplate.getForObject(url, JsonNode.class);
+        String url = baseUrl + "/people/" + openAlexId;
+        JsonNode response = httpClient.getJson(ProviderHttpClient.OPENALEX, url);
 
         Member member = new Member();
         if (response != null) {
@@ -36,84 +77,184 @@ public class OpenAlexProvider implements PublicationProvider {
         return member;
     }
 
+    /**
+     * OpenAlex yayın listesi sadece yazar ID'sine bağlı; üye detaylarını beklemeye gerek yok.
+     */
     @Override
-    public List<Publication> getPublications(String openAlexId, Member member) {
-        openAlexId = openAlexId.trim();
-        List<Publication> publications = new ArrayList<>();
+    public boolean publicationsRequireMemberDetails() {
+        return false;
+    }
 
-        int page = 1;
-        boolean hasMore = true;
+    @Override
+    public void streamPublications(String openAlexId, Member member, Consumer<List<Publication>> pageConsumer) {
+        streamWorks(authorFilter(openAlexId.trim()), member, pageConsumer);
+    }
 
-        while (hasMore) {
-            String worksUrl = "https://api.openalex.org/works?filter=author.id:https://openalex.org/"
-                    + openAlexId + "&per-page=200&page=" + page;
-            JsonNode worksData = restTemplate.getForObject(worksUrl, JsonNode.class);
+    /**
+     * from_updated_date filtresiyle sadece değişen work'leri çeker; birkaç bin yayınlı bir yazar için
+     * genelde tek sayfa. OpenAlex bu filtreyi reddederse (4xx, örn. filtre API anahtarı istiyorsa)
+     * tam listeye düşülür.
+     */
+    @Override
+    public void streamPublicationsSince(String openAlexId, Member member, LocalDate since, Consumer<List<Publication>> pageConsumer) {
+        String filter = authorFilter(openAlexId.trim());
+        if (since == null) {
+            streamWorks(filter, member, pageConsumer);
+            return;
+        }
+        boolean[] delivered = {false};
+        try {
+            streamWorks(filter + ",from_updated_date:" + since, member, page -> {
+                delivered[0] = true;
+                pageConsumer.accept(page);
+            });
+        } catch (HttpClientErrorException e) {
+            if (delivered[0]) {
+                throw e;
+            }
+            logger.warn("OpenAlex rejected from_updated_date filter ({}), falling back to full listing for author {}",
+                    e.getStatusCode(), openAlexId);
+            streamWorks(filter, member, pageConsumer);
+        }
+    }
+
+    private void streamWorks(String filter, Member member, Consumer<List<Publication>> pageConsumer) {
+        if (!concurrentPaging) {
+            // Seri okumada cursor her boyutta çalışır; meta.count'u öğrenmek için ayrı bir ilk sayfa gerekmez
+            streamWorksWithCursor(filter, member, "*", pageConsumer);
+            return;
+        }
+
+        WorksPage firstPage = fetchWorksPage(worksUrl(filter) + "&page=1", member);
+        if (firstPage == null) {
+            return;
+        }
+
+        int totalCount = firstPage.count();
+        int totalPages = (totalCount + perPage - 1) / perPage;
+        // page/per-page ile erişilebilen son sayfa; ötesi cursor ile okunur
+        int offsetPages = Math.max(1, MAX_OFFSET_RESULTS / perPage);
+        boolean beyondOffsetLimit = totalPages > offsetPages;
+        if (beyondOffsetLimit) {
+            logger.info("Filter {} matches {} works (> {}), reading works past the offset limit with a cursor",
+                    filter, totalCount, MAX_OFFSET_RESULTS);
+        }
 
-            if (worksData != null && worksData.has("results")) {
-                JsonNode results = worksData.get("results");
-                if (results.size() == 0) {
-                    hasMore = false;
-                    break;
+        pageConsumer.accept(firstPage.publications());
+        firstPage = null; // Sayfayı tüketildikten sonra bırak
+        if (totalPages <= 1) {
+            return;
+        }
+
+        // Cursor'lar opak olduğundan offset sınırındaki cursor'a ancak baştan yürüyerek ulaşılır; bu yürüyüş
+        // sadece id seçerek, offset sayfaları paralel çekilirken arka planda yapılır (bkz. skipWithCursor)
+        Future<String> tailCursor = beyondOffsetLimit
+                ? providerExecutor.submit(() -> skipWithCursor(filter, offsetPages))
+                : null;
+        try {
+            fetchPagesConcurrently(filter, member, 2, Math.min(totalPages, offsetPages), pageConsumer);
+            if (tailCursor != null) {
+                String cursor = await(tailCursor);
+                if (cursor != null) {
+                    streamWorksWithCursor(filter, member, cursor, pageConsumer);
                 }
+            }
+        } finally {
+            if (tailCursor != null) {
+                tailCursor.cancel(true);
+            }
+        }
+    }
 
-                for (JsonNode work : results) {
-                    String doi = work.path("doi").asText(null);
-                    String landingPageUrl = work.path("primary_location").path("landing_page_url").asText(null);
-                    
-                    // DOI varsa onu kullan, yoksa landing_page_url kullan
-                    String identifierUrl = (doi != null && !doi.isEmpty()) ? doi : landingPageUrl;
-
-                    // identifierUrl yoksa, unique constraint hatası vermemek için ekleme
-                    if (identifierUrl == null || identifierUrl.isEmpty()) {
-                        continue;
-                    }
-
-                    // Yazarları çek ve 255 karaktere kırp
-                    String authors = work.path("authorships").isArray()
-                        ? work.path("authorships")
-                              .findValues("author")
-                              .stream()
-                              .map(author -> author.path("display_name").asText("Unknown Author"))
-                              .collect(Collectors.joining(", "))
-                        : "Unknown Author";
-                    if (authors.length() > 255) {
-                        authors = authors.substring(0, 240) + "... ve diğerleri";
-                    }
-
-                    Publication pub = new Publication();
-                    pub.setTitle(work.path("title").asText("Untitled"));
-                    pub.setIdentifierUrl(identifierUrl);
-                    pub.setCitedByCount(work.path("cited_by_count").asInt(0));
-                    pub.setAuthors(authors);
-                    pub.setPublicationYear(work.path("publication_year").asInt(0) > 0 ? work.path("publication_year").asInt() : null);
-                    pub.setMember(member);
-                    
-                    String type = work.path("type").asText(null);
-                    pub.setType(type);
-
-                    String sourceName = work.path("primary_location")
-                            .path("source")
-                            .path("display_name")
-                            .asText(null);
-                    pub.setSourceName(sourceName);
-    
-                    if (work.hasNonNull("concepts")) {
-                        List<String> concepts = StreamSupport.stream(work.get("concepts").spliterator(), false)
-                                .filter(concept -> concept.path("level").asInt(99) <= 2) // Sadece ana konular (L0, L1, L2)
-                                .map(concept -> concept.path("display_name").asText())
-                                .filter(name -> name != null && !name.isEmpty())
-                                .distinct() // Tekrar edenleri kaldır
-                                .collect(Collectors.toList());
-                        pub.setTags(concepts);
-                    }
-
-                    publications.add(pub);
+    /**
+     * meta.count belli olduğu için sayfalar paralel çekilir (ve işçi thread'lerde parse edilir).
+     * Aynı anda en fazla 'parallelism' kadar sayfa uçuşta/bellekte bekler; consumer sayfa sırasıyla beslenir.
+     */
+    private void fetchPagesConcurrently(String filter, Member member, int firstPage, int lastPage,
+                                        Consumer<List<Publication>> pageConsumer) {
+        logger.debug("Fetching pages {}..{} concurrently for filter {}", firstPage, lastPage, filter);
+        Deque<Future<WorksPage>> window = new ArrayDeque<>(parallelism);
+        int nextPage = firstPage;
+        try {
+            while (nextPage <= lastPage || !window.isEmpty()) {
+                while (nextPage <= lastPage && window.size() < parallelism) {
+                    String url = worksUrl(filter) + "&page=" + nextPage++;
+                    window.addLast(providerExecutor.submit(() -> fetchWorksPage(url, member)));
                 }
-                page++;
-            } else {
-                hasMore = false;
+                WorksPage worksPage = await(window.pollFirst());
+                if (worksPage != null) {
+                    pageConsumer.accept(worksPage.publications());
+                }
+            }
+        } finally {
+            window.forEach(pageFuture -> pageFuture.cancel(true));
+        }
+    }
+
+    /**
+     * Cursor ile {@code pages} sayfa (sadece id alanı) ilerler ve sonraki sayfanın cursor'ını döndürür;
+     * sonuçlar daha önce biterse null. Bedeli: 10.000'den fazla work'ü olan her yazar için (per-page 200 ile)
+     * 50 ek istek, bu istekler boyunca paylaşılan providerExecutor'dan bir thread ve aynı rate limit
+     * bütçesi. Karşılığında offset sayfaları beklemeden paralel çekilir; sadece cursor ile okumak bu
+     * istekleri harcamaz ama yazarın tüm sayfalarını seri okur.
+     */
+    private String skipWithCursor(String filter, int pages) {
+        String cursor = "*";
+        for (int page = 0; page < pages && cursor != null && !cursor.isEmpty(); page++) {
+            JsonNode response = httpClient.getJson(ProviderHttpClient.OPENALEX, baseUrl + "/works?filter=" + filter
+                    + "&per-page=" + perPage + "&sort=" + WORKS_SORT + "&select=id&cursor=" + cursor);
+            if (response == null || response.path("results").isEmpty()) {
+                return null;
+            }
+            cursor = response.path("meta").path("next_cursor").asText(null);
+        }
+        return cursor == null || cursor.isEmpty() ? null : cursor;
+    }
+
+    private void streamWorksWithCursor(String filter, Member member, String cursor, Consumer<List<Publication>> pageConsumer) {
+        while (cursor != null && !cursor.isEmpty()) {
+            WorksPage worksPage = fetchWorksPage(worksUrl(filter) + "&cursor=" + cursor, member);
+            if (worksPage == null || worksPage.resultCount() == 0) {
+                break;
+            }
+            cursor = worksPage.nextCursor();
+            pageConsumer.accept(worksPage.publications());
+        }
+    }
+
+    private WorksPage fetchWorksPage(String url, Member member) {
+        ByteBuffer body = httpClient.getBody(ProviderHttpClient.OPENALEX, url);
+        if (body == null) {
+            return null;
+        }
+        try (InputStream in = new ByteBufferBackedInputStream(body)) {
+            return worksParser.parse(in, member);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to parse OpenAlex works page: " + url, e);
+        }
+    }
+
+    private static String authorFilter(String openAlexId) {
+        return "author.id:https://openalex.org/" + openAlexId;
+    }
+
+    private String worksUrl(String filter) {
+        return baseUrl + "/works?filter=" + filter
+                + "&per-page=" + perPage + "&sort=" + WORKS_SORT + "&select=" + OpenAlexWorksParser.SELECT_FIELDS;
+    }
+
+    private static <T> T await(Future<T> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while fetching OpenAlex works", e);
+        } catch (ExecutionException e) {
+            // Orijinal hatayı (örn. 429) çağırana aynen ilet
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
             }
+            throw new IllegalStateException(e.getCause());
         }
-        return publications;
     }
-}
\ No newline at end of file
+}
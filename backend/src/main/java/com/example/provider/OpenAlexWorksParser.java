@@ -0,0 +1,228 @@
+package com.example.provider;
+
+import com.example.model.Author;
+import com.example.model.Member;
+import com.example.model.Publication;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * OpenAlex /works sayfalarını Jackson streaming API'si ile okur ve Publication nesnelerini
+ * doğrudan üretir. JsonNode ağacı kurulmaz; kullanmadığımız alanlar (abstract_inverted_index,
+ * locations, referenced_works vb.) token seviyesinde atlanır.
+ */
+public class OpenAlexWorksParser {
+
+    /**
+     * OpenAlex'ten sadece kullandığımız alanları istemek için select= değeri.
+     */
+    public static final String SELECT_FIELDS =
+            "id,doi,title,publication_year,type,cited_by_count,authorships,primary_location,concepts";
+
+    private final JsonFactory jsonFactory;
+
+    public OpenAlexWorksParser(JsonFactory jsonFactory) {
+        this.jsonFactory = jsonFactory;
+    }
+
+    /**
+     * Bir sayfanın meta bilgisi ve eşlenmiş yayınları.
+     */
+    public record WorksPage(int count, String nextCursor, int resultCount, List<Publication> publications) {
+    }
+
+    public WorksPage parse(InputStream in, Member member) throws IOException {
+        try (JsonParser parser = jsonFactory.createParser(in)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new IOException("Expected OpenAlex works object");
+            }
+            int count = 0;
+            String nextCursor = null;
+            int resultCount = 0;
+            List<Publication> publications = new ArrayList<>();
+
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+                if ("meta".equals(field) && value == JsonToken.START_OBJECT) {
+                    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                        String metaField = parser.currentName();
+                        parser.nextToken();
+                        if ("count".equals(metaField)) {
+                            count = parser.getValueAsInt(0);
+                        } else if ("next_cursor".equals(metaField)) {
+                            nextCursor = parser.getValueAsString();
+                        } else {
+                            parser.skipChildren();
+                        }
+                    }
+                } else if ("results".equals(field) && value == JsonToken.START_ARRAY) {
+                    while (parser.nextToken() == JsonToken.START_OBJECT) {
+                        resultCount++;
+                        Publication pub = parseWork(parser, member);
+                        if (pub != null) {
+                            publications.add(pub);
+                        }
+                    }
+                } else {
+                    parser.skipChildren();
+                }
+            }
+            return new WorksPage(count, nextCursor, resultCount, publications);
+        }
+    }
+
+    /**
+     * Parser bir work nesnesinin START_OBJECT'inde; dönüşte END_OBJECT'inde olur.
+     * identifierUrl'si olmayan work'ler için null döner.
+     */
+    private Publication parseWork(JsonParser parser, Member member) throws IOException {
+        String doi = null;
+        String title = null;
+        Integer publicationYear = null;
+        String type = null;
+        int citedByCount = 0;
+        String landingPageUrl = null;
+        String sourceName = null;
+        List<Author> authors = null;
+        Set<String> concepts = null;
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+            switch (field) {
+                case "doi" -> doi = parser.getValueAsString();
+                case "title" -> title = parser.getValueAsString();
+                case "publication_year" -> {
+                    int year = parser.getValueAsInt(0);
+                    publicationYear = year > 0 ? year : null;
+                }
+                case "type" -> type = parser.getValueAsString();
+                case "cited_by_count" -> citedByCount = parser.getValueAsInt(0);
+                case "primary_location" -> {
+                    if (value == JsonToken.START_OBJECT) {
+                        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                            String locationField = parser.currentName();
+                            JsonToken locationValue = parser.nextToken();
+                            if ("landing_page_url".equals(locationField)) {
+                                landingPageUrl = parser.getValueAsString();
+                            } else if ("source".equals(locationField) && locationValue == JsonToken.START_OBJECT) {
+                                sourceName = readStringField(parser, "display_name");
+                            } else {
+                                parser.skipChildren();
+                            }
+                        }
+                    }
+                }
+                case "authorships" -> {
+                    if (value == JsonToken.START_ARRAY) {
+                        authors = new ArrayList<>();
+                        while (parser.nextToken() == JsonToken.START_OBJECT) {
+                            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                                String authorshipField = parser.currentName();
+                                JsonToken authorshipValue = parser.nextToken();
+                                if ("author".equals(authorshipField) && authorshipValue == JsonToken.START_OBJECT) {
+                                    authors.add(readAuthor(parser));
+                                } else {
+                                    parser.skipChildren();
+                                }
+                            }
+                        }
+                    }
+                }
+                case "concepts" -> {
+                    if (value == JsonToken.START_ARRAY) {
+                        concepts = new LinkedHashSet<>();
+                        while (parser.nextToken() == JsonToken.START_OBJECT) {
+                            String name = null;
+                            int level = 99;
+                            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                                String conceptField = parser.currentName();
+                                parser.nextToken();
+                                if ("display_name".equals(conceptField)) {
+                                    name = parser.getValueAsString();
+                                } else if ("level".equals(conceptField)) {
+                                    level = parser.getValueAsInt(99);
+                                } else {
+                                    parser.skipChildren();
+                                }
+                            }
+                            // Sadece ana konular (L0, L1, L2); LinkedHashSet tekrarları sırayı bozmadan atar
+                            if (level <= 2 && name != null && !name.isEmpty()) {
+                                concepts.add(name);
+                            }
+                        }
+                    }
+                }
+                default -> parser.skipChildren();
+            }
+        }
+
+        // DOI varsa onu kullan, yoksa landing_page_url kullan
+        String identifierUrl = (doi != null && !doi.isEmpty()) ? doi : landingPageUrl;
+        if (identifierUrl == null || identifierUrl.isEmpty()) {
+            return null;
+        }
+
+        Publication pub = new Publication();
+        pub.setTitle(title);
+        pub.setIdentifierUrl(identifierUrl);
+        pub.setCitedByCount(citedByCount);
+        if (authors != null) {
+            pub.setAuthorList(authors);
+        }
+        pub.setPublicationYear(publicationYear);
+        pub.setMember(member);
+        pub.setType(type);
+        pub.setSourceName(sourceName);
+        if (concepts != null) {
+            pub.setTags(new ArrayList<>(concepts));
+        }
+        return pub;
+    }
+
+    /**
+     * Parser bir authorship.author nesnesinin START_OBJECT'inde; OpenAlex ID'si ve adıyla yazar üretir.
+     */
+    private static Author readAuthor(JsonParser parser) throws IOException {
+        String id = null;
+        String name = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
+            if ("id".equals(field)) {
+                id = parser.getValueAsString();
+            } else if ("display_name".equals(field)) {
+                name = parser.getValueAsString();
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return new Author(id, name);
+    }
+
+    /**
+     * Parser bir nesnenin START_OBJECT'inde; istenen string alanı okur, gerisini atlar.
+     */
+    private static String readStringField(JsonParser parser, String wanted) throws IOException {
+        String result = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
+            if (wanted.equals(field)) {
+                result = parser.getValueAsString();
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return result;
+    }
+}
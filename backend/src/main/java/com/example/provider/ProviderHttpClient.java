@@ -0,0 +1,331 @@
+package com.example.provider;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.ByteBufferBackedInputStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpStatusCodeException;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Sağlayıcılara (OpenAlex, SerpAPI) giden tüm HTTP isteklerinin geçtiği ortak istemci.
+ * Her sağlayıcının kendi token bucket'ı vardır; paralel çalışan tüm ingestion'lar aynı
+ * bütçeyi paylaşır. 429 ve 5xx cevaplarında Retry-After'a uyulur, yoksa jitter'lı
+ * üstel bekleme ile tekrar denenir.
+ * <p>
+ * Aynı kanonik URL'yi (api_key hariç, parametreler sıralı) isteyen eşzamanlı çağıranlar tek bir
+ * isteği paylaşır (single-flight); başarılı cevap kısa bir süre (memo-ttl) daha bellekte tutulur.
+ */
+@Component
+public class ProviderHttpClient {
+
+    private static final Logger logger = LoggerFactory.getLogger(ProviderHttpClient.class);
+
+    public static final String OPENALEX = "openalex";
+    public static final String SERPAPI = "serpapi";
+
+    // Bundan büyük gövdeler (örn. 200'lük works sayfaları) memo'ya alınmaz; tekrar istenmeleri beklenmez
+    static final int MEMO_MAX_BODY_BYTES = 256 * 1024;
+
+    private final RestTemplate restTemplate;
+    private final ObjectMapper objectMapper;
+    private final DiskResponseCache diskCache;
+    private final Map<String, TokenBucketRateLimiter> limiters;
+    // Tekrarlar dahil, sağlayıcıya giden her HTTP isteği sayılır
+    private final Map<String, LongAdder> requestCounts = Map.of(OPENALEX, new LongAdder(), SERPAPI, new LongAdder());
+    private final int maxAttempts;
+    private final Duration baseDelay;
+    private final Duration maxDelay;
+    private final long memoTtlNanos;
+    private final int memoMaxEntries;
+
+    private final Sleeper sleeper;
+
+    private final Map<String, CompletableFuture<ByteBuffer>> inFlight = new ConcurrentHashMap<>();
+    private final Map<String, MemoEntry> memo = new ConcurrentHashMap<>();
+
+    @Autowired
+    public ProviderHttpClient(RestTemplate restTemplate,
+                              ObjectMapper objectMapper,
+                              DiskResponseCache diskCache,
+                              @Value("${provider.rate-limit.openalex.requests-per-second:10}") double openAlexRate,
+                              @Value("${provider.rate-limit.openalex.burst:10}") int openAlexBurst,
+                              @Value("${provider.rate-limit.serpapi.requests-per-second:1}") double serpApiRate,
+                              @Value("${provider.rate-limit.serpapi.burst:2}") int serpApiBurst,
+                              @Value("${provider.retry.max-attempts:4}") int maxAttempts,
+                              @Value("${provider.retry.base-delay:PT0.5S}") Duration baseDelay,
+                              @Value("${provider.retry.max-delay:PT30S}") Duration maxDelay,
+                              @Value("${provider.http.memo-ttl:PT10S}") Duration memoTtl,
+                              @Value("${provider.http.memo-max-entries:256}") int memoMaxEntries) {
+        this(restTemplate, objectMapper, diskCache, openAlexRate, openAlexBurst, serpApiRate, serpApiBurst,
+                maxAttempts, baseDelay, maxDelay, memoTtl, memoMaxEntries, ProviderHttpClient::sleep);
+    }
+
+    ProviderHttpClient(RestTemplate restTemplate, ObjectMapper objectMapper, DiskResponseCache diskCache,
+                       double openAlexRate, int openAlexBurst, double serpApiRate, int serpApiBurst,
+                       int maxAttempts, Duration baseDelay, Duration maxDelay, Duration memoTtl, int memoMaxEntries,
+                       Sleeper sleeper) {
+        this.restTemplate = restTemplate;
+        this.objectMapper = objectMapper;
+        this.diskCache = diskCache;
+        this.limiters = Map.of(
+                OPENALEX, new TokenBucketRateLimiter(openAlexRate, openAlexBurst),
+                SERPAPI, new TokenBucketRateLimiter(serpApiRate, serpApiBurst));
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.baseDelay = baseDelay;
+        this.maxDelay = maxDelay;
+        this.memoTtlNanos = memoTtl.toNanos();
+        this.memoMaxEntries = memoMaxEntries;
+        this.sleeper = sleeper;
+    }
+
+    /**
+     * URL'yi çağırıp cevabı JsonNode olarak döndürür (bkz. {@link #getBody(String, String)}).
+     */
+    public JsonNode getJson(String provider, String url) {
+        ByteBuffer body = getBody(provider, url);
+        if (body == null) {
+            return null;
+        }
+        try (InputStream in = new ByteBufferBackedInputStream(body)) {
+            return objectMapper.readTree(in);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to parse " + provider + " response", e);
+        }
+    }
+
+    /**
+     * URL'yi sağlayıcının hız sınırı içinde çağırır ve ham cevap gövdesini döndürür; 429/5xx için
+     * tekrar dener. Son denemede de başarısız olursa orijinal HTTP hatası fırlatılır.
+     * Gövde boşsa null döner. Aynı anahtar için uçuşta bir istek varsa onun sonucu beklenir,
+     * taze bir memo veya disk önbelleği kaydı varsa istek hiç yapılmaz.
+     */
+    public ByteBuffer getBody(String provider, String url) {
+        TokenBucketRateLimiter limiter = limiter(provider);
+        String key = provider + ' ' + canonicalUrl(url);
+
+        MemoEntry remembered = memo.get(key);
+        if (remembered != null && remembered.isFresh(System.nanoTime())) {
+            logger.debug("Serving {} response from memo: {}", provider, key);
+            return duplicate(remembered.body());
+        }
+
+        CompletableFuture<ByteBuffer> call = new CompletableFuture<>();
+        CompletableFuture<ByteBuffer> shared = inFlight.putIfAbsent(key, call);
+        if (shared != null) {
+            logger.debug("Joining in-flight {} request: {}", provider, key);
+            return duplicate(await(shared, provider));
+        }
+        try {
+            ByteBuffer body = fetchThroughDiskCache(provider, key, url, limiter);
+            remember(key, body);
+            call.complete(body);
+            return duplicate(body);
+        } catch (RuntimeException e) {
+            call.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, call);
+        }
+    }
+
+    /**
+     * Disk önbelleğinde taze bir kayıt varsa (çevrimdışı modda herhangi bir kayıt) onu döndürür,
+     * yoksa isteği yapar ve cevabı diske ekler.
+     */
+    private ByteBuffer fetchThroughDiskCache(String provider, String key, String url, TokenBucketRateLimiter limiter) {
+        DiskResponseCache.CachedResponse cached = diskCache.lookup(key);
+        if (cached != null && (cached.fresh() || diskCache.isOffline())) {
+            logger.debug("Serving {} response from disk cache: {}", provider, key);
+            return cached.body();
+        }
+        if (diskCache.isOffline()) {
+            throw new IllegalStateException("Offline mode: no cached " + provider + " response for " + key);
+        }
+        ByteBuffer body = fetch(provider, url, limiter);
+        try {
+            diskCache.store(provider, key, body);
+        } catch (UncheckedIOException e) {
+            // Önbelleğe yazılamaması isteği başarısız kılmaz
+            logger.warn("Could not store {} response in disk cache: {}", provider, e.getMessage());
+        }
+        return body;
+    }
+
+    private ByteBuffer fetch(String provider, String url, TokenBucketRateLimiter limiter) {
+        try {
+            for (int attempt = 1; ; attempt++) {
+                long waitNanos = limiter.reserve();
+                if (waitNanos > 0) {
+                    sleeper.sleep(Duration.ofNanos(waitNanos));
+                }
+                requestCounts.get(provider).increment();
+                try {
+                    byte[] body = restTemplate.getForObject(url, byte[].class);
+                    return body != null ? ByteBuffer.wrap(body).asReadOnlyBuffer() : null;
+                } catch (HttpStatusCodeException e) {
+                    HttpStatusCode status = e.getStatusCode();
+                    boolean retryable = status.value() == 429 || status.is5xxServerError();
+                    if (!retryable || attempt >= maxAttempts) {
+                        throw e;
+                    }
+                    Duration retryAfter = parseRetryAfter(e.getResponseHeaders());
+                    Duration delay = retryAfter != null ? retryAfter : backoff(attempt);
+                    if (status.value() == 429) {
+                        // Aynı sağlayıcıyı kullanan diğer thread'ler de beklesin
+                        limiter.pauseFor(delay);
+                    }
+                    logger.warn("{} returned {} (attempt {}/{}), retrying in {} ms",
+                            provider, status.value(), attempt, maxAttempts, delay.toMillis());
+                    sleeper.sleep(delay);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for " + provider + " rate limit", e);
+        }
+    }
+
+    private void remember(String key, ByteBuffer body) {
+        if (memoTtlNanos <= 0 || (body != null && body.remaining() > MEMO_MAX_BODY_BYTES)) {
+            return;
+        }
+        long now = System.nanoTime();
+        if (memo.size() >= memoMaxEntries) {
+            memo.values().removeIf(entry -> !entry.isFresh(now));
+            if (memo.size() >= memoMaxEntries) {
+                return;
+            }
+        }
+        memo.put(key, new MemoEntry(body, now + memoTtlNanos));
+    }
+
+    private static ByteBuffer await(CompletableFuture<ByteBuffer> shared, String provider) {
+        try {
+            return shared.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for in-flight " + provider + " request", e);
+        } catch (ExecutionException e) {
+            // Paylaşılan isteğin hatası (örn. 404) her bekleyene aynen iletilir
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    // Paylaşılan buffer'ın position/limit'i her çağırana ayrı olsun
+    private static ByteBuffer duplicate(ByteBuffer body) {
+        return body != null ? body.asReadOnlyBuffer() : null;
+    }
+
+    /**
+     * İstek anahtarı: api_key parametresi atılır, kalan query parametreleri sıralanır. Böylece
+     * parametre sırası farklı ama aynı kaynağı isteyen URL'ler aynı anahtara düşer ve anahtar
+     * loglanabilir/diske yazılabilir.
+     */
+    static String canonicalUrl(String url) {
+        int queryStart = url.indexOf('?');
+        if (queryStart < 0) {
+            return url;
+        }
+        List<String> params = new ArrayList<>();
+        for (String param : url.substring(queryStart + 1).split("&")) {
+            if (!param.isEmpty() && !param.startsWith("api_key=") && !param.equals("api_key")) {
+                params.add(param);
+            }
+        }
+        Collections.sort(params);
+        return params.isEmpty() ? url.substring(0, queryStart) : url.substring(0, queryStart + 1) + String.join("&", params);
+    }
+
+    /**
+     * Uygulama açıldığından beri bu sağlayıcıya yapılan HTTP isteği sayısı.
+     */
+    public long getRequestCount(String provider) {
+        limiter(provider);
+        return requestCounts.get(provider).sum();
+    }
+
+    private TokenBucketRateLimiter limiter(String provider) {
+        TokenBucketRateLimiter limiter = limiters.get(provider);
+        if (limiter == null) {
+            throw new IllegalArgumentException("Unsupported provider type: " + provider);
+        }
+        return limiter;
+    }
+
+    /**
+     * "Equal jitter": üst sınırın yarısı sabit, yarısı rastgele.
+     */
+    private Duration backoff(int attempt) {
+        long ceiling = Math.min(maxDelay.toMillis(), baseDelay.toMillis() << Math.min(attempt - 1, 20));
+        long half = Math.max(1, ceiling / 2);
+        return Duration.ofMillis(half + ThreadLocalRandom.current().nextLong(half + 1));
+    }
+
+    static Duration parseRetryAfter(HttpHeaders headers) {
+        String value = headers != null ? headers.getFirst(HttpHeaders.RETRY_AFTER) : null;
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        value = value.trim();
+        try {
+            return Duration.ofSeconds(Math.max(0, Long.parseLong(value)));
+        } catch (NumberFormatException ignored) {
+            // HTTP-date biçimi olabilir
+        }
+        try {
+            Duration untilDate = Duration.between(ZonedDateTime.now(), ZonedDateTime.parse(value, DateTimeFormatter.RFC_1123_DATE_TIME));
+            return untilDate.isNegative() ? Duration.ZERO : untilDate;
+        } catch (DateTimeParseException e) {
+            logger.debug("Ignoring unparseable Retry-After header: {}", value);
+            return null;
+        }
+    }
+
+    private static void sleep(Duration delay) throws InterruptedException {
+        if (!delay.isZero()) {
+            Thread.sleep(delay.toMillis());
+        }
+    }
+
+    /**
+     * Hız sınırı ve tekrar beklemeleri; testler gerçekten beklemek yerine süreleri kaydeder.
+     */
+    @FunctionalInterface
+    interface Sleeper {
+        void sleep(Duration duration) throws InterruptedException;
+    }
+
+    private record MemoEntry(ByteBuffer body, long expiresAtNanos) {
+        boolean isFresh(long now) {
+            return now - expiresAtNanos < 0;
+        }
+    }
+}
@@ -2,9 +2,43 @@ package com.example.provider;
 
 import com.example.model.Member;
 import com.example.model.Publication;
+import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Consumer;
 
 public interface PublicationProvider {
     Member getMemberDetails(String openAlexId);
-    List<Publication> getPublications(String openAlexId, Member member);
+
+    /**
+     * Yayınları sayfa sayfa çeker ve her sayfayı hemen pageConsumer'a verir.
+     * Consumer her zaman çağıran thread'de, sayfa sırasıyla çağrılır; bir sonraki sayfa
+     * ancak önceki batch işlendikten sonra teslim edilir.
+     */
+    void streamPublications(String openAlexId, Member member, Consumer<List<Publication>> pageConsumer);
+
+    /**
+     * Sadece 'since' tarihinden (dahil) sonra değişmiş yayınları akıtır. Tarih filtresi olmayan
+     * sağlayıcılar tüm listeyi döner; çağıran taraf upsert ile sadece değişenleri yazar.
+     */
+    default void streamPublicationsSince(String openAlexId, Member member, LocalDate since, Consumer<List<Publication>> pageConsumer) {
+        streamPublications(openAlexId, member, pageConsumer);
+    }
+
+    /**
+     * Tüm yayınları tek listede toplar. Büyük yazarlar için streamPublications tercih edilmeli.
+     */
+    default List<Publication> getPublications(String openAlexId, Member member) {
+        List<Publication> publications = new ArrayList<>();
+        streamPublications(openAlexId, member, publications::addAll);
+        return publications;
+    }
+
+    /**
+     * getPublications, getMemberDetails sonucuna (örn. yazar adına) ihtiyaç duyuyor mu?
+     * false dönen sağlayıcılar için iki çağrı paralel yapılabilir.
+     */
+    default boolean publicationsRequireMemberDetails() {
+        return true;
+    }
 }
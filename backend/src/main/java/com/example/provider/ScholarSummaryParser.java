@@ -0,0 +1,121 @@
+package com.example.provider;
+
+import java.time.Year;
+
+/**
+ * Google Scholar {@code publication_info.summary} alanını tek geçişte ayrıştırır. Scholar'ın düzeni
+ * {@code "yazarlar - kaynak, yıl - yayıncı"} şeklindedir; kaynak ve/veya yıl eksik olabilir
+ * ({@code "CM Bishop - 2006 - Springer"}), kısaltılmış alanlar "…" ile biter.
+ * <p>
+ * Ayırıcılar (" - ") tek bir taramada bulunur, yıl ve kaynak sınırları indekslerle belirlenir;
+ * sadece döndürülen alanlar için substring oluşturulur. Yıl sadece orta bölümün sonundaki 4 haneli
+ * sayı olarak kabul edilir, böylece "arXiv:1412.6980, 2014" gibi kaynaklardaki sayılar yıl sanılmaz.
+ */
+public final class ScholarSummaryParser {
+
+    static final int MIN_YEAR = 1900;
+    static final int MAX_YEAR = Year.now().getValue() + 1;
+
+    private ScholarSummaryParser() {
+    }
+
+    /**
+     * @param authors yazar listesi (kısaltma işareti atılmış), yoksa null
+     * @param venue   dergi/konferans adı, yoksa null
+     * @param year    yayın yılı, yoksa null
+     * @param host    son bölüm (yayıncı veya alan adı), yoksa null
+     */
+    public record ScholarSummary(String authors, String venue, Integer year, String host) {
+        static final ScholarSummary EMPTY = new ScholarSummary(null, null, null, null);
+    }
+
+    public static ScholarSummary parse(String summary) {
+        if (summary == null || summary.isEmpty()) {
+            return ScholarSummary.EMPTY;
+        }
+        int length = summary.length();
+
+        // Tek tarama: ilk ve son " - " ayırıcılarının konumu
+        int firstSeparator = -1;
+        int lastSeparator = -1;
+        for (int i = 0; i + 2 < length; i++) {
+            if (summary.charAt(i + 1) == '-' && isSpace(summary.charAt(i)) && isSpace(summary.charAt(i + 2))) {
+                if (firstSeparator < 0) {
+                    firstSeparator = i;
+                }
+                lastSeparator = i;
+                i += 2;
+            }
+        }
+
+        String authors = null;
+        String host = null;
+        int middleStart = 0;
+        int middleEnd = length;
+        if (firstSeparator >= 0) {
+            authors = field(summary, 0, firstSeparator);
+            middleStart = firstSeparator + 3;
+            if (lastSeparator > firstSeparator) {
+                middleEnd = lastSeparator;
+                host = field(summary, lastSeparator + 3, length);
+            }
+        }
+
+        // Orta bölümün sonundaki yıl: "..., 2016" veya sadece "2006"
+        Integer year = null;
+        int venueEnd = trimEnd(summary, middleStart, middleEnd);
+        if (venueEnd - middleStart >= 4 && isYearAt(summary, venueEnd - 4)
+                && (venueEnd - 4 == middleStart || !Character.isLetterOrDigit(summary.charAt(venueEnd - 5)))) {
+            int candidate = (summary.charAt(venueEnd - 4) - '0') * 1000 + (summary.charAt(venueEnd - 3) - '0') * 100
+                    + (summary.charAt(venueEnd - 2) - '0') * 10 + (summary.charAt(venueEnd - 1) - '0');
+            if (candidate >= MIN_YEAR && candidate <= MAX_YEAR) {
+                year = candidate;
+                venueEnd -= 4;
+            }
+        }
+
+        return new ScholarSummary(authors, field(summary, middleStart, venueEnd), year, host);
+    }
+
+    /**
+     * [start, end) aralığını baştaki/sondaki boşluk, virgül ve kısaltma işaretlerinden ("…", "...")
+     * arındırıp döndürür; geriye bir şey kalmazsa null.
+     */
+    private static String field(String summary, int start, int end) {
+        while (start < end && isSpace(summary.charAt(start))) {
+            start++;
+        }
+        end = trimEnd(summary, start, end);
+        while (end > start) {
+            char c = summary.charAt(end - 1);
+            if (c == ',' || c == '…' || c == '.' && end - start >= 3
+                    && summary.charAt(end - 2) == '.' && summary.charAt(end - 3) == '.') {
+                end = trimEnd(summary, start, c == '.' ? end - 3 : end - 1);
+            } else {
+                break;
+            }
+        }
+        return end > start ? summary.substring(start, end) : null;
+    }
+
+    private static int trimEnd(String summary, int start, int end) {
+        while (end > start && isSpace(summary.charAt(end - 1))) {
+            end--;
+        }
+        return end;
+    }
+
+    private static boolean isYearAt(String summary, int index) {
+        for (int i = index; i < index + 4; i++) {
+            char c = summary.charAt(i);
+            if (c < '0' || c > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isSpace(char c) {
+        return c == ' ' || c == '\u00a0';
+    }
+}
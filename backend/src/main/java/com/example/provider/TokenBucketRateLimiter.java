@@ -0,0 +1,64 @@
+package com.example.provider;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Basit token bucket: saniyede {@code permitsPerSecond} izin üretir, en fazla {@code burst} biriktirir.
+ * İzinler rezervasyonla verilir; token sayısı negatife düşebilir ve sonraki çağıranlar borç
+ * ödenene kadar bekler. {@link #pauseFor(Duration)} ile (örn. Retry-After) tüm çağıranlar durdurulur.
+ */
+public class TokenBucketRateLimiter {
+
+    private final double permitsPerNano;
+    private final double burst;
+    private final LongSupplier nanoClock;
+
+    private double tokens;
+    private long lastRefillNanos;
+
+    public TokenBucketRateLimiter(double permitsPerSecond, int burst) {
+        this(permitsPerSecond, burst, System::nanoTime);
+    }
+
+    TokenBucketRateLimiter(double permitsPerSecond, int burst, LongSupplier nanoClock) {
+        if (permitsPerSecond <= 0) {
+            throw new IllegalArgumentException("permitsPerSecond must be positive: " + permitsPerSecond);
+        }
+        this.permitsPerNano = permitsPerSecond / TimeUnit.SECONDS.toNanos(1);
+        this.burst = Math.max(1, burst);
+        this.nanoClock = nanoClock;
+        this.tokens = this.burst;
+        this.lastRefillNanos = nanoClock.getAsLong();
+    }
+
+    /**
+     * Bir izin rezerve eder ve kullanılabilir olmasına kalan süreyi (nanosaniye) döndürür.
+     */
+    synchronized long reserve() {
+        long now = nanoClock.getAsLong();
+        // lastRefillNanos gelecekteyse (pauseFor) o ana kadar token üretilmez
+        if (now > lastRefillNanos) {
+            tokens = Math.min(burst, tokens + (now - lastRefillNanos) * permitsPerNano);
+            lastRefillNanos = now;
+        }
+        tokens -= 1;
+        long readyAt = lastRefillNanos + (tokens >= 0 ? 0 : (long) Math.ceil(-tokens / permitsPerNano));
+        return Math.max(0, readyAt - now);
+    }
+
+    /**
+     * Verilen süre boyunca yeni izin üretimini durdurur ve biriken burst'ü boşaltır.
+     */
+    public synchronized void pauseFor(Duration duration) {
+        long now = nanoClock.getAsLong();
+        if (now > lastRefillNanos) {
+            tokens = Math.min(burst, tokens + (now - lastRefillNanos) * permitsPerNano);
+            lastRefillNanos = now;
+        }
+        // Bekleme bitince tek bir istek hemen çıkabilsin, gerisi normal hızla
+        tokens = Math.min(tokens, 1);
+        lastRefillNanos = Math.max(lastRefillNanos, now + duration.toNanos());
+    }
+}
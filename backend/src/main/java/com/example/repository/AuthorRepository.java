@@ -0,0 +1,34 @@
+package com.example.repository;
+
+import com.example.model.Author;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface AuthorRepository extends JpaRepository<Author, Long> {
+
+    // Ingestion sırasında tekilleştirme: author_key üzerinde unique index
+    List<Author> findByAuthorKeyIn(Collection<String> authorKeys);
+
+    // Önek araması normalized_name indeksini kullanır (baştaki % olmadığı için)
+    Page<Author> findByNormalizedNameStartingWithOrderByNormalizedNameAsc(String prefix, Pageable pageable);
+
+    // Arama indeksi yazar adlarını ID'ye göre bir kez ayrıştırır
+    @Query("SELECT a.id AS id, a.normalizedName AS normalizedName FROM Author a")
+    List<AuthorName> findAllNames();
+
+    @Query("SELECT a.id AS id, a.normalizedName AS normalizedName FROM Author a WHERE a.id IN :ids")
+    List<AuthorName> findNamesByIdIn(@Param("ids") Collection<Long> ids);
+
+    interface AuthorName {
+        Long getId();
+        String getNormalizedName();
+    }
+}
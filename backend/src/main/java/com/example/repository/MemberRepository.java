@@ -2,9 +2,30 @@ package com.example.repository;
 
 import com.example.model.Member;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
 
 @Repository
 public interface MemberRepository extends JpaRepository<Member, Long> {
     Member findByOpenAlexId(String openAlexId);
+
+    // Sayaçları okuyup-yazmadan, veritabanında artımlı günceller (eşzamanlı re-sync'lerde kayıp güncelleme olmaz)
+    @Modifying
+    @Query("UPDATE Member m SET m.worksCount = m.worksCount + :works, m.citedByCount = m.citedByCount + :citations WHERE m.id = :id")
+    int adjustCounts(@Param("id") Long id, @Param("works") int works, @Param("citations") int citations);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE Member m SET m.lastSyncedAt = :syncedAt WHERE m.id = :id")
+    int markSynced(@Param("id") Long id, @Param("syncedAt") Instant syncedAt);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE Member m SET m.yearCountsBuilt = true WHERE m.id = :id")
+    int markYearCountsBuilt(@Param("id") Long id);
 }
@@ -0,0 +1,31 @@
+package com.example.repository;
+
+import com.example.model.MemberYearCount;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+@Repository
+public interface MemberYearCountRepository extends JpaRepository<MemberYearCount, Long> {
+
+    List<MemberYearCount> findByMemberIdOrderByYearAsc(Long memberId);
+
+    // Okuyup-yazmadan artımlı güncelleme (bkz. MemberRepository.adjustCounts); satır yoksa 0 döner
+    @Modifying
+    @Query("UPDATE MemberYearCount c SET c.count = c.count + :delta WHERE c.memberId = :memberId AND c.year = :year")
+    int addToCount(@Param("memberId") Long memberId, @Param("year") int year, @Param("delta") int delta);
+
+    @Modifying
+    @Query("DELETE FROM MemberYearCount c WHERE c.memberId = :memberId AND c.count <= 0")
+    int deleteEmptyYears(@Param("memberId") Long memberId);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM MemberYearCount c WHERE c.memberId = :memberId")
+    int deleteByMemberId(@Param("memberId") Long memberId);
+}
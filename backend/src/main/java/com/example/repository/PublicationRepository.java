@@ -3,12 +3,14 @@ package com.example.repository;
 import com.example.model.Publication;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor; 
 import org.springframework.data.jpa.repository.Query; 
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -21,6 +23,14 @@ public interface PublicationRepository extends JpaRepository<Publication, Long>,
     
     // Duplicate kontrolü için yeni metod
     Optional<Publication> findByIdentifierUrl(String identifierUrl);
+
+    // Toplu duplicate kontrolü: verilen URL'lerden veritabanında zaten olanları döndürür
+    @Query("SELECT p.identifierUrl FROM Publication p WHERE p.identifierUrl IN :urls")
+    List<String> findExistingIdentifierUrls(@Param("urls") Collection<String> urls);
+
+    // Upsert için mevcut yayınlar; etiketler aynı sorguda yüklenir (yayın başına ayrı SELECT olmaz)
+    @EntityGraph(attributePaths = "tagSet")
+    List<Publication> findByIdentifierUrlIn(Collection<String> urls);
     
     // Yıl ve citation count için sıralama
     Page<Publication> findByMemberIdOrderByPublicationYearDesc(Long memberId, Pageable pageable);
@@ -28,9 +38,100 @@ public interface PublicationRepository extends JpaRepository<Publication, Long>,
     Page<Publication> findByMemberIdOrderByPublicationYearAsc(Long memberId, Pageable pageable);
     Page<Publication> findByMemberIdOrderByCitedByCountAsc(Long memberId, Pageable pageable);
 
-    @Query("SELECT DISTINCT t FROM Publication p JOIN p.tags t WHERE p.member.id = :memberId ORDER BY t")
-    List<String> findDistinctTagsByMemberId(@Param("memberId") Long memberId);
+    // counts-by-year özetinin yeniden hesaplanması (bkz. MemberYearCountService.rebuild)
+    @Query("SELECT p.publicationYear AS year, COUNT(p) AS total FROM Publication p " +
+           "WHERE p.member.id = :memberId AND p.publicationYear IS NOT NULL GROUP BY p.publicationYear")
+    List<YearTotal> countByYearForMember(@Param("memberId") Long memberId);
+
+    interface YearTotal {
+        Integer getYear();
+        long getTotal();
+    }
+
+    // Yazarın yayınları: publication_author(author_id) indeksi üzerinden
+    @Query(value = "SELECT p FROM Publication p JOIN p.authorList a WHERE a.id = :authorId",
+           countQuery = "SELECT COUNT(p) FROM Publication p JOIN p.authorList a WHERE a.id = :authorId")
+    Page<Publication> findByAuthorId(@Param("authorId") Long authorId, Pageable pageable);
+
+    // Üye silinmeden önce yayın ID'leri (bellek içi indekslerden çıkarmak için)
+    @Query("SELECT p.id FROM Publication p WHERE p.member.id = :memberId")
+    List<Long> findIdsByMemberId(@Param("memberId") Long memberId);
+
+    // Ortak yazarlık grafının ilk kurulumu: yayın başına yazarlar, yayındaki sırayla
+    @Query("SELECT p.id AS publicationId, a.id AS authorId FROM Publication p JOIN p.authorList a ORDER BY p.id, INDEX(a)")
+    List<PublicationAuthorRow> findAllPublicationAuthors();
+
+    interface PublicationAuthorRow {
+        Long getPublicationId();
+        Long getAuthorId();
+    }
+
+    // Facet indeksinin ilk kurulumu: yayın başına filtre/sıralama alanları ve etiket bağlantıları
+    @Query("SELECT p.id AS publicationId, p.member.id AS memberId, p.type AS type, p.publicationYear AS publicationYear, " +
+           "p.citedByCount AS citedByCount FROM Publication p WHERE p.member IS NOT NULL ORDER BY p.id")
+    List<FacetRow> findAllFacetRows();
+
+    interface FacetRow {
+        Long getPublicationId();
+        Long getMemberId();
+        String getType();
+        Integer getPublicationYear();
+        int getCitedByCount();
+    }
+
+    // Arama indeksinin ilk kurulumu: aranan metin alanları ve filtre alanları
+    @Query("SELECT p.id AS publicationId, p.member.id AS memberId, p.title AS title, p.sourceName AS sourceName, " +
+           "p.type AS type, p.publicationYear AS publicationYear FROM Publication p WHERE p.member IS NOT NULL ORDER BY p.id")
+    List<SearchRow> findAllSearchRows();
+
+    interface SearchRow {
+        Long getPublicationId();
+        Long getMemberId();
+        String getTitle();
+        String getSourceName();
+        String getType();
+        Integer getPublicationYear();
+    }
+
+    @Query("SELECT p.id AS publicationId, t.id AS tagId FROM Publication p JOIN p.tagSet t ORDER BY p.id")
+    List<PublicationTagRow> findAllPublicationTags();
+
+    interface PublicationTagRow {
+        Long getPublicationId();
+        Integer getTagId();
+    }
+
+    // Üyenin yayınlarında en sık geçen yazarlar (üyenin kendisi genelde ilk sıradadır)
+    @Query("SELECT a.id FROM Publication p JOIN p.authorList a WHERE p.member.id = :memberId GROUP BY a.id ORDER BY COUNT(p) DESC, a.id")
+    List<Long> findMostFrequentAuthorIds(@Param("memberId") Long memberId, Pageable pageable);
+
+    // Facet sayıları (indeks kullanılamadığında): boyut başına tek GROUP BY; diğer boyutta filtre varsa
+    // tüm adlar yine listelenir, sayı koşullu toplamla (matching) sadece filtreye uyanları sayar
+    @Query("SELECT t.name AS name, COUNT(p) AS total FROM Publication p JOIN p.tagSet t " +
+           "WHERE p.member.id = :memberId GROUP BY t.name")
+    List<FacetCount> countByTagForMember(@Param("memberId") Long memberId);
+
+    @Query("SELECT t.name AS name, " +
+           "SUM(CASE WHEN p.type IN :types THEN 1 ELSE 0 END) AS matching FROM Publication p JOIN p.tagSet t " +
+           "WHERE p.member.id = :memberId GROUP BY t.name")
+    List<FilteredFacetCount> countByTagForMemberMatchingTypes(@Param("memberId") Long memberId, @Param("types") Collection<String> types);
+
+    @Query("SELECT p.type AS name, COUNT(p) AS total FROM Publication p " +
+           "WHERE p.member.id = :memberId AND p.type IS NOT NULL GROUP BY p.type")
+    List<FacetCount> countByTypeForMember(@Param("memberId") Long memberId);
+
+    @Query("SELECT p.type AS name, " +
+           "SUM(CASE WHEN EXISTS (SELECT 1 FROM p.tagSet t WHERE t.id IN :tagIds) THEN 1 ELSE 0 END) AS matching " +
+           "FROM Publication p WHERE p.member.id = :memberId AND p.type IS NOT NULL GROUP BY p.type")
+    List<FilteredFacetCount> countByTypeForMemberMatchingTags(@Param("memberId") Long memberId, @Param("tagIds") Collection<Integer> tagIds);
+
+    interface FilteredFacetCount {
+        String getName();
+        long getMatching();
+    }
 
-    @Query("SELECT DISTINCT p.type FROM Publication p WHERE p.member.id = :memberId AND p.type IS NOT NULL ORDER BY p.type")
-    List<String> findDistinctTypesByMemberId(@Param("memberId") Long memberId);
+    interface FacetCount {
+        String getName();
+        long getTotal();
+    }
 }
\ No newline at end of file
@@ -0,0 +1,15 @@
+package com.example.repository;
+
+import com.example.model.Tag;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface TagRepository extends JpaRepository<Tag, Integer> {
+
+    // Ingestion sırasında tekilleştirme ve etiket filtresinin ID'lere çevrilmesi: name üzerinde unique index
+    List<Tag> findByNameIn(Collection<String> names);
+}
@@ -0,0 +1,184 @@
+package com.example.service;
+
+import com.example.model.Author;
+import com.example.model.Publication;
+import com.example.repository.AuthorRepository;
+import com.example.repository.PublicationRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Yazar boyutunu yönetir. Ingestion sırasında her batch'teki yazarlar authorKey ile tekilleştirilir
+ * (intern): bilinen anahtarlar bellekteki anahtar → ID önbelleğinden, kalanlar tek IN sorgusuyla
+ * çözülür, hiç olmayanlar toplu insert edilir. Böylece aynı yazar binlerce yayında tek satırdır.
+ */
+@Service
+public class AuthorService {
+
+    private static final Logger logger = LoggerFactory.getLogger(AuthorService.class);
+
+    @Autowired
+    private AuthorRepository authorRepository;
+
+    @Autowired
+    private PublicationRepository publicationRepository;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Value("${authors.intern-cache.max-entries:100000}")
+    private int internCacheMaxEntries = 100_000;
+
+    // authorKey -> author.id; yazarlar silinmediği için kayıtlar geçersiz olmaz
+    private final Map<String, Long> idsByKey = new ConcurrentHashMap<>();
+
+    // Yeni yazar insert'leri tek tek (JVM içinde) yapılır; eşzamanlı iki import aynı yazarı iki kez eklemez
+    private final Object insertLock = new Object();
+
+    // REQUIRES_NEW: çağıranın transaction'ına (örn. MemberService.addPublication) katılmaz
+    private TransactionTemplate insertTransaction;
+
+    @Autowired
+    void setTransactionManager(PlatformTransactionManager transactionManager) {
+        insertTransaction = new TransactionTemplate(transactionManager);
+        insertTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * Yayınların henüz ID'si olmayan yazarlarına veritabanındaki (gerekirse yeni eklenen) yazarın
+     * ID'sini atar. Yeni yazarlar, çağıran bir transaction içinde olsa bile ayrı bir kısa transaction'da
+     * (REQUIRES_NEW) commit edilir: eşzamanlı insert'ten doğan unique kısıt hatası sadece o transaction'ı
+     * geri alır ve bir kez yeniden denenir; çağıran sonradan geri alınsa da önbellekteki ID'ler geçerli kalır.
+     * Transaction içinden çağrılırsa insert ikinci bir bağlantı kullanır; ingestion bu yüzden yayınları
+     * yazan transaction'dan önce çağırır (bkz. PublicationBatchWriter).
+     */
+    public void intern(Collection<Publication> publications) {
+        Map<String, Long> resolved = new HashMap<>();
+        Map<String, Author> unresolved = new LinkedHashMap<>();
+        for (Publication pub : publications) {
+            for (Author author : pub.getAuthorList()) {
+                if (author.getId() == null && !resolved.containsKey(author.getAuthorKey())) {
+                    Long cached = idsByKey.get(author.getAuthorKey());
+                    if (cached != null) {
+                        resolved.put(author.getAuthorKey(), cached);
+                    } else {
+                        unresolved.putIfAbsent(author.getAuthorKey(), author);
+                    }
+                }
+            }
+        }
+
+        if (!unresolved.isEmpty()) {
+            Map<String, Long> found = findIds(unresolved.keySet());
+            unresolved.keySet().removeAll(found.keySet());
+            if (!unresolved.isEmpty()) {
+                found.putAll(insertMissing(unresolved));
+            }
+            if (idsByKey.size() + found.size() > internCacheMaxEntries) {
+                idsByKey.clear();
+            }
+            idsByKey.putAll(found);
+            resolved.putAll(found);
+        }
+
+        for (Publication pub : publications) {
+            for (Author author : pub.getAuthorList()) {
+                if (author.getId() == null) {
+                    author.setId(resolved.get(author.getAuthorKey()));
+                }
+            }
+        }
+    }
+
+    /**
+     * intern edilmiş yazarları, çağıranın transaction'ındaki referanslarla değiştirir (yeni SELECT yapılmaz).
+     */
+    public void attach(Publication publication) {
+        List<Author> references = new ArrayList<>(publication.getAuthorList().size());
+        for (Author author : publication.getAuthorList()) {
+            if (author.getId() == null) {
+                throw new IllegalStateException("Author was not interned: " + author.getAuthorKey());
+            }
+            references.add(entityManager.getReference(Author.class, author.getId()));
+        }
+        publication.setAuthorList(references);
+    }
+
+    public Page<Author> searchByName(String name, int page, int size) {
+        return authorRepository.findByNormalizedNameStartingWithOrderByNormalizedNameAsc(
+                Author.normalizeName(name), PageRequest.of(page, size));
+    }
+
+    public Author getAuthor(Long id) {
+        return authorRepository.findById(id)
+                .orElseThrow(() -> new IllegalArgumentException("Author not found with ID: " + id));
+    }
+
+    public Page<Publication> getPublications(Long authorId, int page, int size) {
+        if (!authorRepository.existsById(authorId)) {
+            throw new IllegalArgumentException("Author not found with ID: " + authorId);
+        }
+        return publicationRepository.findByAuthorId(authorId, PageRequest.of(page, size));
+    }
+
+    private Map<String, Long> findIds(Collection<String> keys) {
+        Map<String, Long> ids = new HashMap<>();
+        List<String> keyList = new ArrayList<>(keys);
+        for (int from = 0; from < keyList.size(); from += PublicationBatchWriter.IN_CLAUSE_CHUNK) {
+            List<String> chunk = keyList.subList(from, Math.min(from + PublicationBatchWriter.IN_CLAUSE_CHUNK, keyList.size()));
+            for (Author author : authorRepository.findByAuthorKeyIn(chunk)) {
+                ids.put(author.getAuthorKey(), author.getId());
+            }
+        }
+        return ids;
+    }
+
+    private Map<String, Long> insertMissing(Map<String, Author> missing) {
+        synchronized (insertLock) {
+            try {
+                return insertTransaction.execute(status -> insertWithinTransaction(missing));
+            } catch (DataIntegrityViolationException e) {
+                // Başka bir uygulama örneği aynı yazarı araya girip ekledi; kalanları tekrar dene
+                logger.debug("Concurrent author insert detected, retrying: {}", e.getMessage());
+                return insertTransaction.execute(status -> insertWithinTransaction(missing));
+            }
+        }
+    }
+
+    private Map<String, Long> insertWithinTransaction(Map<String, Author> missing) {
+        // Kilidi beklerken başka bir import aynı yazarları eklemiş olabilir
+        Map<String, Long> ids = findIds(missing.keySet());
+        List<Author> toInsert = new ArrayList<>();
+        for (Map.Entry<String, Author> entry : missing.entrySet()) {
+            if (!ids.containsKey(entry.getKey())) {
+                Author author = entry.getValue();
+                toInsert.add(new Author(author.getOpenAlexId(), author.getName()));
+            }
+        }
+        for (Author author : authorRepository.saveAll(toInsert)) {
+            ids.put(author.getAuthorKey(), author.getId());
+        }
+        authorRepository.flush();
+        logger.debug("Interned {} new authors ({} already known)", toInsert.size(), missing.size() - toInsert.size());
+        return ids;
+    }
+}
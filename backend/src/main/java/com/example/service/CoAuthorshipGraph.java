@@ -0,0 +1,305 @@
+package com.example.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * Yazarlar arası ortak yayın grafı. Yazar ID'leri yoğun int indekslere eşlenir; her düğüm için
+ * komşular sıralı int[] dizisinde, kenar ağırlıkları (ortak yayın sayısı) paralel int[] dizisinde,
+ * yazarın yayın ID'leri sıralı long[] dizisinde tutulur. Böylece iki yazarın ortak yayınları
+ * sıralı dizilerin birleştirilmesiyle, bir kenarın ağırlığı ikili aramayla bulunur.
+ * <p>
+ * Thread-safe DEĞİLDİR; eşzamanlı erişim CollaborationService'teki kilitle korunur.
+ */
+public class CoAuthorshipGraph {
+
+    private static final int[] NO_INTS = new int[0];
+    private static final long[] NO_LONGS = new long[0];
+
+    // Çok yazarlı yayınlarda (örn. binlerce yazarlı fizik makaleleri) kenar sayısı karesel büyür;
+    // bu yayınlar yazarların yayın listesine girer ama kenar üretmez
+    private final int maxAuthorsForEdges;
+
+    private final Map<Long, Integer> indexByAuthorId = new HashMap<>();
+    private long[] authorIds = new long[16];
+    private int[][] neighbors = new int[16][];
+    private int[][] weights = new int[16][];
+    private int[] degrees = new int[16];
+    private long[][] publications = new long[16][];
+    private int[] publicationCounts = new int[16];
+    private int nodeCount;
+    private long edgeCount;
+
+    // Yayın ID'si -> yazar düğümleri (yayındaki sırayla); silme ve tekrar eklemede kullanılır
+    private final Map<Long, int[]> authorsByPublication = new HashMap<>();
+
+    public CoAuthorshipGraph(int maxAuthorsForEdges) {
+        this.maxAuthorsForEdges = maxAuthorsForEdges;
+    }
+
+    /**
+     * Komşu yazar ve ortak yayın sayısı.
+     */
+    public record Collaboration(long authorId, int sharedPublications) {
+    }
+
+    /**
+     * Yayını verilen yazarlarla ekler. Yayın zaten aynı yazarlarla varsa bir şey yapmaz, farklı
+     * yazarlarla varsa önce eski hali çıkarılır; bu sayede aynı olayın iki kez uygulanması zararsızdır.
+     */
+    public void putPublication(long publicationId, long[] publicationAuthorIds) {
+        int[] nodes = distinctNodes(publicationAuthorIds);
+        int[] previous = authorsByPublication.get(publicationId);
+        if (previous != null) {
+            if (Arrays.equals(previous, nodes)) {
+                return;
+            }
+            removePublication(publicationId);
+        }
+        authorsByPublication.put(publicationId, nodes);
+        for (int node : nodes) {
+            addPublicationToNode(node, publicationId);
+        }
+        if (nodes.length <= maxAuthorsForEdges) {
+            for (int i = 0; i < nodes.length; i++) {
+                for (int j = i + 1; j < nodes.length; j++) {
+                    adjustWeight(nodes[i], nodes[j], 1);
+                    adjustWeight(nodes[j], nodes[i], 1);
+                }
+            }
+        }
+    }
+
+    public void removePublication(long publicationId) {
+        int[] nodes = authorsByPublication.remove(publicationId);
+        if (nodes == null) {
+            return;
+        }
+        for (int node : nodes) {
+            removePublicationFromNode(node, publicationId);
+        }
+        if (nodes.length <= maxAuthorsForEdges) {
+            for (int i = 0; i < nodes.length; i++) {
+                for (int j = i + 1; j < nodes.length; j++) {
+                    adjustWeight(nodes[i], nodes[j], -1);
+                    adjustWeight(nodes[j], nodes[i], -1);
+                }
+            }
+        }
+    }
+
+    /**
+     * Yazarın en çok ortak yayını olan komşuları, ağırlığa göre azalan sırada.
+     */
+    public List<Collaboration> topCollaborators(long authorId, int limit) {
+        Integer node = indexByAuthorId.get(authorId);
+        if (node == null || limit <= 0) {
+            return List.of();
+        }
+        int[] nodeNeighbors = neighbors[node];
+        int[] nodeWeights = weights[node];
+        // k elemanlı min-heap: derece d için O(d log k)
+        PriorityQueue<int[]> top = new PriorityQueue<>(limit + 1, (a, b) -> a[1] != b[1]
+                ? Integer.compare(a[1], b[1])
+                : Long.compare(authorIds[b[0]], authorIds[a[0]]));
+        for (int i = 0; i < degrees[node]; i++) {
+            top.add(new int[]{nodeNeighbors[i], nodeWeights[i]});
+            if (top.size() > limit) {
+                top.poll();
+            }
+        }
+        Collaboration[] result = new Collaboration[top.size()];
+        for (int i = result.length - 1; i >= 0; i--) {
+            int[] entry = top.poll();
+            result[i] = new Collaboration(authorIds[entry[0]], entry[1]);
+        }
+        return Arrays.asList(result);
+    }
+
+    public int weight(long authorId, long otherAuthorId) {
+        Integer node = indexByAuthorId.get(authorId);
+        Integer other = indexByAuthorId.get(otherAuthorId);
+        if (node == null || other == null) {
+            return 0;
+        }
+        int position = Arrays.binarySearch(neighbors[node], 0, degrees[node], other);
+        return position >= 0 ? weights[node][position] : 0;
+    }
+
+    /**
+     * İki yazarın ortak yayın ID'leri (artan sırada); sıralı dizilerin birleştirilmesiyle O(n + m).
+     */
+    public long[] sharedPublications(long authorId, long otherAuthorId) {
+        Integer node = indexByAuthorId.get(authorId);
+        Integer other = indexByAuthorId.get(otherAuthorId);
+        if (node == null || other == null) {
+            return NO_LONGS;
+        }
+        long[] left = publications[node];
+        long[] right = publications[other];
+        int leftCount = publicationCounts[node];
+        int rightCount = publicationCounts[other];
+        long[] shared = new long[Math.min(leftCount, rightCount)];
+        int size = 0;
+        for (int i = 0, j = 0; i < leftCount && j < rightCount; ) {
+            if (left[i] < right[j]) {
+                i++;
+            } else if (left[i] > right[j]) {
+                j++;
+            } else {
+                shared[size++] = left[i];
+                i++;
+                j++;
+            }
+        }
+        return Arrays.copyOf(shared, size);
+    }
+
+    public int publicationCount(long authorId) {
+        Integer node = indexByAuthorId.get(authorId);
+        return node != null ? publicationCounts[node] : 0;
+    }
+
+    public int degree(long authorId) {
+        Integer node = indexByAuthorId.get(authorId);
+        return node != null ? degrees[node] : 0;
+    }
+
+    public int nodeCount() {
+        return nodeCount;
+    }
+
+    /**
+     * Yönsüz kenar sayısı.
+     */
+    public long edgeCount() {
+        return edgeCount;
+    }
+
+    public int publicationCount() {
+        return authorsByPublication.size();
+    }
+
+    private int[] distinctNodes(long[] publicationAuthorIds) {
+        int[] nodes = new int[publicationAuthorIds.length];
+        int size = 0;
+        outer:
+        for (long authorId : publicationAuthorIds) {
+            int node = nodeFor(authorId);
+            for (int i = 0; i < size; i++) {
+                if (nodes[i] == node) {
+                    continue outer;
+                }
+            }
+            nodes[size++] = node;
+        }
+        return size == nodes.length ? nodes : Arrays.copyOf(nodes, size);
+    }
+
+    private int nodeFor(long authorId) {
+        Integer existing = indexByAuthorId.get(authorId);
+        if (existing != null) {
+            return existing;
+        }
+        if (nodeCount == authorIds.length) {
+            int capacity = nodeCount * 2;
+            authorIds = Arrays.copyOf(authorIds, capacity);
+            neighbors = Arrays.copyOf(neighbors, capacity);
+            weights = Arrays.copyOf(weights, capacity);
+            degrees = Arrays.copyOf(degrees, capacity);
+            publications = Arrays.copyOf(publications, capacity);
+            publicationCounts = Arrays.copyOf(publicationCounts, capacity);
+        }
+        int node = nodeCount++;
+        authorIds[node] = authorId;
+        neighbors[node] = NO_INTS;
+        weights[node] = NO_INTS;
+        publications[node] = NO_LONGS;
+        indexByAuthorId.put(authorId, node);
+        return node;
+    }
+
+    private void adjustWeight(int node, int neighbor, int delta) {
+        int degree = degrees[node];
+        int position = Arrays.binarySearch(neighbors[node], 0, degree, neighbor);
+        if (position >= 0) {
+            int weight = weights[node][position] + delta;
+            if (weight > 0) {
+                weights[node][position] = weight;
+                return;
+            }
+            // Kenar kalktı: sıralı dizilerden çıkar
+            System.arraycopy(neighbors[node], position + 1, neighbors[node], position, degree - position - 1);
+            System.arraycopy(weights[node], position + 1, weights[node], position, degree - position - 1);
+            degrees[node] = degree - 1;
+            if (node < neighbor) {
+                edgeCount--;
+            }
+            return;
+        }
+        if (delta <= 0) {
+            return;
+        }
+        int insertAt = -position - 1;
+        if (degree == neighbors[node].length) {
+            int capacity = Math.max(4, degree * 2);
+            neighbors[node] = Arrays.copyOf(neighbors[node], capacity);
+            weights[node] = Arrays.copyOf(weights[node], capacity);
+        }
+        System.arraycopy(neighbors[node], insertAt, neighbors[node], insertAt + 1, degree - insertAt);
+        System.arraycopy(weights[node], insertAt, weights[node], insertAt + 1, degree - insertAt);
+        neighbors[node][insertAt] = neighbor;
+        weights[node][insertAt] = delta;
+        degrees[node] = degree + 1;
+        if (node < neighbor) {
+            edgeCount++;
+        }
+    }
+
+    private void addPublicationToNode(int node, long publicationId) {
+        int count = publicationCounts[node];
+        long[] nodePublications = publications[node];
+        // Sequence ID'ler artan geldiği için çoğunlukla sona eklenir
+        int insertAt = count == 0 || nodePublications[count - 1] < publicationId
+                ? count
+                : -Arrays.binarySearch(nodePublications, 0, count, publicationId) - 1;
+        if (insertAt < 0) {
+            return;
+        }
+        if (count == nodePublications.length) {
+            nodePublications = Arrays.copyOf(nodePublications, Math.max(4, count * 2));
+            publications[node] = nodePublications;
+        }
+        System.arraycopy(nodePublications, insertAt, nodePublications, insertAt + 1, count - insertAt);
+        nodePublications[insertAt] = publicationId;
+        publicationCounts[node] = count + 1;
+    }
+
+    private void removePublicationFromNode(int node, long publicationId) {
+        int count = publicationCounts[node];
+        int position = Arrays.binarySearch(publications[node], 0, count, publicationId);
+        if (position >= 0) {
+            System.arraycopy(publications[node], position + 1, publications[node], position, count - position - 1);
+            publicationCounts[node] = count - 1;
+        }
+    }
+
+    /**
+     * Test ve teşhis için: yayın -> yazar ID'leri.
+     */
+    List<Long> authorsOf(long publicationId) {
+        int[] nodes = authorsByPublication.get(publicationId);
+        if (nodes == null) {
+            return List.of();
+        }
+        List<Long> ids = new ArrayList<>(nodes.length);
+        for (int node : nodes) {
+            ids.add(authorIds[node]);
+        }
+        return ids;
+    }
+}
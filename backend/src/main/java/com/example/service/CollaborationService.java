@@ -0,0 +1,363 @@
+package com.example.service;
+
+import com.example.model.Author;
+import com.example.model.Member;
+import com.example.model.Publication;
+import com.example.repository.AuthorRepository;
+import com.example.repository.MemberRepository;
+import com.example.repository.PublicationRepository;
+import com.example.repository.PublicationRepository.PublicationAuthorRow;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Grubun ortak yazarlık grafını bellekte tutar (bkz. CoAuthorshipGraph). Graf açılışta tek sorguyla
+ * kurulur, sonra PublicationsChangedEvent'lerle commit sonrası artımlı güncellenir; sorgular
+ * veritabanına gitmeden graf üzerinden cevaplanır (isim ve yayın detayları hariç).
+ * <p>
+ * Üyeler grafta yazar olarak temsil edilir: OpenAlex ID'si eşleşen yazar, yoksa adı eşleşen yazar,
+ * o da yoksa üyenin yayınlarında en sık geçen yazar. Aynı makale iki üyede de olsa tek satır
+ * saklandığı için (URL tekilliği) üyeler arası işbirliği yazar düğümleri üzerinden bulunur.
+ */
+@Service
+public class CollaborationService {
+
+    private static final Logger logger = LoggerFactory.getLogger(CollaborationService.class);
+
+    @Autowired
+    private PublicationRepository publicationRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private AuthorRepository authorRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Value("${coauthors.graph.max-authors-per-publication:100}")
+    private int maxAuthorsPerPublication = 100;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    // Açılıştaki rebuild'e kadar boş yer tutucu; rebuild grafı veritabanından baştan kurar
+    private CoAuthorshipGraph graph = new CoAuthorshipGraph(0);
+
+    // memberId -> yazar ID'si; sadece çözülebilen üyeler saklanır
+    private final Map<Long, Long> authorIdsByMember = new ConcurrentHashMap<>();
+    // Tersi (yazar ID'si -> memberId): işbirlikçilerin grup üyesi olup olmadığı her istekte tüm üyeler okunmadan bulunur
+    private final Map<Long, Long> memberIdsByAuthor = new ConcurrentHashMap<>();
+    // Tüm üyeler bir kez çözüldükten sonra sadece yeni eklenen veya yeni yayını gelen üyeler çözülür
+    private final Set<Long> unresolvedMembers = ConcurrentHashMap.newKeySet();
+    private volatile boolean membersResolved;
+
+    /**
+     * @param memberId yazar bir grup üyesiyse üyenin ID'si, değilse null
+     */
+    public record Collaborator(Long authorId, String name, Long memberId, int sharedPublications) {
+    }
+
+    public record GraphNode(Long memberId, String name, Long authorId, int publicationCount) {
+    }
+
+    public record GraphEdge(Long sourceMemberId, Long targetMemberId, int sharedPublications) {
+    }
+
+    public record CollaborationGraph(List<GraphNode> nodes, List<GraphEdge> edges) {
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        lock.writeLock().lock();
+        try {
+            long started = System.nanoTime();
+            CoAuthorshipGraph rebuilt = new CoAuthorshipGraph(maxAuthorsPerPublication);
+            List<PublicationAuthorRow> rows = transactionTemplate.execute(status -> publicationRepository.findAllPublicationAuthors());
+            long[] buffer = new long[16];
+            int size = 0;
+            long current = Long.MIN_VALUE;
+            for (PublicationAuthorRow row : rows) {
+                if (row.getPublicationId() != current) {
+                    if (size > 0) {
+                        rebuilt.putPublication(current, Arrays.copyOf(buffer, size));
+                    }
+                    current = row.getPublicationId();
+                    size = 0;
+                }
+                if (size == buffer.length) {
+                    buffer = Arrays.copyOf(buffer, size * 2);
+                }
+                buffer[size++] = row.getAuthorId();
+            }
+            if (size > 0) {
+                rebuilt.putPublication(current, Arrays.copyOf(buffer, size));
+            }
+            graph = rebuilt;
+            authorIdsByMember.clear();
+            memberIdsByAuthor.clear();
+            membersResolved = false;
+            logger.info("Built co-authorship graph: {} publications, {} authors, {} edges in {} ms",
+                    rebuilt.publicationCount(), rebuilt.nodeCount(), rebuilt.edgeCount(),
+                    (System.nanoTime() - started) / 1_000_000);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Yayın değişikliklerini commit'ten sonra uygular; transaction dışında yayımlanan olaylar
+     * (örn. deleteMember) hemen uygulanır. Graf işlemleri idempotent olduğu için açılıştaki
+     * kurulumla çakışan olaylar zararsızdır. Yazarı henüz çözülmemiş üyelerin yeni yayınları
+     * (örn. en sık geçen yazar) çözümü değiştirebileceği için bu üyeler yeniden çözülmek üzere işaretlenir.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onPublicationsChanged(PublicationsChangedEvent event) {
+        if (event.isEmpty()) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            for (Long publicationId : event.removedPublicationIds()) {
+                graph.removePublication(publicationId);
+            }
+            for (PublicationsChangedEvent.PublicationSnapshot publication : event.upserted()) {
+                graph.putPublication(publication.publicationId(), publication.authorIds());
+                if (publication.memberId() != null && !authorIdsByMember.containsKey(publication.memberId())) {
+                    unresolvedMembers.add(publication.memberId());
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Yeni kaydedilen üye, sonraki işbirlikçi sorgusunda yazar olarak çözülür (yayını olmasa da
+     * OpenAlex ID'si veya adı başka üyelerin yayınlarındaki bir yazarla eşleşebilir).
+     */
+    public void rememberMember(Long memberId) {
+        unresolvedMembers.add(memberId);
+    }
+
+    public void forgetMember(Long memberId) {
+        unresolvedMembers.remove(memberId);
+        Long authorId = authorIdsByMember.remove(memberId);
+        if (authorId != null) {
+            memberIdsByAuthor.remove(authorId, memberId);
+        }
+    }
+
+    /**
+     * Üyenin en çok ortak yayını olan yazarlar; grup üyesi olan yazarlar memberId ile işaretlenir.
+     */
+    public List<Collaborator> getTopCollaborators(Long memberId, int limit) {
+        if (limit <= 0) {
+            throw new IllegalArgumentException("limit must be positive");
+        }
+        Member member = memberRepository.findById(memberId)
+                .orElseThrow(() -> new IllegalArgumentException("Member not found with ID: " + memberId));
+        Long authorId = resolveAuthorIds(List.of(member)).get(memberId);
+        if (authorId == null) {
+            return List.of();
+        }
+
+        List<CoAuthorshipGraph.Collaboration> top;
+        lock.readLock().lock();
+        try {
+            top = graph.topCollaborators(authorId, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+        if (top.isEmpty()) {
+            return List.of();
+        }
+
+        List<Long> ids = new ArrayList<>(top.size());
+        for (CoAuthorshipGraph.Collaboration collaboration : top) {
+            ids.add(collaboration.authorId());
+        }
+        Map<Long, String> names = new HashMap<>();
+        for (Author author : authorRepository.findAllById(ids)) {
+            names.put(author.getId(), author.getName());
+        }
+        resolvePendingMembers();
+
+        List<Collaborator> collaborators = new ArrayList<>(top.size());
+        for (CoAuthorshipGraph.Collaboration collaboration : top) {
+            collaborators.add(new Collaborator(collaboration.authorId(), names.get(collaboration.authorId()),
+                    memberIdsByAuthor.get(collaboration.authorId()), collaboration.sharedPublications()));
+        }
+        return collaborators;
+    }
+
+    /**
+     * İki üyenin ortak yayınları, yayın ID'sine göre sıralı sayfalar halinde.
+     */
+    public Page<Publication> getSharedPublications(Long memberId, Long otherMemberId, int page, int size) {
+        Member member = memberRepository.findById(memberId)
+                .orElseThrow(() -> new IllegalArgumentException("Member not found with ID: " + memberId));
+        Member other = memberRepository.findById(otherMemberId)
+                .orElseThrow(() -> new IllegalArgumentException("Member not found with ID: " + otherMemberId));
+        PageRequest pageRequest = PageRequest.of(page, size);
+
+        Map<Long, Long> authorIds = resolveAuthorIds(List.of(member, other));
+        Long authorId = authorIds.get(memberId);
+        Long otherAuthorId = authorIds.get(otherMemberId);
+        if (authorId == null || otherAuthorId == null || authorId.equals(otherAuthorId)) {
+            return Page.empty(pageRequest);
+        }
+
+        long[] shared;
+        lock.readLock().lock();
+        try {
+            shared = graph.sharedPublications(authorId, otherAuthorId);
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        int from = (int) Math.min(pageRequest.getOffset(), shared.length);
+        int to = Math.min(from + size, shared.length);
+        List<Long> ids = new ArrayList<>(to - from);
+        for (int i = from; i < to; i++) {
+            ids.add(shared[i]);
+        }
+        List<Publication> content = new ArrayList<>(publicationRepository.findAllById(ids));
+        content.sort(Comparator.comparing(Publication::getId));
+        return new PageImpl<>(content, pageRequest, shared.length);
+    }
+
+    /**
+     * Görselleştirme için üye grafı: düğümler üyeler, kenarlar en az minWeight ortak yayını olan üye çiftleri.
+     */
+    public CollaborationGraph getGroupGraph(int minWeight) {
+        if (minWeight <= 0) {
+            throw new IllegalArgumentException("minWeight must be positive");
+        }
+        List<Member> members = memberRepository.findAll();
+        members.sort(Comparator.comparing(Member::getId));
+        Map<Long, Long> authorIds = resolveAuthorIds(members);
+
+        List<GraphNode> nodes = new ArrayList<>(members.size());
+        List<GraphEdge> edges = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            for (Member member : members) {
+                Long authorId = authorIds.get(member.getId());
+                nodes.add(new GraphNode(member.getId(), member.getName(), authorId,
+                        authorId != null ? graph.publicationCount(authorId) : 0));
+            }
+            // Üye sayısı küçük; çift başına ağırlık ikili aramayla bulunur
+            for (int i = 0; i < nodes.size(); i++) {
+                Long authorId = nodes.get(i).authorId();
+                if (authorId == null) {
+                    continue;
+                }
+                for (int j = i + 1; j < nodes.size(); j++) {
+                    Long otherAuthorId = nodes.get(j).authorId();
+                    if (otherAuthorId == null || authorId.equals(otherAuthorId)) {
+                        continue;
+                    }
+                    int weight = graph.weight(authorId, otherAuthorId);
+                    if (weight >= minWeight) {
+                        edges.add(new GraphEdge(nodes.get(i).memberId(), nodes.get(j).memberId(), weight));
+                    }
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return new CollaborationGraph(nodes, edges);
+    }
+
+    /**
+     * Ters haritayı ({@link #memberIdsByAuthor}) güncel tutar: rebuild'den sonraki ilk çağrıda tüm üyeler,
+     * sonra sadece işaretlenmiş üyeler çözülür.
+     */
+    private void resolvePendingMembers() {
+        if (!membersResolved) {
+            resolveAuthorIds(memberRepository.findAll());
+            membersResolved = true;
+            return;
+        }
+        if (unresolvedMembers.isEmpty()) {
+            return;
+        }
+        List<Long> pending = new ArrayList<>(unresolvedMembers);
+        unresolvedMembers.removeAll(pending);
+        resolveAuthorIds(memberRepository.findAllById(pending));
+    }
+
+    /**
+     * Üyeleri yazar ID'lerine eşler. Önbellekte olmayanlar için OpenAlex ve ad anahtarları tek IN
+     * sorgusuyla, bulunamayanlar üyenin en sık geçen yazarıyla çözülür; çözülemeyen üye haritada yer almaz.
+     */
+    private Map<Long, Long> resolveAuthorIds(List<Member> members) {
+        Map<Long, Long> resolved = new HashMap<>();
+        List<Member> unresolved = new ArrayList<>();
+        for (Member member : members) {
+            Long cached = authorIdsByMember.get(member.getId());
+            if (cached != null) {
+                resolved.put(member.getId(), cached);
+            } else {
+                unresolved.add(member);
+            }
+        }
+        if (unresolved.isEmpty()) {
+            return resolved;
+        }
+
+        Map<Long, String> idKeys = new HashMap<>();
+        Map<Long, String> nameKeys = new HashMap<>();
+        for (Member member : unresolved) {
+            if (member.getOpenAlexId() != null && !member.getOpenAlexId().isBlank()) {
+                idKeys.put(member.getId(), new Author(member.getOpenAlexId(), member.getName()).getAuthorKey());
+            }
+            nameKeys.put(member.getId(), new Author(null, member.getName()).getAuthorKey());
+        }
+        List<String> keys = new ArrayList<>(idKeys.values());
+        keys.addAll(nameKeys.values());
+        Map<String, Long> authorsByKey = new HashMap<>();
+        for (Author author : authorRepository.findByAuthorKeyIn(keys)) {
+            authorsByKey.put(author.getAuthorKey(), author.getId());
+        }
+
+        for (Member member : unresolved) {
+            Long authorId = authorsByKey.get(idKeys.get(member.getId()));
+            if (authorId == null) {
+                authorId = authorsByKey.get(nameKeys.get(member.getId()));
+            }
+            if (authorId == null) {
+                List<Long> frequent = publicationRepository.findMostFrequentAuthorIds(member.getId(), PageRequest.of(0, 1));
+                authorId = frequent.isEmpty() ? null : frequent.get(0);
+            }
+            if (authorId != null) {
+                authorIdsByMember.put(member.getId(), authorId);
+                memberIdsByAuthor.put(authorId, member.getId());
+                resolved.put(member.getId(), authorId);
+            }
+        }
+        return resolved;
+    }
+}
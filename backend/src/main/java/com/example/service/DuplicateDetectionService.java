@@ -0,0 +1,313 @@
+package com.example.service;
+
+import com.example.model.Author;
+import com.example.model.Publication;
+import com.example.repository.AuthorRepository;
+import com.example.repository.AuthorRepository.AuthorName;
+import com.example.repository.PublicationRepository;
+import com.example.repository.PublicationRepository.PublicationAuthorRow;
+import com.example.repository.PublicationRepository.SearchRow;
+import com.example.service.PublicationsChangedEvent.PublicationSnapshot;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Farklı sağlayıcılardan (OpenAlex DOI URL'si, Scholar bağlantısı) gelen aynı yayını bulur.
+ * identifier_url tekilliği sadece birebir aynı URL'yi yakalar; bu servis başlıkların MinHash/LSH
+ * indeksiyle (NearDuplicateIndex) adayları tüm tabloyu taramadan bulur, yıl ve yazar örtüşmesiyle
+ * doğrular. Ingestion yeni yayınları kaydetmeden önce sorar (nearDuplicateUrls); mevcut tablo
+ * deduplicate ile temizlenir. İndeks açılışta kurulur, PublicationsChangedEvent'lerle güncellenir.
+ */
+@Service
+public class DuplicateDetectionService {
+
+    private static final Logger logger = LoggerFactory.getLogger(DuplicateDetectionService.class);
+
+    private static final String DOI_PREFIX = "https://doi.org/";
+
+    /**
+     * Birleştirilen bir küme: tutulan yayın ve silinen (dryRun'da silinecek) kopyaları.
+     */
+    public record DuplicateCluster(long keptPublicationId, String title, List<Long> duplicatePublicationIds) {
+    }
+
+    public record DeduplicationReport(boolean dryRun, int scannedPublications, int removedPublications,
+                                      List<DuplicateCluster> clusters) {
+    }
+
+    @Autowired
+    private PublicationRepository publicationRepository;
+
+    @Autowired
+    private AuthorRepository authorRepository;
+
+    @Autowired
+    private PublicationService publicationService;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Value("${publications.dedup.enabled:true}")
+    private boolean enabled = true;
+
+    // Tahmini başlık benzerliği (shingle Jaccard) bu eşiğin altındaysa yayınlar farklı sayılır
+    @Value("${publications.dedup.title-similarity:0.8}")
+    private double titleSimilarity = 0.8;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private NearDuplicateIndex index = new NearDuplicateIndex();
+
+    // Yazar ID'si → normalize ad; olaylardaki yazarlar için, eksikler veritabanından tamamlanır
+    private final Map<Long, String> authorNames = new ConcurrentHashMap<>();
+
+    // Açılıştaki kurulum bitene kadar false
+    private volatile boolean ready;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        if (!enabled) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            long started = System.nanoTime();
+            NearDuplicateIndex rebuilt = new NearDuplicateIndex();
+            transactionTemplate.executeWithoutResult(status -> {
+                for (AuthorName author : authorRepository.findAllNames()) {
+                    authorNames.put(author.getId(), author.getNormalizedName());
+                }
+                Map<Long, List<String>> namesByPublication = new HashMap<>();
+                for (PublicationAuthorRow row : publicationRepository.findAllPublicationAuthors()) {
+                    namesByPublication.computeIfAbsent(row.getPublicationId(), key -> new ArrayList<>())
+                            .add(authorNames.get(row.getAuthorId()));
+                }
+                for (SearchRow row : publicationRepository.findAllSearchRows()) {
+                    rebuilt.put(row.getPublicationId(), NearDuplicateIndex.key(row.getTitle(), row.getPublicationYear(),
+                            namesByPublication.getOrDefault(row.getPublicationId(), List.of())));
+                }
+            });
+            index = rebuilt;
+            ready = true;
+            logger.info("Built near-duplicate index: {} publications in {} ms",
+                    rebuilt.publicationCount(), (System.nanoTime() - started) / 1_000_000);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onPublicationsChanged(PublicationsChangedEvent event) {
+        if (!enabled || event.isEmpty()) {
+            return;
+        }
+        loadMissingAuthorNames(event.upserted());
+        List<NearDuplicateIndex.Key> keys = new ArrayList<>(event.upserted().size());
+        for (PublicationSnapshot publication : event.upserted()) {
+            List<String> names = new ArrayList<>(publication.authorIds().length);
+            for (long authorId : publication.authorIds()) {
+                names.add(authorNames.get(authorId));
+            }
+            keys.add(NearDuplicateIndex.key(publication.title(), publication.publicationYear(), names));
+        }
+
+        lock.writeLock().lock();
+        try {
+            for (Long publicationId : event.removedPublicationIds()) {
+                index.remove(publicationId);
+            }
+            for (int i = 0; i < keys.size(); i++) {
+                index.put(event.upserted().get(i).publicationId(), keys.get(i));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Kaydedilmemiş yayınlardan, kayıtlı bir yayının veya listede kendinden önce gelen bir yayının
+     * kopyası olanların identifier URL'leri. Yazarlar henüz attach edilmemiş (adları yüklü) olmalıdır.
+     * İndeks hazır değilse boş döner.
+     */
+    public Set<String> nearDuplicateUrls(Collection<Publication> incoming) {
+        if (!enabled || !ready || incoming.isEmpty()) {
+            return Set.of();
+        }
+        Set<String> duplicates = new HashSet<>();
+        NearDuplicateIndex batch = new NearDuplicateIndex();
+        long position = 0;
+        lock.readLock().lock();
+        try {
+            for (Publication publication : incoming) {
+                List<String> names = new ArrayList<>(publication.getAuthorList().size());
+                for (Author author : publication.getAuthorList()) {
+                    names.add(author.getNormalizedName());
+                }
+                NearDuplicateIndex.Key key = NearDuplicateIndex.key(publication.getTitle(), publication.getPublicationYear(), names);
+                List<Long> existing = index.matches(key, titleSimilarity, -1);
+                if (!existing.isEmpty() || !batch.matches(key, titleSimilarity, -1).isEmpty()) {
+                    duplicates.add(publication.getIdentifierUrl());
+                    logger.debug("Skipping near-duplicate publication {} (matches {})", publication.getIdentifierUrl(),
+                            existing.isEmpty() ? "an earlier work in the batch" : "publication " + existing.get(0));
+                } else {
+                    batch.put(position++, key);
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return duplicates;
+    }
+
+    /**
+     * Mevcut tablodaki kopya kümelerini bulur; dryRun değilse her kümede bir yayını tutar, diğerlerinin
+     * etiketlerini ona ekleyip kopyaları siler (üye sayaçları PublicationService.deletePublication ile düşer).
+     * Tutulan yayın: DOI URL'si olan, sonra atıfı en yüksek, sonra en eski kayıt. İndeks hazır değilse boş döner.
+     */
+    public Optional<DeduplicationReport> deduplicate(boolean dryRun) {
+        if (!enabled || !ready) {
+            return Optional.empty();
+        }
+        List<List<Long>> clusters;
+        int scanned;
+        lock.readLock().lock();
+        try {
+            scanned = index.publicationCount();
+            clusters = findClusters();
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        List<DuplicateCluster> report = new ArrayList<>(clusters.size());
+        int removed = 0;
+        for (List<Long> cluster : clusters) {
+            List<ClusterEntry> entries = transactionTemplate.execute(status -> load(cluster));
+            if (entries.size() < 2) {
+                continue;
+            }
+            entries.sort(Comparator.comparing((ClusterEntry entry) -> !entry.doi())
+                    .thenComparing(ClusterEntry::citedByCount, Comparator.reverseOrder())
+                    .thenComparing(ClusterEntry::id));
+            ClusterEntry kept = entries.get(0);
+            List<Long> duplicateIds = new ArrayList<>(entries.size() - 1);
+            Set<String> tags = new LinkedHashSet<>(kept.tags());
+            for (ClusterEntry duplicate : entries.subList(1, entries.size())) {
+                duplicateIds.add(duplicate.id());
+                tags.addAll(duplicate.tags());
+            }
+            report.add(new DuplicateCluster(kept.id(), kept.title(), duplicateIds));
+            if (dryRun) {
+                continue;
+            }
+            if (tags.size() > kept.tags().size()) {
+                publicationService.updatePublicationTags(kept.id(), new ArrayList<>(tags));
+            }
+            for (Long duplicateId : duplicateIds) {
+                publicationService.deletePublication(duplicateId);
+                removed++;
+            }
+        }
+        logger.info("Deduplication {}: {} clusters, {} publications removed", dryRun ? "dry run" : "run",
+                report.size(), removed);
+        return Optional.of(new DeduplicationReport(dryRun, scanned, removed, report));
+    }
+
+    private record ClusterEntry(long id, String title, boolean doi, int citedByCount, List<String> tags) {
+    }
+
+    private List<ClusterEntry> load(List<Long> ids) {
+        List<ClusterEntry> entries = new ArrayList<>(ids.size());
+        for (Publication publication : publicationRepository.findAllById(ids)) {
+            String url = publication.getIdentifierUrl();
+            entries.add(new ClusterEntry(publication.getId(), publication.getTitle(),
+                    url != null && url.startsWith(DOI_PREFIX), publication.getCitedByCount(), publication.getTags()));
+        }
+        return entries;
+    }
+
+    /**
+     * Doğrulanmış eşleşmelerin bağlantılı bileşenleri (union-find), en küçük yayın ID'sine göre sıralı.
+     */
+    private List<List<Long>> findClusters() {
+        Map<Long, Long> parent = new HashMap<>();
+        for (long publicationId : index.publicationIds()) {
+            for (long match : index.matches(index.keyOf(publicationId), titleSimilarity, publicationId)) {
+                union(parent, publicationId, match);
+            }
+        }
+        Map<Long, List<Long>> components = new TreeMap<>();
+        for (Long publicationId : parent.keySet()) {
+            components.computeIfAbsent(find(parent, publicationId), key -> new ArrayList<>()).add(publicationId);
+        }
+        List<List<Long>> clusters = new ArrayList<>(components.size());
+        for (List<Long> component : components.values()) {
+            component.sort(null);
+            clusters.add(component);
+        }
+        clusters.sort(Comparator.comparing(component -> component.get(0)));
+        return clusters;
+    }
+
+    private static void union(Map<Long, Long> parent, long a, long b) {
+        long rootA = find(parent, a);
+        long rootB = find(parent, b);
+        if (rootA != rootB) {
+            parent.put(Math.max(rootA, rootB), Math.min(rootA, rootB));
+        }
+    }
+
+    private static long find(Map<Long, Long> parent, long id) {
+        parent.putIfAbsent(id, id);
+        long root = id;
+        while (parent.get(root) != root) {
+            root = parent.get(root);
+        }
+        // Yol sıkıştırma
+        while (parent.get(id) != root) {
+            long nextId = parent.get(id);
+            parent.put(id, root);
+            id = nextId;
+        }
+        return root;
+    }
+
+    private void loadMissingAuthorNames(List<PublicationSnapshot> publications) {
+        Set<Long> missing = new LinkedHashSet<>();
+        for (PublicationSnapshot publication : publications) {
+            for (long authorId : publication.authorIds()) {
+                if (!authorNames.containsKey(authorId)) {
+                    missing.add(authorId);
+                }
+            }
+        }
+        List<Long> idList = new ArrayList<>(missing);
+        for (int from = 0; from < idList.size(); from += PublicationBatchWriter.IN_CLAUSE_CHUNK) {
+            List<Long> chunk = idList.subList(from, Math.min(from + PublicationBatchWriter.IN_CLAUSE_CHUNK, idList.size()));
+            for (AuthorName author : authorRepository.findNamesByIdIn(chunk)) {
+                authorNames.put(author.getId(), author.getNormalizedName());
+            }
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.example.service;
+
+import com.example.model.FetchJob;
+import com.example.model.Member;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Üye çekme işlerini sınırlı bir havuzda asenkron çalıştırır ve ilerlemelerini tutar.
+ * Kuyruk doluysa yeni iş kabul edilmez (FetchQueueFullException -> 429).
+ */
+@Service
+public class FetchJobService {
+
+    private static final Logger logger = LoggerFactory.getLogger(FetchJobService.class);
+
+    private final Map<String, FetchJob> jobs = new ConcurrentHashMap<>();
+
+    @Autowired
+    private MemberService memberService;
+
+    @Autowired
+    @Qualifier("fetchJobExecutor")
+    private ExecutorService fetchJobExecutor;
+
+    @Value("${fetch.jobs.retention:PT1H}")
+    private Duration retention;
+
+    public FetchJob submit(String sourceId, String providerType) {
+        evictExpiredJobs();
+
+        String trimmedId = sourceId.trim();
+        // Geçersiz sağlayıcıyı kuyruğa almadan önce reddet (400)
+        memberService.getProviderFactory().getProvider(providerType);
+
+        FetchJob job = new FetchJob(UUID.randomUUID().toString(), trimmedId, providerType);
+        jobs.put(job.getId(), job);
+        try {
+            fetchJobExecutor.execute(() -> run(job));
+        } catch (RejectedExecutionException e) {
+            jobs.remove(job.getId());
+            logger.warn("Fetch job queue is full, rejecting fetch for sourceId: {}", trimmedId);
+            throw new FetchQueueFullException("Fetch job queue is full", e);
+        }
+        logger.info("Queued fetch job {} for sourceId: {} using provider: {}", job.getId(), trimmedId, providerType);
+        return job;
+    }
+
+    public Optional<FetchJob> getJob(String jobId) {
+        return Optional.ofNullable(jobs.get(jobId));
+    }
+
+    private void run(FetchJob job) {
+        job.markRunning();
+        logger.info("Starting fetch job {} for sourceId: {}", job.getId(), job.getSourceId());
+        try {
+            Member member = memberService.fetchAndSaveMember(job.getSourceId(), job.getProviderType(), job::recordPage);
+            job.markCompleted(member.getId());
+            logger.info("Fetch job {} completed: {} publications saved, {} duplicates skipped",
+                    job.getId(), job.getPublicationsSaved(), job.getDuplicatesSkipped());
+        } catch (Exception e) {
+            logger.error("Fetch job {} failed: {}", job.getId(), e.getMessage(), e);
+            job.markFailed(e.getMessage());
+        }
+    }
+
+    private void evictExpiredJobs() {
+        Instant cutoff = Instant.now().minus(retention);
+        jobs.values().removeIf(job -> job.isFinished() && job.getFinishedAt().isBefore(cutoff));
+    }
+}
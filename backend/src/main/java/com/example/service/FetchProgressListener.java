@@ -0,0 +1,12 @@
+package com.example.service;
+
+/**
+ * fetchAndSaveMember ilerlemesini takip etmek için: her sayfa kaydedildikten sonra çağrılır.
+ */
+@FunctionalInterface
+public interface FetchProgressListener {
+
+    FetchProgressListener NONE = (saved, duplicates) -> { };
+
+    void onPagePersisted(int saved, int duplicates);
+}
@@ -0,0 +1,11 @@
+package com.example.service;
+
+/**
+ * Çekme işi kuyruğu dolu olduğu için yeni iş kabul edilmedi; istemci daha sonra tekrar denemeli (429).
+ */
+public class FetchQueueFullException extends RuntimeException {
+
+    public FetchQueueFullException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,179 @@
+package com.example.service;
+
+import com.example.model.Member;
+import com.example.model.MemberRefreshRun;
+import com.example.provider.ProviderHttpClient;
+import com.example.repository.MemberRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tüm üyeleri periyodik olarak yeniden senkronize eder (bkz. MemberService.resyncMember).
+ * <ul>
+ *   <li>Son min-age içinde senkronize edilmiş üyeler atlanır.</li>
+ *   <li>Kalan üyeler, en eski senkronizasyon önce olacak şekilde, yenileme penceresine eşit aralıklarla
+ *       yayılır; hepsi aynı anda başlamaz.</li>
+ *   <li>Sağlayıcı başına aynı anda çalışan yenileme sayısı bir Semaphore ile sınırlanır; izin yoksa
+ *       görev bir worker'ı bloklamadan kısa süre sonra yeniden planlanır.</li>
+ * </ul>
+ * Son çalışmaların istatistikleri bellekte tutulur.
+ */
+@Service
+public class MemberRefreshService {
+
+    private static final Logger logger = LoggerFactory.getLogger(MemberRefreshService.class);
+
+    private static final long PERMIT_RETRY_MILLIS = 2_000;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private MemberService memberService;
+
+    @Autowired
+    private ProviderHttpClient providerHttpClient;
+
+    @Autowired
+    @Qualifier("memberRefreshExecutor")
+    private ScheduledExecutorService refreshExecutor;
+
+    @Value("${members.refresh.window:PT30M}")
+    private Duration window;
+
+    @Value("${members.refresh.min-age:PT12H}")
+    private Duration minAge;
+
+    @Value("${members.refresh.history:20}")
+    private int historySize;
+
+    private final Map<String, Semaphore> providerPermits;
+    private final Deque<MemberRefreshRun> runs = new ConcurrentLinkedDeque<>();
+    private volatile MemberRefreshRun currentRun;
+
+    public MemberRefreshService(@Value("${members.refresh.concurrency.openalex:2}") int openAlexConcurrency,
+                                @Value("${members.refresh.concurrency.serpapi:1}") int serpApiConcurrency) {
+        this.providerPermits = Map.of(
+                ProviderHttpClient.OPENALEX, new Semaphore(Math.max(1, openAlexConcurrency)),
+                ProviderHttpClient.SERPAPI, new Semaphore(Math.max(1, serpApiConcurrency)));
+    }
+
+    @Scheduled(cron = "${members.refresh.cron:0 0 3 * * *}")
+    public void scheduledRefresh() {
+        if (currentRun != null) {
+            logger.warn("Previous member refresh run {} is still running, skipping scheduled run", currentRun.getId());
+            return;
+        }
+        startRun("scheduled");
+    }
+
+    /**
+     * Bir yenileme çalışmasını başlatır ve hemen döner; zaten çalışan varsa onu döndürür.
+     */
+    public synchronized MemberRefreshRun startRun(String trigger) {
+        if (currentRun != null) {
+            return currentRun;
+        }
+
+        Instant staleBefore = Instant.now().minus(minAge);
+        List<Member> members = memberRepository.findAll();
+        List<Member> stale = new ArrayList<>();
+        for (Member member : members) {
+            boolean hasSource = member.getOpenAlexId() != null && !member.getOpenAlexId().isBlank();
+            if (hasSource && (member.getLastSyncedAt() == null || member.getLastSyncedAt().isBefore(staleBefore))) {
+                stale.add(member);
+            }
+        }
+        stale.sort(Comparator.comparing(Member::getLastSyncedAt, Comparator.nullsFirst(Comparator.naturalOrder())));
+
+        MemberRefreshRun run = new MemberRefreshRun(UUID.randomUUID().toString(), trigger,
+                members.size(), members.size() - stale.size());
+        long requestsAtStart = totalRequests();
+        runs.addFirst(run);
+        while (runs.size() > Math.max(1, historySize)) {
+            runs.pollLast();
+        }
+        logger.info("Starting member refresh run {} ({}): {} stale of {} members, spread over {}",
+                run.getId(), trigger, stale.size(), members.size(), window);
+
+        if (stale.isEmpty()) {
+            run.markCompleted(0);
+            return run;
+        }
+
+        currentRun = run;
+        long windowMillis = window.toMillis();
+        for (int i = 0; i < stale.size(); i++) {
+            Member member = stale.get(i);
+            long delay = windowMillis * i / stale.size();
+            String provider = ProviderHttpClient.SERPAPI.equalsIgnoreCase(member.getProviderType())
+                    ? ProviderHttpClient.SERPAPI : ProviderHttpClient.OPENALEX;
+            refreshExecutor.schedule(() -> refreshMember(run, member.getId(), provider, requestsAtStart),
+                    delay, TimeUnit.MILLISECONDS);
+        }
+        return run;
+    }
+
+    public List<MemberRefreshRun> getRuns() {
+        return List.copyOf(runs);
+    }
+
+    private void refreshMember(MemberRefreshRun run, Long memberId, String provider, long requestsAtStart) {
+        Semaphore permits = providerPermits.get(provider);
+        if (!permits.tryAcquire()) {
+            refreshExecutor.schedule(() -> refreshMember(run, memberId, provider, requestsAtStart),
+                    PERMIT_RETRY_MILLIS, TimeUnit.MILLISECONDS);
+            return;
+        }
+        try {
+            ResyncResult result = memberService.resyncMember(memberId);
+            run.recordRefreshed(result.inserted(), result.updated());
+        } catch (Exception e) {
+            logger.error("Refresh of member ID {} failed in run {}: {}", memberId, run.getId(), e.getMessage());
+            run.recordFailed();
+        } finally {
+            permits.release();
+        }
+
+        if (run.isDone()) {
+            finishRun(run, requestsAtStart);
+        }
+    }
+
+    private synchronized void finishRun(MemberRefreshRun run, long requestsAtStart) {
+        if (run.getState() != MemberRefreshRun.State.RUNNING) {
+            return;
+        }
+        // Sayaçlar global: pencere içinde elle başlatılan fetch'lerin istekleri de dahildir
+        run.markCompleted(totalRequests() - requestsAtStart);
+        if (currentRun == run) {
+            currentRun = null;
+        }
+        logger.info("Member refresh run {} finished in {} ms: {} refreshed, {} failed, {} skipped, {} rows changed, {} requests",
+                run.getId(), run.getDurationMillis(), run.getMembersRefreshed(), run.getMembersFailed(),
+                run.getMembersSkipped(), run.getRowsChanged(), run.getRequestsMade());
+    }
+
+    private long totalRequests() {
+        return providerHttpClient.getRequestCount(ProviderHttpClient.OPENALEX)
+                + providerHttpClient.getRequestCount(ProviderHttpClient.SERPAPI);
+    }
+}
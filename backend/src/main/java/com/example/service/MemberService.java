@@ -2,31 +2,41 @@ package com.example.service;
 
 import com.example.model.Member;
 import com.example.model.Publication;
+import com.example.model.Tag;
 import com.example.model.YearCount; // Grafik verisi için import
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import com.example.provider.PublicationProvider;
 import com.example.provider.PublicationProviderFactory;
-import com.example.provider.SerpApiProvider; // SerpAPI servisini import et
 import com.example.repository.MemberRepository;
 import com.example.repository.PublicationRepository;
 import org.springframework.data.jpa.domain.Specification; 
 import jakarta.persistence.criteria.Join; 
 import jakarta.persistence.criteria.Predicate; 
 
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
 import java.util.HashMap;
 import java.util.Map; 
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
-import java.util.stream.Collectors; // YENİ: Collectors importu
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
 
 @Service
 public class MemberService {
@@ -42,17 +52,30 @@ public class MemberService {
     @Autowired
     private PublicationProviderFactory providerFactory;
 
-    // Grafik servislerini inject et
     @Autowired
-    private OpenAlexService openAlexService;
+    private MemberYearCountService yearCountService;
 
-    // NOT: SerpApiProvider'ı (serpApiProvider) burada tutuyoruz
-    // çünkü 'fetchAndSaveMember' içindeki 'getPublications' metodu
-    // PublicationProvider interface'inde bulunmuyor olabilir.
-    // (Eğer PublicationProvider'da getMemberCountsByYear olsaydı,
-    // buna gerek kalmazdı, ama şu anki yapı için bu daha güvenli.)
     @Autowired
-    private SerpApiProvider serpApiProvider;
+    @Qualifier("providerExecutor")
+    private ExecutorService providerExecutor;
+
+    @Autowired
+    private PublicationBatchWriter publicationBatchWriter;
+
+    @Autowired
+    private AuthorService authorService;
+
+    @Autowired
+    private TagService tagService;
+
+    @Autowired
+    private CollaborationService collaborationService;
+
+    @Autowired
+    private PublicationFacetService facetService;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
 
     public PublicationProviderFactory getProviderFactory() {
         return providerFactory;
@@ -61,6 +84,7 @@ public class MemberService {
     public Member saveMember(Member member) {
         logger.info("Saving new member: {}", member.getName());
         Member savedMember = memberRepository.save(member);
+        collaborationService.rememberMember(savedMember.getId());
         logger.info("Successfully saved member ID: {}", savedMember.getId());
         return savedMember;
     }
@@ -104,8 +128,17 @@ public class MemberService {
         return savedMember;
     }
 
-    @Transactional
     public Member fetchAndSaveMember(String id, String providerType) {
+        return fetchAndSaveMember(id, providerType, FetchProgressListener.NONE);
+    }
+
+    /**
+     * Bilinçli olarak @Transactional DEĞİL: uzak HTTP çağrıları, bekleme ve retry'lar sırasında
+     * veritabanı bağlantısı tutulmaz. Her yazma (üye kaydı, her sayfa, son sayaçlar) kendi kısa
+     * transaction'ında çalışır ve hemen commit edilir; ilk yayınlar diğer sayfalar çekilirken görünür.
+     * Bir sayfa başarısız olursa o ana kadar kaydedilen üye ve yayınları silinir (bkz. discardPartialMember).
+     */
+    public Member fetchAndSaveMember(String id, String providerType, FetchProgressListener progressListener) {
         logger.info("Fetching member data for ID: {} using provider: {}", id, providerType);
         id = id.trim();
         Member existingMember = memberRepository.findByOpenAlexId(id);
@@ -116,89 +149,185 @@ public class MemberService {
 
         PublicationProvider provider = providerFactory.getProvider(providerType);
 
-        Member member = null;
-        List<Publication> publications = List.of();
-
-        int retries = 3;
-        for (int attempt = 1; attempt <= retries; attempt++) {
-            try {
-                member = provider.getMemberDetails(id);
-                Thread.sleep(600);
-                publications = provider.getPublications(id, member);
-                break;
-            } catch (Exception e) {
-                if (e.getMessage() != null && e.getMessage().contains("429")) {
-                    logger.warn("Rate limit aşıldı (429). {}. deneme yapılacak...", attempt);
-                    try {
-                        Thread.sleep(2000 * attempt);
-                    } catch (InterruptedException ignored) {}
-                } else {
-                    logger.error("Fetch error: {}", e.getMessage(), e);
-                    throw new RuntimeException("Provider error: " + e.getMessage(), e);
-                }
+        final String sourceId = id;
+        Instant syncStartedAt = Instant.now().truncatedTo(ChronoUnit.MILLIS);
+        IngestionState state = new IngestionState(providerType, progressListener);
+        // Hız sınırı ve 429/5xx tekrarları ProviderHttpClient'ta, sağlayıcı bazında yapılır
+        try {
+            CompletableFuture<Member> detailsFuture;
+            Member listingMember;
+            if (provider.publicationsRequireMemberDetails()) {
+                listingMember = provider.getMemberDetails(sourceId);
+                detailsFuture = CompletableFuture.completedFuture(listingMember);
+            } else {
+                // Birbirinden bağımsız çağrılar: detaylar arka planda, yayınlar bu thread'de çekilir
+                detailsFuture = CompletableFuture.supplyAsync(() -> provider.getMemberDetails(sourceId), providerExecutor);
+                listingMember = null;
             }
+
+            final CompletableFuture<Member> details = detailsFuture;
+            provider.streamPublications(sourceId, listingMember, batch -> persistPublicationBatch(state, details, batch));
+            ensureMemberSaved(state, details);
+        } catch (Exception e) {
+            logger.error("Fetch error: {}", e.getMessage(), e);
+            discardPartialMember(state);
+            throw new RuntimeException("Provider error: " + e.getMessage(), e);
         }
 
+        // Batch'ler arasında persistence context temizlendiği için üyeyi yeniden yükle
+        Member finalMember = memberRepository.findById(state.member.getId())
+                .orElseThrow(() -> new IllegalStateException("Saved member disappeared: " + state.member.getId()));
+        finalMember.setWorksCount(state.savedCount);
+        finalMember.setCitedByCount(state.totalCitations);
+        finalMember.setLastSyncedAt(syncStartedAt);
+        finalMember = memberRepository.save(finalMember);
+
+        if (state.duplicateCount > 0) {
+            logger.info("Filtered out {} duplicate publications for member: {}", state.duplicateCount, finalMember.getName());
+        }
+
+        logger.info("Successfully saved member: {} with {} unique publications (works: {}, citations: {}, {} duplicates filtered)",
+                finalMember.getName(), state.savedCount, finalMember.getWorksCount(),
+                finalMember.getCitedByCount(), state.duplicateCount);
+
+        return finalMember;
+    }
+
+    /**
+     * Mevcut bir üyeyi sağlayıcıyla yeniden senkronize eder: sadece son senkronizasyondan sonra
+     * değişen yayınlar istenir (OpenAlex from_updated_date), yeni olanlar eklenir, değişenler
+     * güncellenir ve üye sayaçları farklar kadar artırılır. fetchAndSaveMember gibi @Transactional
+     * değildir; her sayfa kendi kısa transaction'ında yazılır.
+     */
+    public ResyncResult resyncMember(Long memberId) {
+        Member member = memberRepository.findById(memberId)
+                .orElseThrow(() -> new IllegalArgumentException("Member not found with ID: " + memberId));
+        String sourceId = member.getOpenAlexId();
+        if (sourceId == null || sourceId.trim().isEmpty()) {
+            throw new IllegalArgumentException("Member has no source ID to re-sync: " + memberId);
+        }
+        String providerType = member.getProviderType() != null ? member.getProviderType() : "openalex";
+        PublicationProvider provider = providerFactory.getProvider(providerType);
+
+        // Watermark: bu senkronizasyonun başladığı an. Sağlayıcı tarafında gün hassasiyetinde
+        // filtrelendiği için örtüşen günler tekrar gelebilir; upsert bunları 'unchanged' sayar.
+        Instant since = member.getLastSyncedAt();
+        Instant syncStartedAt = Instant.now().truncatedTo(ChronoUnit.MILLIS);
+        LocalDate sinceDate = since != null ? LocalDate.ofInstant(since, ZoneOffset.UTC) : null;
+        logger.info("Re-syncing member ID: {} ({}:{}) since {}", memberId, providerType, sourceId, since);
+
+        int[] totals = new int[4]; // inserted, updated, unchanged, duplicates
+        try {
+            provider.streamPublicationsSince(sourceId.trim(), member, sinceDate, batch -> {
+                authorService.intern(batch);
+                tagService.intern(batch);
+                PublicationBatchWriter.UpsertResult result = publicationBatchWriter.upsert(member, batch);
+                totals[0] += result.inserted();
+                totals[1] += result.updated();
+                totals[2] += result.unchanged();
+                totals[3] += result.duplicates();
+            });
+        } catch (Exception e) {
+            logger.error("Re-sync error for member ID {}: {}", memberId, e.getMessage(), e);
+            throw new RuntimeException("Provider error: " + e.getMessage(), e);
+        }
+
+        memberRepository.markSynced(memberId, syncStartedAt);
+        Member synced = memberRepository.findById(memberId)
+                .orElseThrow(() -> new IllegalStateException("Member disappeared during re-sync: " + memberId));
+
+        logger.info("Re-synced member ID: {}: {} new, {} updated, {} unchanged, {} duplicates (works: {}, citations: {})",
+                memberId, totals[0], totals[1], totals[2], totals[3], synced.getWorksCount(), synced.getCitedByCount());
+        return new ResyncResult(memberId, since, syncStartedAt, totals[0], totals[1], totals[2], totals[3],
+                synced.getWorksCount(), synced.getCitedByCount());
+    }
+
+    /**
+     * Sağlayıcıdan gelen tek bir sayfayı toplu olarak kaydeder (bkz. PublicationBatchWriter).
+     * Batch sonrası persistence context boşaltıldığı için bellek kullanımı sayfa boyutuyla orantılı kalır.
+     */
+    private void persistPublicationBatch(IngestionState state, CompletableFuture<Member> detailsFuture, List<Publication> batch) {
+        Member savedMember = ensureMemberSaved(state, detailsFuture);
+
+        // Yeni yazarlar ve etiketler batch'in transaction'ından önce, kendi kısa transaction'ında eklenir
+        authorService.intern(batch);
+        tagService.intern(batch);
+        PublicationBatchWriter.BatchResult result = publicationBatchWriter.insertNew(savedMember, batch);
+        state.savedCount += result.saved();
+        state.duplicateCount += result.duplicates();
+        state.totalCitations += result.citations();
+        state.progressListener.onPagePersisted(result.saved(), result.duplicates());
+
+        logger.debug("Persisted batch of {} publications for member ID: {} ({} new, total saved: {})",
+                batch.size(), savedMember.getId(), result.saved(), state.savedCount);
+    }
+
+    /**
+     * Yarıda kalan çekmede commit edilmiş üyeyi, yayınlarını, yıl özetini ve bellek içi indekslerdeki
+     * kayıtlarını deleteMember ile siler. Aksi halde eksik üye (worksCount=0, lastSyncedAt=null) kalır
+     * ve sonraki çekme onu "zaten var" diye döndürürdü.
+     */
+    private void discardPartialMember(IngestionState state) {
+        if (state.member == null) {
+            return;
+        }
+        try {
+            deleteMember(state.member.getId());
+            logger.info("Discarded partially fetched member ID: {}", state.member.getId());
+        } catch (RuntimeException cleanupError) {
+            logger.error("Could not discard partially fetched member ID {}: {}",
+                    state.member.getId(), cleanupError.getMessage(), cleanupError);
+        }
+    }
+
+    private Member ensureMemberSaved(IngestionState state, CompletableFuture<Member> detailsFuture) {
+        if (state.member != null) {
+            return state.member;
+        }
+        Member member = joinUnwrapped(detailsFuture);
         if (member == null) {
-            throw new RuntimeException("Member data alınamadı, tüm denemeler başarısız oldu.");
+            throw new RuntimeException("Member data alınamadı.");
         }
 
         // GÜNCELLEME: Sağlayıcı türünü kaydet
-        member.setProviderType(providerType);
-        
+        member.setProviderType(state.providerType);
+
         member.setPublications(new ArrayList<>());
         member.setWorksCount(0);
         member.setCitedByCount(0);
-        
-        Member savedMember = memberRepository.save(member);
-        logger.info("Saved member: {} with ID: {}", savedMember.getName(), savedMember.getId());
 
-        List<Publication> savedPublications = new ArrayList<>();
-        int duplicateCount = 0;
-        int totalCitations = 0;
-        
-        for (Publication pub : publications) {
-            String url = pub.getIdentifierUrl();
-            
-            if (url == null || url.trim().isEmpty()) {
-                logger.debug("Skipping publication with null/empty URL: {}", pub.getTitle());
-                continue;
-            }
-            
-            Optional<Publication> existingPub = publicationRepository.findByIdentifierUrl(url);
-            if (existingPub.isPresent()) {
-                duplicateCount++;
-                logger.debug("Skipping duplicate publication URL: {}", url);
-                continue;
-            }
-            
-            pub.setMember(savedMember);
-            
-            try {
-                Publication saved = publicationRepository.save(pub);
-                savedPublications.add(saved);
-                totalCitations += saved.getCitedByCount();
-                logger.debug("Saved publication: {}", saved.getTitle());
-            } catch (Exception e) {
-                logger.error("Failed to save publication: {} - {}", pub.getTitle(), e.getMessage());
-            }
-        }
-
-        savedMember.setWorksCount(savedPublications.size());
-        savedMember.setCitedByCount(totalCitations);
-        savedMember.setPublications(savedPublications);
-        
-        Member finalMember = memberRepository.save(savedMember);
+        state.member = memberRepository.save(member);
+        collaborationService.rememberMember(state.member.getId());
+        logger.info("Saved member: {} with ID: {}", state.member.getName(), state.member.getId());
+        return state.member;
+    }
 
-        if (duplicateCount > 0) {
-            logger.info("Filtered out {} duplicate publications for member: {}", duplicateCount, finalMember.getName());
+    /**
+     * fetchAndSaveMember sırasında sayfalar arasında taşınan durum.
+     */
+    private static final class IngestionState {
+        private final String providerType;
+        private final FetchProgressListener progressListener;
+        private Member member;
+        private int savedCount;
+        private int duplicateCount;
+        private int totalCitations;
+
+        private IngestionState(String providerType, FetchProgressListener progressListener) {
+            this.providerType = providerType;
+            this.progressListener = progressListener;
         }
+    }
 
-        logger.info("Successfully saved member: {} with {} unique publications (works: {}, citations: {}, {} duplicates filtered)",
-                finalMember.getName(), savedPublications.size(), finalMember.getWorksCount(), 
-                finalMember.getCitedByCount(), duplicateCount);
-
-        return finalMember;
+    private static <T> T joinUnwrapped(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
     }
 
     public Page<Member> getAllMembers(int page, int size, String sort) {
@@ -211,7 +340,12 @@ public class MemberService {
 
     public void deleteMember(Long id) {
         logger.info("Deleting member with ID: {}", id);
+        // Yayınlar cascade ile silinir; ID'leri bellek içi indeksler için önceden alınır
+        List<Long> publicationIds = publicationRepository.findIdsByMemberId(id);
         memberRepository.deleteById(id);
+        yearCountService.deleteForMember(id);
+        collaborationService.forgetMember(id);
+        eventPublisher.publishEvent(PublicationsChangedEvent.removed(publicationIds));
         logger.info("Successfully deleted member ID: {}", id);
     }
 
@@ -247,32 +381,101 @@ public class MemberService {
                 break;
         }
 
+        // Filtre ve toplam sayı bellek içi bitmap indeksinden; indeks hazır değilse JPA sorgusu
+        Optional<Page<Publication>> indexed = facetService.findPage(memberId, types, tags, pageRequest);
+        if (indexed.isPresent()) {
+            return indexed.get();
+        }
         Specification<Publication> spec = createPublicationSpecification(memberId, types, tags);
         return publicationRepository.findAll(spec, pageRequest);
     }
     
-    public Map<String, List<String>> getPublicationMetadata(Long memberId) {
+    /**
+     * Keyset (seek) sayfalama: sonraki sayfa cursor'daki (sıralama değeri, id) noktasından sonra okunur,
+     * OFFSET ve COUNT sorgusu çalışmaz. Bu yüzden derin sayfalar ve sonsuz kaydırma üyenin yayın
+     * sayısından bağımsız olarak sabit maliyetlidir. cursor null ise ilk sayfa döner.
+     */
+    public PublicationSlice getPublicationSliceByMemberId(Long memberId, String cursor, int size, String sort,
+                                                          List<String> types, List<String> tags) {
+        logger.info("Fetching publication slice for member ID: {}, size: {}, sort: {}, types: {}, tags: {}", memberId, size, sort, types, tags);
+
+        if (!memberRepository.existsById(memberId)) {
+            logger.error("Member not found with ID: {}", memberId);
+            throw new IllegalArgumentException("Member not found with ID: " + memberId);
+        }
+        if (size < 1) {
+            throw new IllegalArgumentException("Page size must be positive");
+        }
+
+        PublicationCursor.Order order = PublicationCursor.Order.of(sort);
+        Specification<Publication> spec = createPublicationSpecification(memberId, types, tags).and(order.ordering());
+        if (cursor != null && !cursor.isEmpty()) {
+            spec = spec.and(PublicationCursor.decode(cursor, order).toSpecification());
+        }
+        Slice<Publication> slice = publicationRepository.findBy(spec,
+                query -> query.slice(PageRequest.of(0, size)));
+        List<Publication> content = slice.getContent();
+        String nextCursor = slice.hasNext()
+                ? PublicationCursor.after(order, content.get(content.size() - 1)).encode()
+                : null;
+        return new PublicationSlice(content, size, slice.hasNext(), nextCursor);
+    }
+
+    /**
+     * Üyenin etiket/türleri ve her birine uyan yayın sayıları. Sayılar bellek içi facet indeksindeki
+     * bitmap'lerden gelir (yayın ekleme/güncellemede artımlı güncellenir); indeks hazır değilse
+     * boyut başına tek GROUP BY sorgusuyla hesaplanır.
+     */
+    public PublicationMetadata getPublicationMetadata(Long memberId, List<String> types, List<String> tags) {
         logger.info("Fetching publication metadata (tags, types) for member ID: {}", memberId);
         if (!memberRepository.existsById(memberId)) {
             logger.error("Member not found with ID: {}", memberId);
             throw new IllegalArgumentException("Member not found with ID: " + memberId);
         }
-        
-        List<String> tags = publicationRepository.findDistinctTagsByMemberId(memberId);
-        List<String> types = publicationRepository.findDistinctTypesByMemberId(memberId);
-        
-        Map<String, List<String>> metadata = new HashMap<>();
-        metadata.put("tags", tags);
-        metadata.put("types", types);
-        
-        return metadata;
+
+        Optional<PublicationMetadata> indexed = facetService.findMetadata(memberId, types, tags);
+        if (indexed.isPresent()) {
+            return indexed.get();
+        }
+
+        // İndeks hazır değilken boyut başına tek sorgu: filtre yoksa düz GROUP BY, varsa toplam ve
+        // filtreli sayı aynı GROUP BY'da
+        Map<String, Integer> tagCounts = types != null && !types.isEmpty()
+                ? matchingCounts(publicationRepository.countByTagForMemberMatchingTypes(memberId, types))
+                : counts(publicationRepository.countByTagForMember(memberId));
+        Set<Integer> tagIds = tags != null && !tags.isEmpty() ? tagService.idsOf(tags) : null;
+        Map<String, Integer> typeCounts = tagIds != null && !tagIds.isEmpty()
+                ? matchingCounts(publicationRepository.countByTypeForMemberMatchingTags(memberId, tagIds))
+                : counts(publicationRepository.countByTypeForMember(memberId));
+        if (tagIds != null && tagIds.isEmpty()) {
+            // Bilinen etiket yok: hiçbir yayın etiket filtresine uymaz
+            typeCounts.replaceAll((name, count) -> 0);
+        }
+        List<String> allTags = new ArrayList<>(tagCounts.keySet());
+        List<String> allTypes = new ArrayList<>(typeCounts.keySet());
+        return new PublicationMetadata(allTags, allTypes, tagCounts, typeCounts);
+    }
+
+    private static Map<String, Integer> counts(List<PublicationRepository.FacetCount> rows) {
+        Map<String, Integer> counts = new TreeMap<>();
+        for (PublicationRepository.FacetCount row : rows) {
+            counts.put(row.getName(), (int) row.getTotal());
+        }
+        return counts;
+    }
+
+    private static Map<String, Integer> matchingCounts(List<PublicationRepository.FilteredFacetCount> rows) {
+        Map<String, Integer> counts = new TreeMap<>();
+        for (PublicationRepository.FilteredFacetCount row : rows) {
+            counts.put(row.getName(), (int) row.getMatching());
+        }
+        return counts;
     }
 
     /**
-     * GÜNCELLENMİŞ METOT
-     * 'providerType'a göre grafik verisini çeker.
-     * OpenAlex: API'den çeker (Yayın Sayısı).
-     * SerpAPI: Veritabanındaki yayınları sayar (Yayın Sayısı).
+     * Yıl bazında yayın sayıları, member_year_count özetinden (yıl sayısı kadar satır) okunur;
+     * uzak API'ye veya üyenin tüm yayınlarına gidilmez. Özeti hiç kurulmamış eski kayıtlar için
+     * bir kez GROUP BY ile yeniden hesaplanır; yayınlarının yılı olmayan üyelerde boş özet geçerlidir.
      */
     public List<YearCount> getMemberCountsByYear(Long memberId) {
         logger.info("Fetching counts by year for member ID: {}", memberId);
@@ -280,41 +483,13 @@ public class MemberService {
         Member member = memberRepository.findById(memberId)
                 .orElseThrow(() -> new IllegalArgumentException("Member not found with ID: " + memberId));
 
-        String providerType = member.getProviderType();
-        String sourceId = member.getOpenAlexId();
-
-        if (sourceId == null || sourceId.trim().isEmpty()) {
-            logger.warn("Member ID: {} has no Source ID, cannot fetch counts by year.", memberId);
-            return Collections.emptyList();
-        }
-
-        // Hangi sağlayıcıyı kullanacağına karar ver
-        if ("serpapi".equalsIgnoreCase(providerType)) {
-            // DÜZELTME: SerpAPI için veritabanından yayınları say
-            logger.info("Using DB (SerpAPI member) for member counts (ID: {})", sourceId);
-            
-            // 1. Üyenin tüm yayınlarını veritabanından çek
-            List<Publication> pubs = publicationRepository.findByMemberId(memberId);
-            
-            // 2. Yıla göre grupla ve say (Java Streams kullanarak)
-            return pubs.stream()
-                .filter(p -> p.getPublicationYear() != null) // Bilinmeyen yılları filtrele
-                .collect(Collectors.groupingBy(
-                    p -> p.getPublicationYear().toString(), // Yıla göre grupla
-                    Collectors.counting() // Her gruptakini say
-                ))
-                .entrySet().stream()
-                // 3. YearCount formatına dönüştür
-                .map(entry -> new YearCount(entry.getKey(), entry.getValue().intValue()))
-                .collect(Collectors.toList());
-
-        } else {
-            // OpenAlex için mevcut API çağrısı (Bu zaten Yayın Sayısı döndürüyor)
-            logger.info("Using OpenAlexService for member counts (ID: {})", sourceId);
-            return openAlexService.getWorksCountByYear(sourceId);
+        if (!member.isYearCountsBuilt()) {
+            return yearCountService.rebuildAndMarkBuilt(memberId);
         }
+        return yearCountService.getCounts(memberId);
     }
 
+    @Transactional
     public Publication addPublication(Long memberId, Publication publication) {
         logger.info("Adding publication '{}' for member ID: {}", publication.getTitle(), memberId);
         if (!memberRepository.existsById(memberId)) {
@@ -333,8 +508,16 @@ public class MemberService {
 
         Optional<Member> memberOpt = memberRepository.findById(memberId);
         publication.setMember(memberOpt.get());
-        
+        authorService.intern(List.of(publication));
+        authorService.attach(publication);
+        tagService.intern(List.of(publication));
+        tagService.attach(publication);
+
         Publication savedPublication = publicationRepository.save(publication);
+        Map<Integer, Integer> yearDeltas = new HashMap<>();
+        MemberYearCountService.addYear(yearDeltas, savedPublication.getPublicationYear(), 1);
+        yearCountService.applyDeltas(memberId, yearDeltas);
+        eventPublisher.publishEvent(PublicationsChangedEvent.upserted(List.of(savedPublication)));
         logger.info("Successfully added publication ID: {} - '{}'", savedPublication.getId(), savedPublication.getTitle());
         return savedPublication;
     }
@@ -344,6 +527,8 @@ public class MemberService {
     }
     
     private Specification<Publication> createPublicationSpecification(Long memberId, List<String> types, List<String> tags) {
+        // Etiket adları bir kez sözlük ID'lerine çevrilir; filtre publication_tag.tag_id üzerinde int karşılaştırmasıdır
+        Set<Integer> tagIds = tags != null && !tags.isEmpty() ? tagService.idsOf(tags) : null;
         return (root, query, cb) -> {
             List<Predicate> predicates = new ArrayList<>();
             
@@ -353,11 +538,15 @@ public class MemberService {
                 predicates.add(root.get("type").in(types));
             }
 
-            if (tags != null && !tags.isEmpty()) {
-                Join<Publication, String> tagJoin = root.join("tags");
-                predicates.add(tagJoin.in(tags));
-                
-                query.distinct(true);
+            if (tagIds != null) {
+                if (tagIds.isEmpty()) {
+                    // Sözlükte olmayan etiketlerle eşleşen yayın olamaz
+                    predicates.add(cb.disjunction());
+                } else {
+                    Join<Publication, Tag> tagJoin = root.join("tagSet");
+                    predicates.add(tagJoin.get("id").in(tagIds));
+                    query.distinct(true);
+                }
             }
 
             return cb.and(predicates.toArray(new Predicate[0]));
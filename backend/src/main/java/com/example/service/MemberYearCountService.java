@@ -0,0 +1,109 @@
+package com.example.service;
+
+import com.example.model.MemberYearCount;
+import com.example.model.YearCount;
+import com.example.repository.MemberRepository;
+import com.example.repository.MemberYearCountRepository;
+import com.example.repository.PublicationRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Üyelerin yıl bazında yayın sayısı özetini (member_year_count) tutar. Yazma yolları yıl
+ * farklarını (delta) uygular; rebuild tek bir GROUP BY sorgusuyla özeti baştan hesaplar.
+ */
+@Service
+public class MemberYearCountService {
+
+    private static final Logger logger = LoggerFactory.getLogger(MemberYearCountService.class);
+
+    @Autowired
+    private MemberYearCountRepository yearCountRepository;
+
+    @Autowired
+    private PublicationRepository publicationRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    /**
+     * Yıl -> değişim haritasını üyenin özetine uygular. Çağıranın transaction'ına katılır, böylece
+     * özet yayın satırlarıyla birlikte commit (veya rollback) edilir. Sayılar veritabanında
+     * {@code count = count + delta} ile güncellenir, eşzamanlı yazanlar birbirinin değişikliğini ezmez.
+     * Satırı olmayan yıllar eklenir; sıfıra (veya altına) inen yıllar silinir.
+     */
+    @Transactional
+    public void applyDeltas(Long memberId, Map<Integer, Integer> deltas) {
+        deltas.values().removeIf(delta -> delta == 0);
+        if (deltas.isEmpty()) {
+            return;
+        }
+        boolean decreased = false;
+        for (Map.Entry<Integer, Integer> delta : deltas.entrySet()) {
+            int updated = yearCountRepository.addToCount(memberId, delta.getKey(), delta.getValue());
+            if (updated == 0 && delta.getValue() > 0) {
+                // Aynı yılı eşzamanlı ekleyen olursa unique kısıt patlar; sayfa yazımı yeniden denenir
+                // (bkz. PublicationBatchWriter.retryOnConcurrentInsert) ve ikinci denemede UPDATE tutar
+                yearCountRepository.save(new MemberYearCount(memberId, delta.getKey(), delta.getValue()));
+            }
+            decreased |= delta.getValue() < 0;
+        }
+        if (decreased) {
+            yearCountRepository.deleteEmptyYears(memberId);
+        }
+    }
+
+    /**
+     * Özeti yayın tablosundan yeniden hesaplar (mevcut veriler veya toplu değişiklikler sonrası için).
+     */
+    @Transactional
+    public List<YearCount> rebuild(Long memberId) {
+        yearCountRepository.deleteByMemberId(memberId);
+        List<MemberYearCount> rows = publicationRepository.countByYearForMember(memberId).stream()
+                .map(total -> new MemberYearCount(memberId, total.getYear(), (int) total.getTotal()))
+                .toList();
+        yearCountRepository.saveAll(rows);
+        logger.info("Rebuilt counts by year for member ID: {} ({} years)", memberId, rows.size());
+        return getCounts(memberId);
+    }
+
+    /**
+     * Özeti hiç kurulmamış (özet tablosundan önceki) bir üye için özeti hesaplar ve üyeyi işaretler.
+     * İkisi aynı transaction'da commit edilir; yarıda kalırsa ne eksik özet ne de boşuna işaret kalır.
+     */
+    @Transactional
+    public List<YearCount> rebuildAndMarkBuilt(Long memberId) {
+        List<YearCount> counts = rebuild(memberId);
+        memberRepository.markYearCountsBuilt(memberId);
+        return counts;
+    }
+
+    /**
+     * Yıla göre artan sırada yayın sayıları; yıl sayısı kadar satır okunur.
+     */
+    @Transactional(readOnly = true)
+    public List<YearCount> getCounts(Long memberId) {
+        return yearCountRepository.findByMemberIdOrderByYearAsc(memberId).stream()
+                .map(row -> new YearCount(String.valueOf(row.getYear()), row.getCount()))
+                .toList();
+    }
+
+    public void deleteForMember(Long memberId) {
+        yearCountRepository.deleteByMemberId(memberId);
+    }
+
+    /**
+     * Delta haritasına bir yayının yılını ekler (delta &gt; 0) veya çıkarır (delta &lt; 0).
+     */
+    static void addYear(Map<Integer, Integer> deltas, Integer year, int delta) {
+        if (year != null) {
+            deltas.merge(year, delta, Integer::sum);
+        }
+    }
+}
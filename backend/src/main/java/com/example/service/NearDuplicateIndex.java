@@ -0,0 +1,346 @@
+package com.example.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Başlıkları neredeyse aynı yayınlar için MinHash/LSH indeksi. Normalize edilmiş başlığın 4 karakterlik
+ * parçalarından (shingle) 24 değerlik MinHash imzası çıkarılır; imza 4'er satırlık 6 banda bölünür ve
+ * her band bir kovaya düşer. Aynı kovaya düşen yayınlar adaydır (~0.64 Jaccard benzerliğinde %50
+ * olasılıkla, 0.8'de %96), tüm başlıkları taramak gerekmez. Adaylar imza benzerliği, yıl (en fazla bir
+ * yıl fark, önbaskı/yayın), başlıktaki sayılar ("Part 1" / "Part 2" ayrı yayındır) ve yazar soyadı
+ * örtüşmesiyle doğrulanır.
+ * <p>
+ * Kovalar tek bir açık adresli tabloda (anahtar → zincir başı) tutulur, zincir düğümleri yayın slotu
+ * ve band numarasından türetilir; böylece yayın başına kutulanmış nesne oluşmaz. Silinen yayınların
+ * slotları yeniden kullanılır.
+ * <p>
+ * Thread-safe DEĞİLDİR; eşzamanlı erişim DuplicateDetectionService'teki kilitle korunur.
+ */
+public class NearDuplicateIndex {
+
+    static final int ROWS = 4;
+    static final int BANDS = 6;
+    static final int HASHES = ROWS * BANDS;
+    static final int SHINGLE = 4;
+    // Kısa veya jenerik başlıklar ("Editorial", "Untitled") tek başına kimlik sayılmaz
+    static final int MIN_TITLE_LENGTH = 20;
+    static final int MIN_TITLE_WORDS = 3;
+    // Yazar listelerinden biri boşsa başlık neredeyse birebir aynı olmalıdır
+    static final double NO_AUTHOR_SIMILARITY = 0.95;
+    private static final Set<String> ROMAN_NUMERALS = Set.of("ii", "iii", "iv", "vi", "vii", "viii", "ix", "xi", "xii");
+    private static final long[] SEEDS = new long[HASHES];
+    private static final int EMPTY = -1;
+
+    static {
+        long seed = 0x5DEECE66DL;
+        for (int i = 0; i < HASHES; i++) {
+            seed = mix(seed + i);
+            SEEDS[i] = seed;
+        }
+    }
+
+    /**
+     * Bir yayının karşılaştırma anahtarı: başlık imzası, başlıktaki sayılar, yıl ve yazar soyadları.
+     */
+    public record Key(int[] signature, Set<String> numbers, Integer year, Set<String> surnames) {
+    }
+
+    private final Map<Long, Integer> slots = new HashMap<>();
+    private long[] publicationIds = new long[16];
+    private Key[] keys = new Key[16];
+    private int[] next = new int[16 * BANDS];
+    private int size;
+    private int[] free = new int[16];
+    private int freeCount;
+
+    // Açık adresli kova tablosu; heads[i] == EMPTY ve bucketKeys[i] != 0 boşalmış kova demektir
+    private long[] bucketKeys = new long[64];
+    private int[] heads = new int[64];
+    private int usedBuckets;
+
+    public NearDuplicateIndex() {
+        Arrays.fill(heads, EMPTY);
+    }
+
+    /**
+     * Başlık, yıl ve yazar adlarından (Author.normalizeName biçiminde) anahtar; başlık karşılaştırma
+     * için fazla kısaysa null.
+     */
+    public static Key key(String title, Integer year, Collection<String> normalizedAuthorNames) {
+        List<String> words = SearchTokenizer.tokenize(title);
+        String normalized = String.join(" ", words);
+        if (words.size() < MIN_TITLE_WORDS || normalized.length() < MIN_TITLE_LENGTH) {
+            return null;
+        }
+        Set<String> numbers = new HashSet<>();
+        for (String word : words) {
+            if (Character.isDigit(word.charAt(0)) || ROMAN_NUMERALS.contains(word)) {
+                numbers.add(word);
+            }
+        }
+        Set<String> surnames = new LinkedHashSet<>();
+        for (String name : normalizedAuthorNames) {
+            String surname = surname(name);
+            if (surname != null) {
+                surnames.add(surname);
+            }
+        }
+        return new Key(signature(normalized), numbers, year, surnames);
+    }
+
+    /**
+     * Soyadı olarak addaki son, en az iki harfli kelime ("k he" → he, "he k" → he).
+     */
+    static String surname(String normalizedName) {
+        if (normalizedName == null) {
+            return null;
+        }
+        String[] parts = normalizedName.trim().split(" ");
+        for (int i = parts.length - 1; i >= 0; i--) {
+            if (parts[i].length() > 1) {
+                return parts[i];
+            }
+        }
+        return null;
+    }
+
+    static int[] signature(String normalizedTitle) {
+        long[] minimums = new long[HASHES];
+        Arrays.fill(minimums, Long.MAX_VALUE);
+        int shingles = Math.max(normalizedTitle.length() - SHINGLE + 1, 1);
+        for (int start = 0; start < shingles; start++) {
+            long hash = 0xcbf29ce484222325L;
+            for (int i = start; i < Math.min(start + SHINGLE, normalizedTitle.length()); i++) {
+                hash = (hash ^ normalizedTitle.charAt(i)) * 0x100000001b3L;
+            }
+            for (int h = 0; h < HASHES; h++) {
+                long value = mix(hash ^ SEEDS[h]);
+                if (Long.compareUnsigned(value, minimums[h]) < 0) {
+                    minimums[h] = value;
+                }
+            }
+        }
+        int[] signature = new int[HASHES];
+        for (int h = 0; h < HASHES; h++) {
+            signature[h] = (int) (minimums[h] >>> 32);
+        }
+        return signature;
+    }
+
+    /**
+     * İmzaların eşit konum oranı; başlık shingle kümelerinin Jaccard benzerliği tahmini.
+     */
+    static double similarity(int[] a, int[] b) {
+        int equal = 0;
+        for (int i = 0; i < HASHES; i++) {
+            if (a[i] == b[i]) {
+                equal++;
+            }
+        }
+        return (double) equal / HASHES;
+    }
+
+    /**
+     * Aday çiftin aynı yayın olup olmadığı: başlık benzerliği eşik üstünde, başlıktaki sayılar aynı,
+     * yıllar en fazla bir yıl farklı ve soyadlarının en az yarısı (kısa listeye göre) ortak.
+     */
+    static boolean confirms(Key a, Key b, double minSimilarity) {
+        if (a.year() != null && b.year() != null && Math.abs(a.year() - b.year()) > 1) {
+            return false;
+        }
+        if (!a.numbers().equals(b.numbers())) {
+            return false;
+        }
+        double similarity = similarity(a.signature(), b.signature());
+        if (a.surnames().isEmpty() || b.surnames().isEmpty()) {
+            return similarity >= Math.max(minSimilarity, NO_AUTHOR_SIMILARITY);
+        }
+        if (similarity < minSimilarity) {
+            return false;
+        }
+        int shared = 0;
+        for (String surname : a.surnames()) {
+            if (b.surnames().contains(surname)) {
+                shared++;
+            }
+        }
+        return shared * 2 >= Math.min(a.surnames().size(), b.surnames().size());
+    }
+
+    public void put(long publicationId, Key key) {
+        remove(publicationId);
+        if (key == null) {
+            return;
+        }
+        int slot = freeCount > 0 ? free[--freeCount] : size++;
+        ensureCapacity(slot + 1);
+        publicationIds[slot] = publicationId;
+        keys[slot] = key;
+        slots.put(publicationId, slot);
+        for (int band = 0; band < BANDS; band++) {
+            int bucket = bucketFor(bandKey(key.signature(), band), true);
+            int node = slot * BANDS + band;
+            next[node] = heads[bucket];
+            heads[bucket] = node;
+        }
+    }
+
+    public void remove(long publicationId) {
+        Integer slot = slots.remove(publicationId);
+        if (slot == null) {
+            return;
+        }
+        Key key = keys[slot];
+        for (int band = 0; band < BANDS; band++) {
+            int bucket = bucketFor(bandKey(key.signature(), band), false);
+            int node = slot * BANDS + band;
+            if (heads[bucket] == node) {
+                heads[bucket] = next[node];
+            } else {
+                int previous = heads[bucket];
+                while (next[previous] != node) {
+                    previous = next[previous];
+                }
+                next[previous] = next[node];
+            }
+        }
+        keys[slot] = null;
+        if (freeCount == free.length) {
+            free = Arrays.copyOf(free, freeCount * 2);
+        }
+        free[freeCount++] = slot;
+    }
+
+    public Key keyOf(long publicationId) {
+        Integer slot = slots.get(publicationId);
+        return slot != null ? keys[slot] : null;
+    }
+
+    public Set<Long> publicationIds() {
+        return slots.keySet();
+    }
+
+    public int publicationCount() {
+        return slots.size();
+    }
+
+    /**
+     * Anahtarla doğrulanmış eşleşmeler, başlık benzerliğine göre azalan; excludeId sonuçlara katılmaz.
+     */
+    public List<Long> matches(Key key, double minSimilarity, long excludeId) {
+        if (key == null) {
+            return List.of();
+        }
+        Set<Integer> candidates = new LinkedHashSet<>();
+        for (int band = 0; band < BANDS; band++) {
+            int bucket = bucketFor(bandKey(key.signature(), band), false);
+            if (bucket < 0) {
+                continue;
+            }
+            for (int node = heads[bucket]; node != EMPTY; node = next[node]) {
+                candidates.add(node / BANDS);
+            }
+        }
+        List<Integer> confirmed = new ArrayList<>();
+        for (int slot : candidates) {
+            if (publicationIds[slot] != excludeId && confirms(key, keys[slot], minSimilarity)) {
+                confirmed.add(slot);
+            }
+        }
+        confirmed.sort(Comparator.comparingDouble((Integer slot) -> similarity(key.signature(), keys[slot].signature())).reversed());
+        List<Long> ids = new ArrayList<>(confirmed.size());
+        for (int slot : confirmed) {
+            ids.add(publicationIds[slot]);
+        }
+        return ids;
+    }
+
+    private static long bandKey(int[] signature, int band) {
+        long hash = band + 1;
+        for (int row = band * ROWS; row < (band + 1) * ROWS; row++) {
+            hash = mix(hash * 31 + signature[row]);
+        }
+        // 0 boş tablo hücresini belirtir
+        return hash != 0 ? hash : 1;
+    }
+
+    /**
+     * Anahtarın kovası; create false iken kova yoksa -1 (remove için kova her zaman vardır).
+     */
+    private int bucketFor(long key, boolean create) {
+        if (create && (usedBuckets + 1) * 2 > bucketKeys.length) {
+            resizeBuckets();
+        }
+        int mask = bucketKeys.length - 1;
+        int i = (int) mix(key) & mask;
+        while (bucketKeys[i] != 0) {
+            if (bucketKeys[i] == key) {
+                return i;
+            }
+            i = (i + 1) & mask;
+        }
+        if (!create) {
+            return -1;
+        }
+        bucketKeys[i] = key;
+        usedBuckets++;
+        return i;
+    }
+
+    /**
+     * Tabloyu büyütür; boşalmış kovalar taşınmaz.
+     */
+    private void resizeBuckets() {
+        long[] oldKeys = bucketKeys;
+        int[] oldHeads = heads;
+        int live = 0;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != 0 && oldHeads[i] != EMPTY) {
+                live++;
+            }
+        }
+        int capacity = Integer.highestOneBit(Math.max(live * 4, 64) - 1) << 1;
+        bucketKeys = new long[capacity];
+        heads = new int[capacity];
+        Arrays.fill(heads, EMPTY);
+        usedBuckets = 0;
+        int mask = capacity - 1;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != 0 && oldHeads[i] != EMPTY) {
+                int j = (int) mix(oldKeys[i]) & mask;
+                while (bucketKeys[j] != 0) {
+                    j = (j + 1) & mask;
+                }
+                bucketKeys[j] = oldKeys[i];
+                heads[j] = oldHeads[i];
+                usedBuckets++;
+            }
+        }
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity <= publicationIds.length) {
+            return;
+        }
+        int grown = Math.max(capacity, publicationIds.length * 2);
+        publicationIds = Arrays.copyOf(publicationIds, grown);
+        keys = Arrays.copyOf(keys, grown);
+        next = Arrays.copyOf(next, grown * BANDS);
+    }
+
+    // SplitMix64 karıştırıcısı
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+}
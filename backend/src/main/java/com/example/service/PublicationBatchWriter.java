@@ -0,0 +1,346 @@
+package com.example.service;
+
+import com.example.model.Author;
+import com.example.model.Member;
+import com.example.model.Publication;
+import com.example.model.Tag;
+import com.example.repository.MemberRepository;
+import com.example.repository.PublicationRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Sağlayıcıdan gelen yayın batch'lerini toplu olarak kaydeder.
+ * Duplicate kontrolü parça parça IN sorgusuyla (farklı URL'li kopyalar için ayrıca DuplicateDetectionService ile),
+ * insert'ler JDBC batch ile yapılır;
+ * böylece N yayın için 2N yerine yaklaşık N / batch_size + N / IN_CLAUSE_CHUNK ifade çalışır.
+ * Kontrol ile insert arasında aynı URL'yi eşzamanlı başka bir import eklerse sayfa bir kez yeniden denenir.
+ */
+@Service
+public class PublicationBatchWriter {
+
+    private static final Logger logger = LoggerFactory.getLogger(PublicationBatchWriter.class);
+
+    // IN listesi boyutu; çok büyük listeler bazı veritabanlarında parametre sınırına takılır
+    static final int IN_CLAUSE_CHUNK = 500;
+
+    @Autowired
+    private PublicationRepository publicationRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private MemberYearCountService yearCountService;
+
+    @Autowired
+    private AuthorService authorService;
+
+    @Autowired
+    private TagService tagService;
+
+    @Autowired
+    private DuplicateDetectionService duplicateDetector;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * Batch'teki yeni yayınları üyeye bağlayıp kaydeder; veritabanında (veya aynı batch içinde)
+     * zaten bulunan identifier URL'leri atlar. Dönmeden önce flush + clear yapılır.
+     * Yayınların yazarları ve etiketleri önceden AuthorService.intern / TagService.intern ile
+     * çözülmüş olmalıdır.
+     */
+    public BatchResult insertNew(Member member, List<Publication> batch) {
+        return retryOnConcurrentInsert(batch, () -> writeNew(member, batch));
+    }
+
+    private BatchResult writeNew(Member member, List<Publication> batch) {
+        // URL'siz olanları at, batch içi tekrarları ayıkla (ilk gelen kazanır)
+        Map<String, Publication> candidates = new LinkedHashMap<>();
+        int duplicates = 0;
+        for (Publication pub : batch) {
+            String url = pub.getIdentifierUrl();
+            if (url == null || url.trim().isEmpty()) {
+                logger.debug("Skipping publication with null/empty URL: {}", pub.getTitle());
+                continue;
+            }
+            if (candidates.putIfAbsent(url, pub) != null) {
+                duplicates++;
+            }
+        }
+        if (candidates.isEmpty()) {
+            return new BatchResult(0, duplicates, 0);
+        }
+
+        Set<String> existing = findExistingIdentifierUrls(new ArrayList<>(candidates.keySet()));
+        Set<String> nearDuplicates = findNearDuplicates(candidates, existing::contains);
+
+        List<Publication> toInsert = new ArrayList<>(candidates.size() - existing.size());
+        Map<Integer, Integer> yearDeltas = new HashMap<>();
+        int citations = 0;
+        for (Map.Entry<String, Publication> entry : candidates.entrySet()) {
+            if (existing.contains(entry.getKey())) {
+                duplicates++;
+                logger.debug("Skipping duplicate publication URL: {}", entry.getKey());
+                continue;
+            }
+            if (nearDuplicates.contains(entry.getKey())) {
+                duplicates++;
+                continue;
+            }
+            Publication pub = entry.getValue();
+            pub.setMember(member);
+            authorService.attach(pub);
+            tagService.attach(pub);
+            citations += pub.getCitedByCount();
+            MemberYearCountService.addYear(yearDeltas, pub.getPublicationYear(), 1);
+            toInsert.add(pub);
+        }
+
+        publicationRepository.saveAll(toInsert);
+        yearCountService.applyDeltas(member.getId(), yearDeltas);
+        publicationRepository.flush();
+        eventPublisher.publishEvent(PublicationsChangedEvent.upserted(toInsert));
+        entityManager.clear();
+
+        return new BatchResult(toInsert.size(), duplicates, citations);
+    }
+
+    /**
+     * Re-sync için: yeni yayınları ekler, üyenin mevcut yayınlarında değişen alanları (atıf sayısı,
+     * kavramlar, başlık...) günceller, değişmeyenlere dokunmaz. Üyenin worksCount/citedByCount
+     * sayaçları aynı transaction içinde farklar kadar artımlı güncellenir. Başka bir üyeye ait
+     * URL'ler insertNew'deki gibi duplicate sayılır.
+     */
+    public UpsertResult upsert(Member member, List<Publication> batch) {
+        return retryOnConcurrentInsert(batch, () -> writeUpsert(member, batch));
+    }
+
+    private UpsertResult writeUpsert(Member member, List<Publication> batch) {
+        Map<String, Publication> candidates = new LinkedHashMap<>();
+        int duplicates = 0;
+        for (Publication pub : batch) {
+            String url = pub.getIdentifierUrl();
+            if (url == null || url.trim().isEmpty()) {
+                continue;
+            }
+            if (candidates.putIfAbsent(url, pub) != null) {
+                duplicates++;
+            }
+        }
+        if (candidates.isEmpty()) {
+            return new UpsertResult(0, 0, 0, duplicates, 0);
+        }
+
+        Map<String, Publication> existing = findExistingByIdentifierUrl(new ArrayList<>(candidates.keySet()));
+        Set<String> nearDuplicates = findNearDuplicates(candidates, existing::containsKey);
+
+        List<Publication> toInsert = new ArrayList<>();
+        List<Publication> changed = new ArrayList<>();
+        Map<Integer, Integer> yearDeltas = new HashMap<>();
+        int updated = 0;
+        int unchanged = 0;
+        int citationsDelta = 0;
+        for (Map.Entry<String, Publication> entry : candidates.entrySet()) {
+            Publication incoming = entry.getValue();
+            Publication current = existing.get(entry.getKey());
+            authorService.attach(incoming);
+            tagService.attach(incoming);
+            if (current == null && nearDuplicates.contains(entry.getKey())) {
+                duplicates++;
+            } else if (current == null) {
+                incoming.setMember(member);
+                citationsDelta += incoming.getCitedByCount();
+                MemberYearCountService.addYear(yearDeltas, incoming.getPublicationYear(), 1);
+                toInsert.add(incoming);
+            } else if (current.getMember() == null || !Objects.equals(current.getMember().getId(), member.getId())) {
+                duplicates++;
+            } else {
+                int previousCitations = current.getCitedByCount();
+                Integer previousYear = current.getPublicationYear();
+                if (applyChanges(current, incoming)) {
+                    citationsDelta += current.getCitedByCount() - previousCitations;
+                    MemberYearCountService.addYear(yearDeltas, previousYear, -1);
+                    MemberYearCountService.addYear(yearDeltas, current.getPublicationYear(), 1);
+                    changed.add(current);
+                    updated++;
+                } else {
+                    unchanged++;
+                }
+            }
+        }
+
+        publicationRepository.saveAll(toInsert);
+        if (!toInsert.isEmpty() || citationsDelta != 0) {
+            memberRepository.adjustCounts(member.getId(), toInsert.size(), citationsDelta);
+        }
+        yearCountService.applyDeltas(member.getId(), yearDeltas);
+        publicationRepository.flush();
+        changed.addAll(toInsert);
+        eventPublisher.publishEvent(PublicationsChangedEvent.upserted(changed));
+        entityManager.clear();
+
+        return new UpsertResult(toInsert.size(), updated, unchanged, duplicates, citationsDelta);
+    }
+
+    /**
+     * Sayfayı kendi transaction'ında yazar. Mevcut URL kontrolü (SELECT ... IN) ile flush arasında aynı
+     * URL'yi başka bir import eklerse (örn. iki üyenin ortak DOI'si) unique kısıtı ihlal edilir ve
+     * sayfanın transaction'ı geri alınır. Bu durumda sayfa ilk haline döndürülüp bir kez daha yazılır;
+     * yarışı kaybeden URL artık mevcut göründüğü için duplicate sayılır ve üyenin çekmesi başarısız olmaz.
+     */
+    private <T> T retryOnConcurrentInsert(List<Publication> batch, Supplier<T> write) {
+        List<List<Author>> authors = new ArrayList<>(batch.size());
+        List<Set<Tag>> tags = new ArrayList<>(batch.size());
+        for (Publication pub : batch) {
+            authors.add(new ArrayList<>(pub.getAuthorList()));
+            tags.add(new LinkedHashSet<>(pub.getTagSet()));
+        }
+        try {
+            return transactionTemplate.execute(status -> write.get());
+        } catch (DataIntegrityViolationException e) {
+            logger.warn("Batch of {} publications raced with a concurrent import ({}), retrying once",
+                    batch.size(), e.getMostSpecificCause().getMessage());
+            // Geri alınan transaction'da atanan ID'ler ve kapanmış oturuma ait referanslar bırakılır
+            for (int i = 0; i < batch.size(); i++) {
+                Publication pub = batch.get(i);
+                pub.setId(null);
+                pub.setMember(null);
+                pub.setAuthorList(authors.get(i));
+                pub.setTagSet(tags.get(i));
+            }
+            return transactionTemplate.execute(status -> write.get());
+        }
+    }
+
+    /**
+     * Sağlayıcıdan gelen değerleri yönetilen (managed) yayına kopyalar; bir şey değiştiyse true döner.
+     * Sadece değişen alanlar set edilir ki Hibernate dirty checking gereksiz UPDATE üretmesin.
+     */
+    private boolean applyChanges(Publication current, Publication incoming) {
+        boolean changed = false;
+        if (current.getCitedByCount() != incoming.getCitedByCount()) {
+            current.setCitedByCount(incoming.getCitedByCount());
+            changed = true;
+        }
+        if (!Objects.equals(current.getTitle(), incoming.getTitle())) {
+            current.setTitle(incoming.getTitle());
+            changed = true;
+        }
+        // Yazarlar ID ile karşılaştırılır (attach edilmiş referanslar yüklenmeden)
+        if (!authorIds(current.getAuthorList()).equals(authorIds(incoming.getAuthorList()))) {
+            current.getAuthorList().clear();
+            current.getAuthorList().addAll(incoming.getAuthorList());
+            changed = true;
+        }
+        if (!Objects.equals(current.getPublicationYear(), incoming.getPublicationYear())) {
+            current.setPublicationYear(incoming.getPublicationYear());
+            changed = true;
+        }
+        if (!Objects.equals(current.getType(), incoming.getType())) {
+            current.setType(incoming.getType());
+            changed = true;
+        }
+        if (!Objects.equals(current.getSourceName(), incoming.getSourceName())) {
+            current.setSourceName(incoming.getSourceName());
+            changed = true;
+        }
+        // Etiketler ID kümesi olarak karşılaştırılır; sadece eklenen/kalkan bağlantılar yazılır
+        if (tagService.applyDiff(current, tagIds(incoming.getTagSet()))) {
+            changed = true;
+        }
+        return changed;
+    }
+
+    private static List<Long> authorIds(List<Author> authors) {
+        List<Long> ids = new ArrayList<>(authors.size());
+        for (Author author : authors) {
+            ids.add(author.getId());
+        }
+        return ids;
+    }
+
+    private static List<Integer> tagIds(Set<Tag> tags) {
+        List<Integer> ids = new ArrayList<>(tags.size());
+        for (Tag tag : tags) {
+            ids.add(tag.getId());
+        }
+        return ids;
+    }
+
+    /**
+     * URL'si kayıtlı olmayan adaylardan başka bir sağlayıcıdan gelmiş kopyası (başlık, yıl ve yazarlarla)
+     * kayıtlı olanlar; yazarlar attach edilmeden önce çağrılmalıdır.
+     */
+    private Set<String> findNearDuplicates(Map<String, Publication> candidates, Predicate<String> stored) {
+        List<Publication> unseen = new ArrayList<>(candidates.size());
+        for (Map.Entry<String, Publication> entry : candidates.entrySet()) {
+            if (!stored.test(entry.getKey())) {
+                unseen.add(entry.getValue());
+            }
+        }
+        Set<String> nearDuplicates = duplicateDetector.nearDuplicateUrls(unseen);
+        if (!nearDuplicates.isEmpty()) {
+            logger.info("Skipping {} near-duplicate publications already stored from another source", nearDuplicates.size());
+        }
+        return nearDuplicates;
+    }
+
+    private Map<String, Publication> findExistingByIdentifierUrl(List<String> urls) {
+        Map<String, Publication> existing = new HashMap<>();
+        for (int from = 0; from < urls.size(); from += IN_CLAUSE_CHUNK) {
+            List<String> chunk = urls.subList(from, Math.min(from + IN_CLAUSE_CHUNK, urls.size()));
+            for (Publication pub : publicationRepository.findByIdentifierUrlIn(chunk)) {
+                existing.put(pub.getIdentifierUrl(), pub);
+            }
+        }
+        return existing;
+    }
+
+    private Set<String> findExistingIdentifierUrls(List<String> urls) {
+        Set<String> existing = new HashSet<>();
+        for (int from = 0; from < urls.size(); from += IN_CLAUSE_CHUNK) {
+            List<String> chunk = urls.subList(from, Math.min(from + IN_CLAUSE_CHUNK, urls.size()));
+            existing.addAll(publicationRepository.findExistingIdentifierUrls(chunk));
+        }
+        return existing;
+    }
+
+    /**
+     * Bir batch'in sonucu: kaydedilen, atlanan (duplicate) yayın sayısı ve kaydedilenlerin atıf toplamı.
+     */
+    public record BatchResult(int saved, int duplicates, int citations) {
+    }
+
+    /**
+     * Bir upsert batch'inin sonucu. citationsDelta eklenen ve güncellenen yayınların atıf farkıdır.
+     */
+    public record UpsertResult(int inserted, int updated, int unchanged, int duplicates, int citationsDelta) {
+    }
+}
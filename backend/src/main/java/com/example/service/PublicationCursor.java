@@ -0,0 +1,143 @@
+package com.example.service;
+
+import com.example.model.Publication;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import org.hibernate.query.NullPrecedence;
+import org.hibernate.query.SortDirection;
+import org.hibernate.query.criteria.HibernateCriteriaBuilder;
+import org.hibernate.query.criteria.JpaExpression;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Üye yayınlarında keyset (seek) sayfalama için devam noktası: sıralama, son satırın sıralama
+ * değeri ve ID'si. İstemciye opak bir token (base64url) olarak verilir; sonraki sayfa OFFSET yerine
+ * "(değer, id) bu noktadan sonra" koşuluyla okunur, böylece (member_id, değer, id) indeksinde
+ * sayfa derinliğinden bağımsız olarak doğrudan konumlanılır.
+ * <p>
+ * Yıl sıralamasında yılı olmayan yayınlar azalan sırada sona, artan sırada başa düşer.
+ */
+public record PublicationCursor(Order order, Integer value, long id) {
+
+    /**
+     * Desteklenen sıralamalar; parametre adları offset sayfalamasındaki sort değerleriyle aynıdır.
+     * Eşitlikler ID ile, aynı yönde çözülür.
+     */
+    public enum Order {
+        PUBLICATION_YEAR("publicationYear", "publicationYear", Sort.Direction.DESC),
+        PUBLICATION_YEAR_ASC("publicationYearAsc", "publicationYear", Sort.Direction.ASC),
+        CITED_BY_COUNT("citedByCount", "citedByCount", Sort.Direction.DESC),
+        CITED_BY_COUNT_ASC("citedByCountAsc", "citedByCount", Sort.Direction.ASC),
+        ID("id", null, Sort.Direction.ASC);
+
+        private final String parameter;
+        private final String property;
+        private final Sort.Direction direction;
+
+        Order(String parameter, String property, Sort.Direction direction) {
+            this.parameter = parameter;
+            this.property = property;
+            this.direction = direction;
+        }
+
+        /**
+         * Bilinmeyen sıralama adları offset sayfalamasındaki gibi ID sıralamasına düşer.
+         */
+        public static Order of(String parameter) {
+            for (Order order : values()) {
+                if (order.parameter.equals(parameter)) {
+                    return order;
+                }
+            }
+            return ID;
+        }
+
+        /**
+         * Sıralama; JPA Criteria'da NULLS FIRST/LAST olmadığından (Spring Data Sort'u da bunu Criteria'ya
+         * taşıyamaz) Hibernate'in criteria builder'ıyla sorguya eklenir, veritabanının varsayılanına bırakılmaz.
+         */
+        public Specification<Publication> ordering() {
+            return (root, query, cb) -> {
+                HibernateCriteriaBuilder hcb = (HibernateCriteriaBuilder) cb;
+                boolean descending = direction == Sort.Direction.DESC;
+                JpaExpression<Long> id = (JpaExpression<Long>) root.<Long>get("id");
+                if (property == null) {
+                    query.orderBy(hcb.sort(id, SortDirection.ASCENDING));
+                } else {
+                    SortDirection sortDirection = descending ? SortDirection.DESCENDING : SortDirection.ASCENDING;
+                    query.orderBy(hcb.sort((JpaExpression<Integer>) root.<Integer>get(property), sortDirection,
+                                    descending ? NullPrecedence.LAST : NullPrecedence.FIRST),
+                            hcb.sort(id, sortDirection));
+                }
+                return null;
+            };
+        }
+
+        Integer valueOf(Publication publication) {
+            if ("publicationYear".equals(property)) {
+                return publication.getPublicationYear();
+            }
+            return "citedByCount".equals(property) ? publication.getCitedByCount() : null;
+        }
+    }
+
+    /**
+     * Sayfanın son yayınından sonraki sayfa için devam noktası.
+     */
+    public static PublicationCursor after(Order order, Publication last) {
+        return new PublicationCursor(order, order.valueOf(last), last.getId());
+    }
+
+    public String encode() {
+        String raw = order.parameter + ":" + (value != null ? value : "") + ":" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Token'ı çözer; bozuk token veya istenen sıralamayla uyuşmayan token IllegalArgumentException fırlatır.
+     */
+    public static PublicationCursor decode(String token, Order expected) {
+        String[] parts;
+        try {
+            parts = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8).split(":", -1);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+        if (parts.length != 3 || !expected.parameter.equals(parts[0])) {
+            throw new IllegalArgumentException("Cursor does not match sort order: " + expected.parameter);
+        }
+        try {
+            Integer value = parts[1].isEmpty() ? null : Integer.valueOf(parts[1]);
+            return new PublicationCursor(expected, value, Long.parseLong(parts[2]));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+    }
+
+    /**
+     * Sıralamada bu noktadan sonra gelen yayınlar.
+     */
+    public Specification<Publication> toSpecification() {
+        return (root, query, cb) -> {
+            Path<Long> idPath = root.get("id");
+            boolean descending = order.direction == Sort.Direction.DESC;
+            Predicate idAfter = descending ? cb.lessThan(idPath, id) : cb.greaterThan(idPath, id);
+            if (order.property == null) {
+                return idAfter;
+            }
+            Path<Integer> valuePath = root.get(order.property);
+            if (value == null) {
+                // Yılsız yayınlar azalan sırada en sonda, artan sırada en baştadır
+                Predicate sameGroup = cb.and(cb.isNull(valuePath), idAfter);
+                return descending ? sameGroup : cb.or(sameGroup, cb.isNotNull(valuePath));
+            }
+            Predicate valueAfter = descending ? cb.lessThan(valuePath, value) : cb.greaterThan(valuePath, value);
+            Predicate after = cb.or(valueAfter, cb.and(cb.equal(valuePath, value), idAfter));
+            return descending ? cb.or(after, cb.isNull(valuePath)) : after;
+        };
+    }
+}
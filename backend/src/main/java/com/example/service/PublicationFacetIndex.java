@@ -0,0 +1,247 @@
+package com.example.service;
+
+import com.example.service.PublicationsChangedEvent.PublicationSnapshot;
+import org.roaringbitmap.FastAggregation;
+import org.roaringbitmap.IntIterator;
+import org.roaringbitmap.PeekableIntIterator;
+import org.roaringbitmap.RoaringBitmap;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Üye bazında yayın facet indeksi: her üye için tüm yayınların, her türün ve her etiketin yayın
+ * ID'leri birer sıkıştırılmış bitmap'te (RoaringBitmap) tutulur. Filtreler bitmap birleşim/kesişimiyle,
+ * toplam sayı kesişimin kardinalitesiyle bulunur; sıralı sayfalar üyenin sıralama dizilerinin
+ * kesişimle süzülmesiyle çıkarılır. Yayın ID'leri int aralığında olmalıdır.
+ * <p>
+ * Thread-safe DEĞİLDİR; eşzamanlı erişim PublicationFacetService'teki kilitle korunur.
+ */
+public class PublicationFacetIndex {
+
+    /**
+     * Desteklenen sıralamalar; eşitlikte ID'ye göre (azalan sıralamalarda ters) sıralanır,
+     * yılı olmayan yayınlar en küçük sayılır.
+     */
+    public enum Order {
+        ID, YEAR_ASC, YEAR_DESC, CITATIONS_ASC, CITATIONS_DESC
+    }
+
+    private record Entry(long memberId, String type, Integer year, int citations, int[] tagIds) {
+    }
+
+    private static final class MemberFacets {
+        private final RoaringBitmap all = new RoaringBitmap();
+        private final Map<String, RoaringBitmap> byType = new HashMap<>();
+        private final Map<Integer, RoaringBitmap> byTag = new HashMap<>();
+        // (anahtar, ID)'ye göre artan sıralı yayın ID'leri; değişiklikte null'lanır, ilk sorguda yeniden kurulur.
+        // Okuma kilidi altındaki eşzamanlı sorgular aynı diziyi kurabilir; volatile güvenli yayın sağlar
+        private volatile int[] byYear;
+        private volatile int[] byCitations;
+    }
+
+    private final Map<Integer, Entry> entries = new HashMap<>();
+    private final Map<Long, MemberFacets> members = new HashMap<>();
+
+    /**
+     * Yayının son halini indeksler; önceki hali varsa önce çıkarılır. Üyesi olmayan yayın çıkarılır.
+     *
+     * @throws ArithmeticException yayın ID'si int aralığında değilse
+     */
+    public void put(PublicationSnapshot publication) {
+        int id = Math.toIntExact(publication.publicationId());
+        remove(id);
+        if (publication.memberId() == null) {
+            return;
+        }
+        Entry entry = new Entry(publication.memberId(), publication.type(), publication.publicationYear(),
+                publication.citedByCount(), publication.tagIds().clone());
+        entries.put(id, entry);
+        MemberFacets facets = members.computeIfAbsent(entry.memberId(), key -> new MemberFacets());
+        facets.all.add(id);
+        if (entry.type() != null) {
+            facets.byType.computeIfAbsent(entry.type(), key -> new RoaringBitmap()).add(id);
+        }
+        for (int tagId : entry.tagIds()) {
+            facets.byTag.computeIfAbsent(tagId, key -> new RoaringBitmap()).add(id);
+        }
+        facets.byYear = null;
+        facets.byCitations = null;
+    }
+
+    public void remove(long publicationId) {
+        if (publicationId > Integer.MAX_VALUE) {
+            return;
+        }
+        int id = (int) publicationId;
+        Entry entry = entries.remove(id);
+        if (entry == null) {
+            return;
+        }
+        MemberFacets facets = members.get(entry.memberId());
+        facets.all.remove(id);
+        if (facets.all.isEmpty()) {
+            members.remove(entry.memberId());
+            return;
+        }
+        if (entry.type() != null) {
+            removeFrom(facets.byType, entry.type(), id);
+        }
+        for (int tagId : entry.tagIds()) {
+            removeFrom(facets.byTag, tagId, id);
+        }
+        facets.byYear = null;
+        facets.byCitations = null;
+    }
+
+    /**
+     * Üyenin filtreye uyan yayınları. types/tagIds null ise o boyutta filtre yoktur; boş değilse
+     * değerlerden herhangi biri (OR), iki boyut birlikte verilirse ikisi de (AND) sağlanmalıdır.
+     * Dönen bitmap çağırana aittir.
+     */
+    public RoaringBitmap filter(long memberId, Collection<String> types, Collection<Integer> tagIds) {
+        MemberFacets facets = members.get(memberId);
+        if (facets == null) {
+            return new RoaringBitmap();
+        }
+        RoaringBitmap result = null;
+        if (types != null) {
+            result = union(facets.byType, types);
+        }
+        if (tagIds != null) {
+            RoaringBitmap tagged = union(facets.byTag, tagIds);
+            result = result == null ? tagged : RoaringBitmap.and(result, tagged);
+        }
+        return result != null ? result : facets.all.clone();
+    }
+
+    /**
+     * Eşleşen yayınlardan verilen sıralamadaki [offset, offset + limit) aralığının ID'leri.
+     */
+    public long[] page(long memberId, RoaringBitmap matches, Order order, int offset, int limit) {
+        MemberFacets facets = members.get(memberId);
+        int total = matches.getCardinality();
+        if (facets == null || offset >= total || limit <= 0) {
+            return new long[0];
+        }
+        long[] ids = new long[Math.min(limit, total - offset)];
+        if (order == Order.ID) {
+            PeekableIntIterator iterator = matches.getIntIterator();
+            iterator.advanceIfNeeded(matches.select(offset));
+            for (int i = 0; i < ids.length; i++) {
+                ids[i] = iterator.next();
+            }
+            return ids;
+        }
+
+        int[] sorted = sortedIds(facets, order);
+        boolean descending = order == Order.YEAR_DESC || order == Order.CITATIONS_DESC;
+        if (total == facets.all.getCardinality()) {
+            // Filtre yok: sıralama dizisinden doğrudan dilim alınır
+            for (int i = 0; i < ids.length; i++) {
+                ids[i] = sorted[descending ? sorted.length - 1 - offset - i : offset + i];
+            }
+            return ids;
+        }
+        int seen = 0;
+        int size = 0;
+        for (int i = 0; i < sorted.length && size < ids.length; i++) {
+            int id = sorted[descending ? sorted.length - 1 - i : i];
+            if (matches.contains(id) && seen++ >= offset) {
+                ids[size++] = id;
+            }
+        }
+        return size == ids.length ? ids : Arrays.copyOf(ids, size);
+    }
+
+    /**
+     * Üyenin her türündeki yayın sayısı; within verilirse sadece onunla kesişen yayınlar sayılır
+     * (kesişim kardinalitesi, ara bitmap oluşturmadan).
+     */
+    public Map<String, Integer> typeCounts(long memberId, RoaringBitmap within) {
+        MemberFacets facets = members.get(memberId);
+        return facets != null ? counts(facets.byType, within) : Map.of();
+    }
+
+    /**
+     * Üyenin her etiketindeki yayın sayısı (etiket ID'sine göre); within için bkz. typeCounts.
+     */
+    public Map<Integer, Integer> tagCounts(long memberId, RoaringBitmap within) {
+        MemberFacets facets = members.get(memberId);
+        return facets != null ? counts(facets.byTag, within) : Map.of();
+    }
+
+    public int publicationCount() {
+        return entries.size();
+    }
+
+    public int memberCount() {
+        return members.size();
+    }
+
+    private int[] sortedIds(MemberFacets facets, Order order) {
+        boolean byYear = order == Order.YEAR_ASC || order == Order.YEAR_DESC;
+        int[] cached = byYear ? facets.byYear : facets.byCitations;
+        if (cached != null) {
+            return cached;
+        }
+        // (anahtar << 32 | id) long'ları sıralanır: kutulama ve karşılaştırıcı olmadan tek Arrays.sort
+        long[] keys = new long[facets.all.getCardinality()];
+        int i = 0;
+        for (IntIterator iterator = facets.all.getIntIterator(); iterator.hasNext(); ) {
+            int id = iterator.next();
+            Entry entry = entries.get(id);
+            long key = byYear ? (entry.year() != null ? entry.year() : -1) : entry.citations();
+            keys[i++] = key << 32 | id;
+        }
+        Arrays.sort(keys);
+        int[] sorted = new int[keys.length];
+        for (i = 0; i < keys.length; i++) {
+            sorted[i] = (int) keys[i];
+        }
+        if (byYear) {
+            facets.byYear = sorted;
+        } else {
+            facets.byCitations = sorted;
+        }
+        return sorted;
+    }
+
+    private static <K> RoaringBitmap union(Map<K, RoaringBitmap> bitmaps, Collection<K> keys) {
+        List<RoaringBitmap> selected = new ArrayList<>(keys.size());
+        for (K key : keys) {
+            RoaringBitmap bitmap = bitmaps.get(key);
+            if (bitmap != null) {
+                selected.add(bitmap);
+            }
+        }
+        if (selected.isEmpty()) {
+            return new RoaringBitmap();
+        }
+        return selected.size() == 1 ? selected.get(0).clone() : FastAggregation.or(selected.iterator());
+    }
+
+    private static <K> Map<K, Integer> counts(Map<K, RoaringBitmap> bitmaps, RoaringBitmap within) {
+        Map<K, Integer> counts = new HashMap<>(bitmaps.size() * 2);
+        for (Map.Entry<K, RoaringBitmap> entry : bitmaps.entrySet()) {
+            counts.put(entry.getKey(), within == null
+                    ? entry.getValue().getCardinality()
+                    : RoaringBitmap.andCardinality(entry.getValue(), within));
+        }
+        return counts;
+    }
+
+    private static <K> void removeFrom(Map<K, RoaringBitmap> bitmaps, K key, int id) {
+        RoaringBitmap bitmap = bitmaps.get(key);
+        if (bitmap != null) {
+            bitmap.remove(id);
+            if (bitmap.isEmpty()) {
+                bitmaps.remove(key);
+            }
+        }
+    }
+}
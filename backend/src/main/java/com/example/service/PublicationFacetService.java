@@ -0,0 +1,246 @@
+package com.example.service;
+
+import com.example.model.Publication;
+import com.example.repository.PublicationRepository;
+import com.example.repository.PublicationRepository.FacetRow;
+import com.example.repository.PublicationRepository.PublicationTagRow;
+import com.example.service.PublicationsChangedEvent.PublicationSnapshot;
+import org.roaringbitmap.RoaringBitmap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Üye yayın listesinin tür/etiket filtrelerini bellek içi bitmap indeksinden (PublicationFacetIndex)
+ * cevaplar: filtre ve toplam sayı bitmap işlemleriyle bulunur, veritabanından sadece sayfadaki
+ * satırlar ID ile yüklenir. İndeks açılışta kurulur, PublicationsChangedEvent'lerle commit sonrası
+ * güncellenir. İndeks hazır değilse veya kapalıysa çağıran JPA sorgusuna döner.
+ */
+@Service
+public class PublicationFacetService {
+
+    private static final Logger logger = LoggerFactory.getLogger(PublicationFacetService.class);
+
+    @Autowired
+    private PublicationRepository publicationRepository;
+
+    @Autowired
+    private TagService tagService;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Value("${publications.facet-index.enabled:true}")
+    private boolean enabled = true;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private PublicationFacetIndex index = new PublicationFacetIndex();
+
+    // Açılıştaki kurulum bitene veya indeks kullanılamaz hale gelene (int dışı ID) kadar false
+    private volatile boolean ready;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        if (!enabled) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            long started = System.nanoTime();
+            PublicationFacetIndex rebuilt = new PublicationFacetIndex();
+            transactionTemplate.executeWithoutResult(status -> {
+                Map<Long, int[]> tagsByPublication = tagsByPublication(publicationRepository.findAllPublicationTags());
+                for (FacetRow row : publicationRepository.findAllFacetRows()) {
+                    rebuilt.put(new PublicationSnapshot(row.getPublicationId(), row.getMemberId(), null, null, row.getType(),
+                            row.getPublicationYear(), row.getCitedByCount(), new long[0],
+                            tagsByPublication.getOrDefault(row.getPublicationId(), new int[0])));
+                }
+            });
+            index = rebuilt;
+            ready = true;
+            logger.info("Built publication facet index: {} publications, {} members in {} ms",
+                    rebuilt.publicationCount(), rebuilt.memberCount(), (System.nanoTime() - started) / 1_000_000);
+        } catch (ArithmeticException e) {
+            ready = false;
+            logger.warn("Publication IDs exceed int range, facet index disabled: {}", e.getMessage());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Değişiklikleri commit'ten sonra uygular; transaction dışında yayımlanan olaylar hemen uygulanır.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onPublicationsChanged(PublicationsChangedEvent event) {
+        if (!enabled || event.isEmpty()) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            for (Long publicationId : event.removedPublicationIds()) {
+                index.remove(publicationId);
+            }
+            for (PublicationSnapshot publication : event.upserted()) {
+                index.put(publication);
+            }
+        } catch (ArithmeticException e) {
+            ready = false;
+            logger.warn("Publication IDs exceed int range, facet index disabled: {}", e.getMessage());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Üyenin filtrelenmiş yayın sayfası; indeks kullanılamıyorsa veya sıralama desteklenmiyorsa boş döner.
+     * types/tags boş veya null ise o filtre uygulanmaz; sözlükte olmayan etiketler hiçbir yayınla eşleşmez.
+     */
+    public Optional<Page<Publication>> findPage(Long memberId, List<String> types, List<String> tags, Pageable pageable) {
+        PublicationFacetIndex.Order order = orderOf(pageable.getSort());
+        if (!ready || order == null) {
+            return Optional.empty();
+        }
+        Collection<String> typeFilter = types != null && !types.isEmpty() ? types : null;
+        Collection<Integer> tagFilter = tags != null && !tags.isEmpty() ? tagService.idsOf(tags) : null;
+
+        long[] ids;
+        int total;
+        lock.readLock().lock();
+        try {
+            if (!ready) {
+                return Optional.empty();
+            }
+            RoaringBitmap matches = index.filter(memberId, typeFilter, tagFilter);
+            total = matches.getCardinality();
+            ids = index.page(memberId, matches, order, (int) Math.min(pageable.getOffset(), Integer.MAX_VALUE), pageable.getPageSize());
+        } finally {
+            lock.readLock().unlock();
+        }
+        return Optional.of(new PageImpl<>(loadInOrder(ids), pageable, total));
+    }
+
+    /**
+     * Facet sayıları bitmap kardinalitelerinden (filtre varsa kesişim kardinalitelerinden) tek geçişte
+     * hesaplanır; indeks kullanılamıyorsa boş döner.
+     */
+    public Optional<PublicationMetadata> findMetadata(Long memberId, List<String> types, List<String> tags) {
+        if (!ready) {
+            return Optional.empty();
+        }
+        Collection<String> typeFilter = types != null && !types.isEmpty() ? types : null;
+        Collection<Integer> tagFilter = tags != null && !tags.isEmpty() ? tagService.idsOf(tags) : null;
+
+        Map<String, Integer> typeCounts;
+        Map<Integer, Integer> tagCounts;
+        lock.readLock().lock();
+        try {
+            if (!ready) {
+                return Optional.empty();
+            }
+            typeCounts = index.typeCounts(memberId, tagFilter != null ? index.filter(memberId, null, tagFilter) : null);
+            tagCounts = index.tagCounts(memberId, typeFilter != null ? index.filter(memberId, typeFilter, null) : null);
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        Map<String, Integer> tagCountsByName = new TreeMap<>();
+        Map<Integer, String> names = tagService.namesOf(tagCounts.keySet());
+        tagCounts.forEach((tagId, count) -> {
+            String name = names.get(tagId);
+            if (name != null) {
+                tagCountsByName.put(name, count);
+            }
+        });
+        Map<String, Integer> sortedTypeCounts = new TreeMap<>(typeCounts);
+        return Optional.of(new PublicationMetadata(new ArrayList<>(tagCountsByName.keySet()),
+                new ArrayList<>(sortedTypeCounts.keySet()), tagCountsByName, sortedTypeCounts));
+    }
+
+    private List<Publication> loadInOrder(long[] ids) {
+        if (ids.length == 0) {
+            return List.of();
+        }
+        List<Long> idList = new ArrayList<>(ids.length);
+        for (long id : ids) {
+            idList.add(id);
+        }
+        Map<Long, Publication> byId = new HashMap<>();
+        for (Publication publication : publicationRepository.findAllById(idList)) {
+            byId.put(publication.getId(), publication);
+        }
+        List<Publication> ordered = new ArrayList<>(ids.length);
+        for (long id : ids) {
+            Publication publication = byId.get(id);
+            // İndeks okunduktan sonra silinmiş olabilir
+            if (publication != null) {
+                ordered.add(publication);
+            }
+        }
+        return ordered;
+    }
+
+    private static PublicationFacetIndex.Order orderOf(Sort sort) {
+        List<Sort.Order> orders = sort.toList();
+        if (orders.isEmpty()) {
+            return PublicationFacetIndex.Order.ID;
+        }
+        if (orders.size() > 1) {
+            return null;
+        }
+        Sort.Order order = orders.get(0);
+        boolean ascending = order.isAscending();
+        return switch (order.getProperty()) {
+            case "id" -> ascending ? PublicationFacetIndex.Order.ID : null;
+            case "publicationYear" -> ascending ? PublicationFacetIndex.Order.YEAR_ASC : PublicationFacetIndex.Order.YEAR_DESC;
+            case "citedByCount" -> ascending ? PublicationFacetIndex.Order.CITATIONS_ASC : PublicationFacetIndex.Order.CITATIONS_DESC;
+            default -> null;
+        };
+    }
+
+    static Map<Long, int[]> tagsByPublication(List<PublicationTagRow> rows) {
+        Map<Long, int[]> tags = new HashMap<>();
+        int[] buffer = new int[16];
+        int size = 0;
+        Long current = null;
+        for (PublicationTagRow row : rows) {
+            if (!row.getPublicationId().equals(current)) {
+                if (current != null) {
+                    tags.put(current, Arrays.copyOf(buffer, size));
+                }
+                current = row.getPublicationId();
+                size = 0;
+            }
+            if (size == buffer.length) {
+                buffer = Arrays.copyOf(buffer, size * 2);
+            }
+            buffer[size++] = row.getTagId();
+        }
+        if (current != null) {
+            tags.put(current, Arrays.copyOf(buffer, size));
+        }
+        return tags;
+    }
+}
@@ -0,0 +1,13 @@
+package com.example.service;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Üyenin yayın filtreleri: tüm etiket ve türler (ada göre sıralı) ile her birine uyan yayın sayısı.
+ * Sayılar diğer boyuttaki aktif filtreye göre hesaplanır (etiket sayıları seçili türlere, tür
+ * sayıları seçili etiketlere göre); bir boyutun kendi seçimi kendi sayılarını daraltmaz.
+ */
+public record PublicationMetadata(List<String> tags, List<String> types,
+                                  Map<String, Integer> tagCounts, Map<String, Integer> typeCounts) {
+}
@@ -0,0 +1,430 @@
+package com.example.service;
+
+import com.example.service.PublicationsChangedEvent.PublicationSnapshot;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Yayın başlığı, yazar adları ve yayın yeri (sourceName) üzerinde ters indeks ve BM25 sıralaması.
+ * Alanlar ağırlıklı birleştirilir (basit BM25F): terim frekansı ve belge uzunluğu alan ağırlığıyla
+ * çarpılarak toplanır, böylece başlıktaki eşleşme yayın yerindekinden önce gelir. Sorgunun tüm
+ * terimleri eşleşmelidir (AND); sorgu bir kelimenin ortasında bitiyorsa son terim önek olarak da aranır.
+ * <p>
+ * Belgeler eklenme sırasıyla ordinal alır; güncelleme eski ordinal'i silinmiş işaretleyip yenisini
+ * ekler, silinmiş belgeler çoğalınca indeks sıkıştırılır. Yazar adları yazar ID'sine göre bir kez
+ * ayrıştırılır (putAuthor); indekste olmayan yazarlar belgeye katılmaz.
+ * <p>
+ * Thread-safe DEĞİLDİR; eşzamanlı erişim PublicationSearchService'teki kilitle korunur.
+ */
+public class PublicationSearchIndex {
+
+    static final float K1 = 1.2f;
+    static final float B = 0.75f;
+    static final int TITLE_WEIGHT = 3;
+    static final int AUTHOR_WEIGHT = 2;
+    static final int VENUE_WEIGHT = 1;
+    // Önek eşleşmesi tam eşleşmeden biraz düşük puan alır; kısa öneklerin genişlemesi sınırlıdır
+    static final float PREFIX_FACTOR = 0.8f;
+    static final int MIN_PREFIX_LENGTH = 2;
+    static final int MAX_PREFIX_EXPANSIONS = 64;
+    static final int MAX_QUERY_TERMS = 32;
+    private static final int COMPACT_MIN_DEAD = 1024;
+    private static final int NO_YEAR = Integer.MIN_VALUE;
+
+    /**
+     * Arama filtreleri; null olan boyutta filtre yoktur. Tür ve etiketlerde herhangi biri (OR),
+     * boyutlar arasında hepsi (AND) sağlanmalıdır. Yıl aralığı verilirse yılı olmayan yayınlar elenir.
+     */
+    public record Filter(Long memberId, Set<String> types, Integer yearFrom, Integer yearTo, Set<Integer> tagIds) {
+
+        public static final Filter NONE = new Filter(null, null, null, null, null);
+    }
+
+    public record Hit(long publicationId, float score) {
+    }
+
+    public record Result(List<Hit> hits, int total) {
+
+        static final Result EMPTY = new Result(List.of(), 0);
+    }
+
+    private static final class Postings {
+        private int[] docs = new int[4];
+        private int[] freqs = new int[4];
+        private int size;
+        // Silinmemiş belge sayısı (IDF için doküman frekansı)
+        private int live;
+
+        private void add(int doc, int freq) {
+            if (size == docs.length) {
+                docs = Arrays.copyOf(docs, size * 2);
+                freqs = Arrays.copyOf(freqs, size * 2);
+            }
+            docs[size] = doc;
+            freqs[size] = freq;
+            size++;
+            live++;
+        }
+    }
+
+    private record QueryTerm(int exact, List<Integer> expansions, long cost) {
+    }
+
+    /**
+     * Tek sorgunun BM25 puanları; matched[doc] belgenin eşleştiği sorgu terimlerinin bit maskesidir.
+     * İlk (en seyrek) terim aday belgeleri belirler.
+     */
+    private final class Scorer {
+        private final float[] scores = new float[size];
+        private final int[] matched = new int[size];
+        private final float averageLength = (float) totalLength / live;
+        private int[] candidates = new int[64];
+        private int candidateCount;
+
+        private void accumulate(int termId, float weight, int bit) {
+            Postings list = postings.get(termId);
+            float idf = (float) Math.log(1 + (live - list.live + 0.5) / (list.live + 0.5));
+            for (int j = 0; j < list.size; j++) {
+                int doc = list.docs[j];
+                if (docTerms[doc] == null) {
+                    continue;
+                }
+                if (matched[doc] == 0) {
+                    if (bit != 1) {
+                        continue;
+                    }
+                    if (candidateCount == candidates.length) {
+                        candidates = Arrays.copyOf(candidates, candidateCount * 2);
+                    }
+                    candidates[candidateCount++] = doc;
+                }
+                float tf = list.freqs[j];
+                float norm = K1 * (1 - B + B * lengths[doc] / averageLength);
+                scores[doc] += weight * idf * tf * (K1 + 1) / (tf + norm);
+                matched[doc] |= bit;
+            }
+        }
+    }
+
+    private final TreeMap<String, Integer> termIds = new TreeMap<>();
+    private List<String> terms = new ArrayList<>();
+    private List<Postings> postings = new ArrayList<>();
+    private final Map<Long, String[]> authorTokens = new HashMap<>();
+
+    // Belge alanları ordinal'e göre; docTerms[doc] == null silinmiş belge demektir
+    private final Map<Long, Integer> ordinals = new HashMap<>();
+    private long[] publicationIds = new long[16];
+    private Long[] memberIds = new Long[16];
+    private String[] types = new String[16];
+    private int[] years = new int[16];
+    private int[][] tagIds = new int[16][];
+    private int[] lengths = new int[16];
+    private int[][] docTerms = new int[16][];
+    private int size;
+    private int live;
+    private long totalLength;
+
+    public boolean hasAuthor(long authorId) {
+        return authorTokens.containsKey(authorId);
+    }
+
+    /**
+     * Yazar adının terimlerini kaydeder; sonraki put çağrıları bu yazarı içeren yayınlarda kullanır.
+     */
+    public void putAuthor(long authorId, String name) {
+        authorTokens.put(authorId, SearchTokenizer.tokenize(name).toArray(new String[0]));
+    }
+
+    /**
+     * Yayının son halini indeksler; önceki hali varsa silinir. Hiç terimi olmayan yayın indekslenmez.
+     */
+    public void put(PublicationSnapshot publication) {
+        remove(publication.publicationId());
+        Map<String, Integer> freqs = new HashMap<>();
+        int length = addTerms(freqs, SearchTokenizer.tokenize(publication.title()), TITLE_WEIGHT);
+        for (long authorId : publication.authorIds()) {
+            String[] tokens = authorTokens.get(authorId);
+            if (tokens != null) {
+                length += addTerms(freqs, Arrays.asList(tokens), AUTHOR_WEIGHT);
+            }
+        }
+        length += addTerms(freqs, SearchTokenizer.tokenize(publication.sourceName()), VENUE_WEIGHT);
+        if (freqs.isEmpty()) {
+            return;
+        }
+
+        ensureCapacity(size + 1);
+        int doc = size++;
+        publicationIds[doc] = publication.publicationId();
+        memberIds[doc] = publication.memberId();
+        types[doc] = publication.type();
+        years[doc] = publication.publicationYear() != null ? publication.publicationYear() : NO_YEAR;
+        tagIds[doc] = publication.tagIds().clone();
+        lengths[doc] = length;
+        int[] termsOfDoc = new int[freqs.size()];
+        int i = 0;
+        for (Map.Entry<String, Integer> entry : freqs.entrySet()) {
+            int termId = termId(entry.getKey());
+            postings.get(termId).add(doc, entry.getValue());
+            termsOfDoc[i++] = termId;
+        }
+        docTerms[doc] = termsOfDoc;
+        ordinals.put(publication.publicationId(), doc);
+        live++;
+        totalLength += length;
+    }
+
+    public void remove(long publicationId) {
+        Integer doc = ordinals.remove(publicationId);
+        if (doc == null) {
+            return;
+        }
+        for (int termId : docTerms[doc]) {
+            postings.get(termId).live--;
+        }
+        docTerms[doc] = null;
+        tagIds[doc] = null;
+        types[doc] = null;
+        memberIds[doc] = null;
+        live--;
+        totalLength -= lengths[doc];
+        int dead = size - live;
+        if (dead >= COMPACT_MIN_DEAD && dead > live) {
+            compact();
+        }
+    }
+
+    /**
+     * Sorguya ve filtreye uyan yayınlardan puana göre (eşitlikte yayın ID'sine göre) sıralı
+     * [offset, offset + limit) aralığı ve toplam eşleşme sayısı.
+     */
+    public Result search(String query, Filter filter, int offset, int limit) {
+        List<String> tokens = SearchTokenizer.tokenize(query);
+        if (tokens.isEmpty() || live == 0) {
+            return Result.EMPTY;
+        }
+        // Sorgu harf/rakamla bitiyorsa kullanıcı son kelimeyi yazmayı bitirmemiş olabilir
+        String prefix = Character.isLetterOrDigit(query.charAt(query.length() - 1)) ? tokens.get(tokens.size() - 1) : null;
+        List<String> queryTerms = new ArrayList<>(new LinkedHashSet<>(tokens));
+        if (queryTerms.size() > MAX_QUERY_TERMS) {
+            queryTerms = queryTerms.subList(0, MAX_QUERY_TERMS);
+        }
+
+        List<QueryTerm> required = new ArrayList<>(queryTerms.size());
+        for (String term : queryTerms) {
+            Integer exact = termIds.get(term);
+            int exactId = exact != null && postings.get(exact).live > 0 ? exact : -1;
+            List<Integer> expanded = term.equals(prefix) && term.length() >= MIN_PREFIX_LENGTH ? expansions(term) : List.of();
+            if (exactId < 0 && expanded.isEmpty()) {
+                return Result.EMPTY;
+            }
+            long cost = exactId >= 0 ? postings.get(exactId).size : 0;
+            for (int termId : expanded) {
+                cost += postings.get(termId).size;
+            }
+            required.add(new QueryTerm(exactId, expanded, cost));
+        }
+        // En az belgede geçen terimden başlanır: onun belgeleri aday kümesidir, sonraki terimler
+        // sadece adayları puanlar ve son tarama tüm belgeler yerine adaylar üzerinden yapılır
+        required.sort(Comparator.comparingLong(QueryTerm::cost));
+        Scorer scorer = new Scorer();
+        for (int i = 0; i < required.size(); i++) {
+            QueryTerm term = required.get(i);
+            if (term.exact() >= 0) {
+                scorer.accumulate(term.exact(), 1f, 1 << i);
+            }
+            for (int termId : term.expansions()) {
+                scorer.accumulate(termId, PREFIX_FACTOR, 1 << i);
+            }
+        }
+        float[] scores = scorer.scores;
+
+        int allTerms = required.size() == Integer.SIZE ? -1 : (1 << required.size()) - 1;
+        int wanted = (int) Math.min((long) offset + Math.max(limit, 0), Integer.MAX_VALUE);
+        // En kötüsü başta: puanı düşük, eşitlikte ID'si büyük olan
+        Comparator<Integer> worstFirst = Comparator.<Integer>comparingDouble(doc -> scores[doc])
+                .thenComparing(doc -> publicationIds[doc], Comparator.reverseOrder());
+        PriorityQueue<Integer> top = new PriorityQueue<>(worstFirst);
+        int total = 0;
+        for (int i = 0; i < scorer.candidateCount; i++) {
+            int doc = scorer.candidates[i];
+            if (scorer.matched[doc] != allTerms || !matches(filter, doc)) {
+                continue;
+            }
+            total++;
+            if (wanted > 0) {
+                top.offer(doc);
+                if (top.size() > wanted) {
+                    top.poll();
+                }
+            }
+        }
+
+        // Kuyruktan en kötüden başlayarak çıkar; en iyi offset kadarı sayfanın öncesidir
+        int count = Math.max(top.size() - offset, 0);
+        Hit[] hits = new Hit[count];
+        for (int i = count - 1; i >= 0; i--) {
+            int doc = top.poll();
+            hits[i] = new Hit(publicationIds[doc], scores[doc]);
+        }
+        return new Result(List.of(hits), total);
+    }
+
+    public int publicationCount() {
+        return live;
+    }
+
+    public int termCount() {
+        return termIds.size();
+    }
+
+    /**
+     * Önekle başlayan (kendisi hariç) terimler; çok fazlaysa en çok belgede geçenler.
+     */
+    private List<Integer> expansions(String prefix) {
+        List<Integer> expanded = new ArrayList<>();
+        for (Map.Entry<String, Integer> entry : termIds.tailMap(prefix, false).entrySet()) {
+            if (!entry.getKey().startsWith(prefix)) {
+                break;
+            }
+            if (postings.get(entry.getValue()).live > 0) {
+                expanded.add(entry.getValue());
+            }
+        }
+        if (expanded.size() > MAX_PREFIX_EXPANSIONS) {
+            expanded.sort(Comparator.comparingInt((Integer termId) -> postings.get(termId).live).reversed());
+            return expanded.subList(0, MAX_PREFIX_EXPANSIONS);
+        }
+        return expanded;
+    }
+
+    private boolean matches(Filter filter, int doc) {
+        if (filter.memberId() != null && !filter.memberId().equals(memberIds[doc])) {
+            return false;
+        }
+        if (filter.types() != null && (types[doc] == null || !filter.types().contains(types[doc]))) {
+            return false;
+        }
+        if (filter.yearFrom() != null || filter.yearTo() != null) {
+            int year = years[doc];
+            if (year == NO_YEAR || (filter.yearFrom() != null && year < filter.yearFrom())
+                    || (filter.yearTo() != null && year > filter.yearTo())) {
+                return false;
+            }
+        }
+        if (filter.tagIds() != null) {
+            for (int tagId : tagIds[doc]) {
+                if (filter.tagIds().contains(tagId)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+        return true;
+    }
+
+    private static int addTerms(Map<String, Integer> freqs, List<String> tokens, int weight) {
+        for (String token : tokens) {
+            freqs.merge(token, weight, Integer::sum);
+        }
+        return tokens.size() * weight;
+    }
+
+    private int termId(String term) {
+        Integer id = termIds.get(term);
+        if (id == null) {
+            id = terms.size();
+            termIds.put(term, id);
+            terms.add(term);
+            postings.add(new Postings());
+        }
+        return id;
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity <= publicationIds.length) {
+            return;
+        }
+        int grown = Math.max(capacity, publicationIds.length * 2);
+        publicationIds = Arrays.copyOf(publicationIds, grown);
+        memberIds = Arrays.copyOf(memberIds, grown);
+        types = Arrays.copyOf(types, grown);
+        years = Arrays.copyOf(years, grown);
+        tagIds = Arrays.copyOf(tagIds, grown);
+        lengths = Arrays.copyOf(lengths, grown);
+        docTerms = Arrays.copyOf(docTerms, grown);
+    }
+
+    /**
+     * Silinmiş belgeleri ve artık hiçbir belgede geçmeyen terimleri atar; ordinal ve terim ID'leri
+     * sırası korunarak yeniden numaralanır.
+     */
+    private void compact() {
+        int[] docRemap = new int[size];
+        int next = 0;
+        for (int doc = 0; doc < size; doc++) {
+            if (docTerms[doc] == null) {
+                docRemap[doc] = -1;
+                continue;
+            }
+            docRemap[doc] = next;
+            publicationIds[next] = publicationIds[doc];
+            memberIds[next] = memberIds[doc];
+            types[next] = types[doc];
+            years[next] = years[doc];
+            tagIds[next] = tagIds[doc];
+            lengths[next] = lengths[doc];
+            docTerms[next] = docTerms[doc];
+            ordinals.put(publicationIds[next], next);
+            next++;
+        }
+        Arrays.fill(memberIds, next, size, null);
+        Arrays.fill(types, next, size, null);
+        Arrays.fill(tagIds, next, size, null);
+        Arrays.fill(docTerms, next, size, null);
+        size = next;
+
+        int[] termRemap = new int[terms.size()];
+        List<String> keptTerms = new ArrayList<>();
+        List<Postings> keptPostings = new ArrayList<>();
+        for (int termId = 0; termId < terms.size(); termId++) {
+            Postings list = postings.get(termId);
+            if (list.live == 0) {
+                termRemap[termId] = -1;
+                termIds.remove(terms.get(termId));
+                continue;
+            }
+            int kept = 0;
+            for (int j = 0; j < list.size; j++) {
+                int doc = docRemap[list.docs[j]];
+                if (doc >= 0) {
+                    list.docs[kept] = doc;
+                    list.freqs[kept] = list.freqs[j];
+                    kept++;
+                }
+            }
+            list.size = kept;
+            termRemap[termId] = keptTerms.size();
+            termIds.put(terms.get(termId), keptTerms.size());
+            keptTerms.add(terms.get(termId));
+            keptPostings.add(list);
+        }
+        terms = keptTerms;
+        postings = keptPostings;
+        for (int doc = 0; doc < size; doc++) {
+            int[] termsOfDoc = docTerms[doc];
+            for (int i = 0; i < termsOfDoc.length; i++) {
+                termsOfDoc[i] = termRemap[termsOfDoc[i]];
+            }
+        }
+    }
+}
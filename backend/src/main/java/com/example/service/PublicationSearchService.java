@@ -0,0 +1,239 @@
+package com.example.service;
+
+import com.example.model.Publication;
+import com.example.repository.AuthorRepository;
+import com.example.repository.AuthorRepository.AuthorName;
+import com.example.repository.PublicationRepository;
+import com.example.repository.PublicationRepository.PublicationAuthorRow;
+import com.example.repository.PublicationRepository.SearchRow;
+import com.example.service.PublicationsChangedEvent.PublicationSnapshot;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Grup genelinde yayın araması: başlık, yazar ve yayın yeri üzerinde bellek içi BM25 indeksi
+ * (PublicationSearchIndex). İndeks açılışta veritabanından kurulur, PublicationsChangedEvent'lerle
+ * (ingestion, elle eklenen yayın, etiket/tür düzenleme, silme) commit sonrası artımlı güncellenir.
+ * Veritabanından sadece sonuç sayfasındaki yayınlar ID ile yüklenir.
+ */
+@Service
+public class PublicationSearchService {
+
+    private static final Logger logger = LoggerFactory.getLogger(PublicationSearchService.class);
+
+    static final int MAX_PAGE_SIZE = 100;
+
+    /**
+     * Arama sonucu; score BM25 puanıdır, sadece aynı sorgunun sonuçları arasında karşılaştırılabilir.
+     */
+    public record SearchHit(Publication publication, double score) {
+    }
+
+    @Autowired
+    private PublicationRepository publicationRepository;
+
+    @Autowired
+    private AuthorRepository authorRepository;
+
+    @Autowired
+    private TagService tagService;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Value("${publications.search.enabled:true}")
+    private boolean enabled = true;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private PublicationSearchIndex index = new PublicationSearchIndex();
+
+    // Açılıştaki kurulum bitene kadar false
+    private volatile boolean ready;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        if (!enabled) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            long started = System.nanoTime();
+            PublicationSearchIndex rebuilt = new PublicationSearchIndex();
+            transactionTemplate.executeWithoutResult(status -> {
+                for (AuthorName author : authorRepository.findAllNames()) {
+                    rebuilt.putAuthor(author.getId(), author.getNormalizedName());
+                }
+                Map<Long, long[]> authorsByPublication = authorsByPublication(publicationRepository.findAllPublicationAuthors());
+                Map<Long, int[]> tagsByPublication = PublicationFacetService.tagsByPublication(publicationRepository.findAllPublicationTags());
+                for (SearchRow row : publicationRepository.findAllSearchRows()) {
+                    rebuilt.put(new PublicationSnapshot(row.getPublicationId(), row.getMemberId(), row.getTitle(),
+                            row.getSourceName(), row.getType(), row.getPublicationYear(), 0,
+                            authorsByPublication.getOrDefault(row.getPublicationId(), new long[0]),
+                            tagsByPublication.getOrDefault(row.getPublicationId(), new int[0])));
+                }
+            });
+            index = rebuilt;
+            ready = true;
+            logger.info("Built publication search index: {} publications, {} terms in {} ms",
+                    rebuilt.publicationCount(), rebuilt.termCount(), (System.nanoTime() - started) / 1_000_000);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Değişiklikleri commit'ten sonra uygular. İndekste olmayan yazarların adları (ingestion'da yeni
+     * eklenenler) kilit dışında tek sorguyla yüklenir.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onPublicationsChanged(PublicationsChangedEvent event) {
+        if (!enabled || event.isEmpty()) {
+            return;
+        }
+        Set<Long> missingAuthors = new LinkedHashSet<>();
+        lock.readLock().lock();
+        try {
+            for (PublicationSnapshot publication : event.upserted()) {
+                for (long authorId : publication.authorIds()) {
+                    if (!index.hasAuthor(authorId)) {
+                        missingAuthors.add(authorId);
+                    }
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        List<AuthorName> authors = loadAuthorNames(missingAuthors);
+
+        lock.writeLock().lock();
+        try {
+            for (AuthorName author : authors) {
+                index.putAuthor(author.getId(), author.getNormalizedName());
+            }
+            for (Long publicationId : event.removedPublicationIds()) {
+                index.remove(publicationId);
+            }
+            for (PublicationSnapshot publication : event.upserted()) {
+                index.put(publication);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Sorguya uyan yayınlar, puana göre sıralı. types/tags boş veya null ise o filtre uygulanmaz;
+     * sözlükte olmayan etiketler hiçbir yayınla eşleşmez. İndeks henüz kurulmadıysa boş döner.
+     */
+    public Optional<Page<SearchHit>> search(String query, Long memberId, List<String> types, Integer yearFrom,
+                                            Integer yearTo, List<String> tags, int page, int size) {
+        if (query == null || query.isBlank()) {
+            throw new IllegalArgumentException("Search query must not be blank");
+        }
+        if (page < 0 || size < 1 || size > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("Page must be >= 0 and size between 1 and " + MAX_PAGE_SIZE);
+        }
+        if (yearFrom != null && yearTo != null && yearFrom > yearTo) {
+            throw new IllegalArgumentException("yearFrom must not be after yearTo");
+        }
+        if (!ready) {
+            return Optional.empty();
+        }
+        PublicationSearchIndex.Filter filter = new PublicationSearchIndex.Filter(memberId,
+                types != null && !types.isEmpty() ? new HashSet<>(types) : null, yearFrom, yearTo,
+                tags != null && !tags.isEmpty() ? tagService.idsOf(tags) : null);
+        int offset = (int) Math.min((long) page * size, Integer.MAX_VALUE);
+
+        PublicationSearchIndex.Result result;
+        lock.readLock().lock();
+        try {
+            result = index.search(query, filter, offset, size);
+        } finally {
+            lock.readLock().unlock();
+        }
+        return Optional.of(new PageImpl<>(loadHits(result.hits()), PageRequest.of(page, size), result.total()));
+    }
+
+    private List<SearchHit> loadHits(List<PublicationSearchIndex.Hit> hits) {
+        if (hits.isEmpty()) {
+            return List.of();
+        }
+        List<Long> ids = new ArrayList<>(hits.size());
+        for (PublicationSearchIndex.Hit hit : hits) {
+            ids.add(hit.publicationId());
+        }
+        Map<Long, Publication> byId = new HashMap<>();
+        for (Publication publication : publicationRepository.findAllById(ids)) {
+            byId.put(publication.getId(), publication);
+        }
+        List<SearchHit> loaded = new ArrayList<>(hits.size());
+        for (PublicationSearchIndex.Hit hit : hits) {
+            Publication publication = byId.get(hit.publicationId());
+            // İndeks okunduktan sonra silinmiş olabilir
+            if (publication != null) {
+                loaded.add(new SearchHit(publication, hit.score()));
+            }
+        }
+        return loaded;
+    }
+
+    private List<AuthorName> loadAuthorNames(Set<Long> authorIds) {
+        if (authorIds.isEmpty()) {
+            return List.of();
+        }
+        List<Long> idList = new ArrayList<>(authorIds);
+        List<AuthorName> names = new ArrayList<>(idList.size());
+        for (int from = 0; from < idList.size(); from += PublicationBatchWriter.IN_CLAUSE_CHUNK) {
+            List<Long> chunk = idList.subList(from, Math.min(from + PublicationBatchWriter.IN_CLAUSE_CHUNK, idList.size()));
+            names.addAll(authorRepository.findNamesByIdIn(chunk));
+        }
+        return names;
+    }
+
+    private static Map<Long, long[]> authorsByPublication(List<PublicationAuthorRow> rows) {
+        Map<Long, long[]> authors = new HashMap<>();
+        long[] buffer = new long[16];
+        int size = 0;
+        Long current = null;
+        for (PublicationAuthorRow row : rows) {
+            if (!row.getPublicationId().equals(current)) {
+                if (current != null) {
+                    authors.put(current, Arrays.copyOf(buffer, size));
+                }
+                current = row.getPublicationId();
+                size = 0;
+            }
+            if (size == buffer.length) {
+                buffer = Arrays.copyOf(buffer, size * 2);
+            }
+            buffer[size++] = row.getAuthorId();
+        }
+        if (current != null) {
+            authors.put(current, Arrays.copyOf(buffer, size));
+        }
+        return authors;
+    }
+}
@@ -1,14 +1,19 @@
 package com.example.service;
 
 import com.example.model.Publication;
+import com.example.model.Member;
+import com.example.repository.MemberRepository;
 import com.example.repository.PublicationRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional; // Bu import'un olması gerekir
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 @Service
 public class PublicationService {
@@ -18,8 +23,46 @@ public class PublicationService {
     @Autowired
     private PublicationRepository publicationRepository;
 
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private MemberYearCountService yearCountService;
+
+    @Autowired
+    private TagService tagService;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    /**
+     * Bir yayını siler; üyenin sayaçları ve yıl özeti aynı transaction içinde düşürülür.
+     */
+    @Transactional
+    public void deletePublication(Long publicationId) {
+        logger.info("Deleting publication ID: {}", publicationId);
+
+        Publication publication = publicationRepository.findById(publicationId)
+                .orElseThrow(() -> {
+                    logger.error("Publication not found with ID: {}", publicationId);
+                    return new IllegalArgumentException("Publication not found with ID: " + publicationId);
+                });
+
+        Member member = publication.getMember();
+        if (member != null) {
+            memberRepository.adjustCounts(member.getId(), -1, -publication.getCitedByCount());
+            Map<Integer, Integer> yearDeltas = new HashMap<>();
+            MemberYearCountService.addYear(yearDeltas, publication.getPublicationYear(), -1);
+            yearCountService.applyDeltas(member.getId(), yearDeltas);
+        }
+        publicationRepository.delete(publication);
+        eventPublisher.publishEvent(PublicationsChangedEvent.removed(List.of(publicationId)));
+        logger.info("Successfully deleted publication ID: {}", publicationId);
+    }
+
     /**
-     * Bir yayının etiket listesini günceller.
+     * Bir yayının etiket listesini günceller. Adlar sözlük ID'lerine çevrilir (yeni etiketler eklenir)
+     * ve sadece fark yazılır: kalkan etiketler için DELETE, yeniler için INSERT.
      */
     @Transactional
     public Publication updatePublicationTags(Long publicationId, List<String> tags) {
@@ -32,16 +75,14 @@ public class PublicationService {
                     return new IllegalArgumentException("Publication not found with ID: " + publicationId);
                 });
 
-        // Etiketleri güncelle (eski listeyi temizle, yenisini ekle)
-        publication.getTags().clear();
-        if (tags != null) {
-            publication.getTags().addAll(tags);
-        }
+        List<Integer> tagIds = tags != null ? tagService.internNames(tags) : List.of();
+        tagService.applyDiff(publication, tagIds);
 
         // Değişiklikleri kaydet
         Publication savedPublication = publicationRepository.save(publication);
+        eventPublisher.publishEvent(PublicationsChangedEvent.upserted(List.of(savedPublication)));
         logger.info("Successfully updated tags for publication ID: {}. New tag count: {}", 
-                    savedPublication.getId(), savedPublication.getTags().size());
+                    savedPublication.getId(), savedPublication.getTagSet().size());
         
         return savedPublication;
     }
@@ -64,6 +105,7 @@ public class PublicationService {
         publication.setType(type);
 
         Publication savedPublication = publicationRepository.save(publication);
+        eventPublisher.publishEvent(PublicationsChangedEvent.upserted(List.of(savedPublication)));
         logger.info("Successfully updated type for publication ID: {}", savedPublication.getId());
         
         return savedPublication;
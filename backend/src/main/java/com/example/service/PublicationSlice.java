@@ -0,0 +1,12 @@
+package com.example.service;
+
+import com.example.model.Publication;
+
+import java.util.List;
+
+/**
+ * Keyset sayfalamasında bir sayfa: yayınlar ve (devamı varsa) sonraki sayfanın opak token'ı.
+ * Toplam sayı hesaplanmaz; sonraki sayfanın varlığı bir fazla satır okunarak anlaşılır.
+ */
+public record PublicationSlice(List<Publication> content, int size, boolean hasNext, String nextCursor) {
+}
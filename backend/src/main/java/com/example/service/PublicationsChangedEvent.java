@@ -0,0 +1,62 @@
+package com.example.service;
+
+import com.example.model.Author;
+import com.example.model.Publication;
+import com.example.model.Tag;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Yayınlar eklendiğinde, güncellendiğinde veya silindiğinde yayımlanır. Dinleyiciler
+ * (CollaborationService, PublicationFacetService, PublicationSearchService) commit'ten sonra bellek içi indekslerini artımlı günceller.
+ *
+ * @param upserted              eklenen/güncellenen yayınların son hali
+ * @param removedPublicationIds silinen yayınların ID'leri
+ */
+public record PublicationsChangedEvent(List<PublicationSnapshot> upserted, List<Long> removedPublicationIds) {
+
+    /**
+     * İndekslerin ihtiyaç duyduğu alanlar; yazar ID'leri yayındaki sırayla.
+     */
+    public record PublicationSnapshot(long publicationId, Long memberId, String title, String sourceName, String type,
+                                      Integer publicationYear, int citedByCount, long[] authorIds, int[] tagIds) {
+
+        /**
+         * Kaydedilmiş yayından; yazar ve etiket referanslarının sadece ID'si okunur (proxy'ler yüklenmez).
+         */
+        public static PublicationSnapshot of(Publication publication) {
+            List<Author> authors = publication.getAuthorList();
+            long[] authorIds = new long[authors.size()];
+            for (int i = 0; i < authorIds.length; i++) {
+                authorIds[i] = authors.get(i).getId();
+            }
+            int[] tagIds = new int[publication.getTagSet().size()];
+            int i = 0;
+            for (Tag tag : publication.getTagSet()) {
+                tagIds[i++] = tag.getId();
+            }
+            return new PublicationSnapshot(publication.getId(),
+                    publication.getMember() != null ? publication.getMember().getId() : null,
+                    publication.getTitle(), publication.getSourceName(), publication.getType(),
+                    publication.getPublicationYear(), publication.getCitedByCount(),
+                    authorIds, tagIds);
+        }
+    }
+
+    public static PublicationsChangedEvent upserted(List<Publication> publications) {
+        List<PublicationSnapshot> upserted = new ArrayList<>(publications.size());
+        for (Publication publication : publications) {
+            upserted.add(PublicationSnapshot.of(publication));
+        }
+        return new PublicationsChangedEvent(upserted, List.of());
+    }
+
+    public static PublicationsChangedEvent removed(List<Long> publicationIds) {
+        return new PublicationsChangedEvent(List.of(), publicationIds);
+    }
+
+    public boolean isEmpty() {
+        return upserted.isEmpty() && removedPublicationIds.isEmpty();
+    }
+}
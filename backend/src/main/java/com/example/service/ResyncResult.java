@@ -0,0 +1,16 @@
+package com.example.service;
+
+import java.time.Instant;
+
+/**
+ * Bir üyenin delta re-sync sonucu. since, sağlayıcıdan istenen değişiklik başlangıcıdır
+ * (ilk senkronizasyonda veya önceki watermark yoksa null, yani tam liste).
+ */
+public record ResyncResult(Long memberId, Instant since, Instant syncedAt,
+                           int inserted, int updated, int unchanged, int duplicates,
+                           int worksCount, int citedByCount) {
+
+    public int rowsChanged() {
+        return inserted + updated;
+    }
+}
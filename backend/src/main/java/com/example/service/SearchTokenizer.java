@@ -0,0 +1,67 @@
+package com.example.service;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Yayın araması için kelime ayırıcı. Metin Author.normalizeName ile aynı şekilde katlanır: küçük
+ * harf (Locale.ROOT), aksanlar atılır (ş→s, ğ→g, ü→u, é→e), noktasız ı ve noktalı İ 'i' olur;
+ * böylece "Işık", "ISIK" ve "isik" aynı terimdir. Kesme işaretinden sonraki ek atılır
+ * ("Türkiye'deki" → turkiye, "Alzheimer's" → alzheimer); tek harfli önekler ise birleştirilir
+ * ("O'Brien" → obrien). Harf ve rakam dışındaki her karakter ayırıcıdır.
+ */
+public final class SearchTokenizer {
+
+    static final int MAX_TOKEN_LENGTH = 40;
+
+    private SearchTokenizer() {
+    }
+
+    public static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null || text.isEmpty()) {
+            return tokens;
+        }
+        String folded = fold(text);
+        StringBuilder token = new StringBuilder();
+        boolean skipSuffix = false;
+        for (int i = 0; i < folded.length(); i++) {
+            char c = folded.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                if (!skipSuffix) {
+                    token.append(c);
+                }
+            } else if ((c == '\'' || c == '’') && token.length() > 0 && !skipSuffix
+                    && i + 1 < folded.length() && Character.isLetter(folded.charAt(i + 1))) {
+                // Tek harfli önek (O', d') soyadının parçasıdır; daha uzunsa kesmeden sonrası ektir
+                skipSuffix = token.length() > 1;
+            } else {
+                add(tokens, token);
+                skipSuffix = false;
+            }
+        }
+        add(tokens, token);
+        return tokens;
+    }
+
+    static String fold(String text) {
+        String decomposed = Normalizer.normalize(text, Normalizer.Form.NFKD);
+        StringBuilder folded = new StringBuilder(decomposed.length());
+        for (int i = 0; i < decomposed.length(); i++) {
+            char c = decomposed.charAt(i);
+            if (Character.getType(c) != Character.NON_SPACING_MARK) {
+                folded.append(c == 'ı' ? 'i' : c);
+            }
+        }
+        return folded.toString().toLowerCase(Locale.ROOT);
+    }
+
+    private static void add(List<String> tokens, StringBuilder token) {
+        if (token.length() > 0) {
+            tokens.add(token.length() > MAX_TOKEN_LENGTH ? token.substring(0, MAX_TOKEN_LENGTH) : token.toString());
+            token.setLength(0);
+        }
+    }
+}
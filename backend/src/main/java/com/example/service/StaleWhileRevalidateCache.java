@@ -0,0 +1,147 @@
+package com.example.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Tek değerli, stale-while-revalidate önbellek.
+ * <ul>
+ *   <li>Değer TTL içindeyse hemen döner (hit).</li>
+ *   <li>TTL geçmişse eski değer yine hemen döner (stale) ve arka planda tek bir yenileme başlatılır.</li>
+ *   <li>Hiç değer yoksa çağıran yüklemeyi bekler (miss); eşzamanlı çağıranlar aynı yüklemeyi paylaşır.</li>
+ *   <li>Yükleme hata verirse son bilinen değer korunur ve failureBackoff süresince yeniden denenmez.</li>
+ * </ul>
+ * Metrikler: {@code cache.gets{cache,result=hit|stale|miss}} ve {@code cache.refresh{cache,outcome}}.
+ */
+public class StaleWhileRevalidateCache<T> {
+
+    private static final Logger logger = LoggerFactory.getLogger(StaleWhileRevalidateCache.class);
+
+    private final String name;
+    private final Supplier<T> loader;
+    private final Executor refreshExecutor;
+    private final long ttlNanos;
+    private final long failureBackoffNanos;
+    private final LongSupplier nanoClock;
+
+    private final Counter hits;
+    private final Counter staleHits;
+    private final Counter misses;
+    private final Timer refreshSuccess;
+    private final Timer refreshFailure;
+
+    private volatile Entry<T> entry;
+    private volatile long retryNotBeforeNanos;
+    private final AtomicReference<CompletableFuture<T>> inFlight = new AtomicReference<>();
+
+    public StaleWhileRevalidateCache(String name, Duration ttl, Duration failureBackoff, Supplier<T> loader,
+                                     Executor refreshExecutor, MeterRegistry meterRegistry) {
+        this(name, ttl, failureBackoff, loader, refreshExecutor, meterRegistry, System::nanoTime);
+    }
+
+    StaleWhileRevalidateCache(String name, Duration ttl, Duration failureBackoff, Supplier<T> loader,
+                              Executor refreshExecutor, MeterRegistry meterRegistry, LongSupplier nanoClock) {
+        this.name = name;
+        this.loader = loader;
+        this.refreshExecutor = refreshExecutor;
+        this.ttlNanos = ttl.toNanos();
+        this.failureBackoffNanos = failureBackoff.toNanos();
+        this.nanoClock = nanoClock;
+        // nanoTime negatif olabilir; 0 başlangıcı soğuk cache'te her get()'i backoff'a düşürürdü
+        this.retryNotBeforeNanos = nanoClock.getAsLong();
+        this.hits = Counter.builder("cache.gets").tag("cache", name).tag("result", "hit").register(meterRegistry);
+        this.staleHits = Counter.builder("cache.gets").tag("cache", name).tag("result", "stale").register(meterRegistry);
+        this.misses = Counter.builder("cache.gets").tag("cache", name).tag("result", "miss").register(meterRegistry);
+        this.refreshSuccess = Timer.builder("cache.refresh").tag("cache", name).tag("outcome", "success").register(meterRegistry);
+        this.refreshFailure = Timer.builder("cache.refresh").tag("cache", name).tag("outcome", "failure").register(meterRegistry);
+    }
+
+    /**
+     * Önbellekteki değeri döndürür; hiç başarılı yükleme olmadıysa (veya hata sonrası bekleme
+     * süresindeyse) null döner, çağıran kendi varsayılanını kullanır.
+     */
+    public T get() {
+        Entry<T> current = entry;
+        long now = nanoClock.getAsLong();
+        if (current != null) {
+            if (now - current.loadedAtNanos < ttlNanos) {
+                hits.increment();
+            } else {
+                staleHits.increment();
+                if (now - retryNotBeforeNanos >= 0) {
+                    refresh();
+                }
+            }
+            return current.value;
+        }
+
+        misses.increment();
+        if (now - retryNotBeforeNanos < 0) {
+            return null;
+        }
+        try {
+            return refresh().join();
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    /**
+     * Uçuşta bir yenileme varsa onu, yoksa yeni bir yenilemeyi döndürür (single-flight).
+     */
+    private CompletableFuture<T> refresh() {
+        CompletableFuture<T> existing = inFlight.get();
+        if (existing != null) {
+            return existing;
+        }
+        CompletableFuture<T> created = new CompletableFuture<>();
+        if (!inFlight.compareAndSet(null, created)) {
+            CompletableFuture<T> winner = inFlight.get();
+            return winner != null ? winner : refresh();
+        }
+        Runnable load = () -> {
+            long start = nanoClock.getAsLong();
+            try {
+                T value = loader.get();
+                long end = nanoClock.getAsLong();
+                refreshSuccess.record(Duration.ofNanos(end - start));
+                entry = new Entry<>(value, end);
+                created.complete(value);
+            } catch (Exception e) {
+                long end = nanoClock.getAsLong();
+                refreshFailure.record(Duration.ofNanos(end - start));
+                retryNotBeforeNanos = end + failureBackoffNanos;
+                logger.warn("Refreshing cache '{}' failed, keeping last known value: {}", name, e.getMessage());
+                created.completeExceptionally(e);
+            } finally {
+                inFlight.set(null);
+            }
+        };
+        if (entry == null) {
+            // Soğuk başlangıç: çağıran zaten bekleyecek, yükleme onun thread'inde yapılır
+            load.run();
+        } else {
+            try {
+                refreshExecutor.execute(load);
+            } catch (RejectedExecutionException e) {
+                inFlight.set(null);
+                created.completeExceptionally(e);
+            }
+        }
+        return created;
+    }
+
+    private record Entry<T>(T value, long loadedAtNanos) {
+    }
+}
@@ -0,0 +1,264 @@
+package com.example.service;
+
+import com.example.model.Publication;
+import com.example.model.Tag;
+import com.example.repository.TagRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Etiket sözlüğünü yönetir. AuthorService ile aynı düzen: batch'teki etiket adları bellekteki
+ * ad → ID önbelleğinden, kalanlar tek IN sorgusuyla çözülür, hiç olmayanlar toplu insert edilir.
+ * Etiket sözlüğü küçük olduğu için (kavram adları) önbellek sınırlanmaz.
+ */
+@Service
+public class TagService {
+
+    private static final Logger logger = LoggerFactory.getLogger(TagService.class);
+
+    @Autowired
+    private TagRepository tagRepository;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    // tag.name -> tag.id ve tersi; etiketler silinmediği için kayıtlar geçersiz olmaz
+    private final Map<String, Integer> idsByName = new ConcurrentHashMap<>();
+    private final Map<Integer, String> namesById = new ConcurrentHashMap<>();
+
+    private final Object insertLock = new Object();
+
+    // REQUIRES_NEW: çağıranın transaction'ına (örn. PublicationService.updatePublicationTags) katılmaz
+    private TransactionTemplate insertTransaction;
+
+    @Autowired
+    void setTransactionManager(PlatformTransactionManager transactionManager) {
+        insertTransaction = new TransactionTemplate(transactionManager);
+        insertTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * Yayınların henüz ID'si olmayan etiketlerine sözlükteki (gerekirse yeni eklenen) etiketin
+     * ID'sini atar. Yeni etiketler, çağıran bir transaction içinde olsa bile ayrı bir kısa transaction'da
+     * (REQUIRES_NEW) commit edilir; eşzamanlı insert yeniden denenir ve çağıranın rollback'i önbellekteki
+     * ID'leri geçersiz kılmaz. Ingestion yine de yayınları yazan transaction'dan önce çağırır (bkz. AuthorService.intern).
+     */
+    public void intern(Collection<Publication> publications) {
+        Set<String> names = new LinkedHashSet<>();
+        for (Publication pub : publications) {
+            for (Tag tag : pub.getTagSet()) {
+                if (tag.getId() == null) {
+                    names.add(tag.getName());
+                }
+            }
+        }
+        if (names.isEmpty()) {
+            return;
+        }
+        Map<String, Integer> ids = resolve(names);
+        for (Publication pub : publications) {
+            for (Tag tag : pub.getTagSet()) {
+                if (tag.getId() == null) {
+                    tag.setId(ids.get(tag.getName()));
+                }
+            }
+        }
+    }
+
+    /**
+     * Elle girilen etiket adlarını sözlük ID'lerine çevirir (olmayanlar eklenir); boş adlar ve
+     * tekrarlar atlanır, sıra korunur.
+     */
+    public List<Integer> internNames(Collection<String> names) {
+        Set<String> normalized = new LinkedHashSet<>();
+        for (String name : names) {
+            String tag = Tag.normalizeName(name);
+            if (!tag.isEmpty()) {
+                normalized.add(tag);
+            }
+        }
+        if (normalized.isEmpty()) {
+            return List.of();
+        }
+        Map<String, Integer> ids = resolve(normalized);
+        List<Integer> result = new ArrayList<>(normalized.size());
+        for (String name : normalized) {
+            result.add(ids.get(name));
+        }
+        return result;
+    }
+
+    private Map<String, Integer> resolve(Collection<String> names) {
+        Map<String, Integer> resolved = new HashMap<>();
+        Set<String> unresolved = new LinkedHashSet<>();
+        for (String name : names) {
+            Integer cached = idsByName.get(name);
+            if (cached != null) {
+                resolved.put(name, cached);
+            } else {
+                unresolved.add(name);
+            }
+        }
+        if (!unresolved.isEmpty()) {
+            Map<String, Integer> found = findIds(unresolved);
+            unresolved.removeAll(found.keySet());
+            if (!unresolved.isEmpty()) {
+                found.putAll(insertMissing(unresolved));
+            }
+            remember(found);
+            resolved.putAll(found);
+        }
+        return resolved;
+    }
+
+    /**
+     * Filtreleme için: sözlükte olan adların ID'leri (olmayanlar yok sayılır, yeni etiket eklenmez).
+     */
+    public Set<Integer> idsOf(Collection<String> names) {
+        Set<Integer> ids = new HashSet<>();
+        List<String> unknown = new ArrayList<>();
+        for (String name : names) {
+            Integer cached = idsByName.get(Tag.normalizeName(name));
+            if (cached != null) {
+                ids.add(cached);
+            } else {
+                unknown.add(Tag.normalizeName(name));
+            }
+        }
+        if (!unknown.isEmpty()) {
+            Map<String, Integer> found = findIds(unknown);
+            remember(found);
+            ids.addAll(found.values());
+        }
+        return ids;
+    }
+
+    /**
+     * ID -> ad; önbellekte olmayanlar tek sorguyla yüklenir, bilinmeyen ID'ler atlanır.
+     */
+    public Map<Integer, String> namesOf(Collection<Integer> ids) {
+        Map<Integer, String> names = new HashMap<>();
+        List<Integer> unknown = new ArrayList<>();
+        for (Integer id : ids) {
+            String cached = namesById.get(id);
+            if (cached != null) {
+                names.put(id, cached);
+            } else {
+                unknown.add(id);
+            }
+        }
+        if (!unknown.isEmpty()) {
+            Map<String, Integer> found = new HashMap<>();
+            for (Tag tag : tagRepository.findAllById(unknown)) {
+                found.put(tag.getName(), tag.getId());
+                names.put(tag.getId(), tag.getName());
+            }
+            remember(found);
+        }
+        return names;
+    }
+
+    /**
+     * intern edilmiş etiketleri, çağıranın transaction'ındaki referanslarla değiştirir (yeni SELECT yapılmaz).
+     */
+    public void attach(Publication publication) {
+        Set<Tag> references = new LinkedHashSet<>();
+        for (Tag tag : publication.getTagSet()) {
+            references.add(reference(tag.getId(), tag.getName()));
+        }
+        publication.setTagSet(references);
+    }
+
+    /**
+     * Yayının etiketlerini verilen ID'lere eşitler; sadece fark uygulanır, böylece Hibernate
+     * değişmeyen satırlara dokunmadan kalkan etiketler için DELETE, yenileri için INSERT üretir.
+     * Bir şey değiştiyse true döner.
+     */
+    public boolean applyDiff(Publication publication, Collection<Integer> tagIds) {
+        Set<Integer> wanted = new HashSet<>(tagIds);
+        Set<Tag> current = publication.getTagSet();
+        Set<Integer> present = new HashSet<>();
+        boolean changed = current.removeIf(tag -> !wanted.contains(tag.getId()));
+        for (Tag tag : current) {
+            present.add(tag.getId());
+        }
+        for (Integer id : tagIds) {
+            if (present.add(id)) {
+                current.add(entityManager.getReference(Tag.class, id));
+                changed = true;
+            }
+        }
+        return changed;
+    }
+
+    private Tag reference(Integer id, String name) {
+        if (id == null) {
+            throw new IllegalStateException("Tag was not interned: " + name);
+        }
+        return entityManager.getReference(Tag.class, id);
+    }
+
+    private void remember(Map<String, Integer> ids) {
+        idsByName.putAll(ids);
+        ids.forEach((name, id) -> namesById.put(id, name));
+    }
+
+    private Map<String, Integer> findIds(Collection<String> names) {
+        Map<String, Integer> ids = new HashMap<>();
+        List<String> nameList = new ArrayList<>(names);
+        for (int from = 0; from < nameList.size(); from += PublicationBatchWriter.IN_CLAUSE_CHUNK) {
+            List<String> chunk = nameList.subList(from, Math.min(from + PublicationBatchWriter.IN_CLAUSE_CHUNK, nameList.size()));
+            for (Tag tag : tagRepository.findByNameIn(chunk)) {
+                ids.put(tag.getName(), tag.getId());
+            }
+        }
+        return ids;
+    }
+
+    private Map<String, Integer> insertMissing(Set<String> missing) {
+        synchronized (insertLock) {
+            try {
+                return insertTransaction.execute(status -> insertWithinTransaction(missing));
+            } catch (DataIntegrityViolationException e) {
+                // Başka bir uygulama örneği aynı etiketi araya girip ekledi; kalanları tekrar dene
+                logger.debug("Concurrent tag insert detected, retrying: {}", e.getMessage());
+                return insertTransaction.execute(status -> insertWithinTransaction(missing));
+            }
+        }
+    }
+
+    private Map<String, Integer> insertWithinTransaction(Set<String> missing) {
+        // Kilidi beklerken başka bir import aynı etiketleri eklemiş olabilir
+        Map<String, Integer> ids = findIds(missing);
+        List<Tag> toInsert = new ArrayList<>();
+        for (String name : missing) {
+            if (!ids.containsKey(name)) {
+                toInsert.add(new Tag(name));
+            }
+        }
+        for (Tag tag : tagRepository.saveAll(toInsert)) {
+            ids.put(tag.getName(), tag.getId());
+        }
+        tagRepository.flush();
+        logger.debug("Interned {} new tags ({} already known)", toInsert.size(), missing.size() - toInsert.size());
+        return ids;
+    }
+}
@@ -0,0 +1,147 @@
+package com.example.config;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Sağlayıcı RestTemplate'i gerçek bir yerel sunucuya karşı: ardışık istekler aynı keep-alive
+ * bağlantısını kullanır, okuma zaman aşımına hiç takılmadan damla damla akan bir cevap ise toplam
+ * süre sınırında kesilir.
+ */
+class HttpClientConfigTest {
+
+    private static final Duration TOTAL_TIMEOUT = Duration.ofMillis(500);
+
+    private final Set<Integer> clientPorts = ConcurrentHashMap.newKeySet();
+    private ExecutorService serverExecutor;
+    private HttpServer server;
+    private PoolingHttpClientConnectionManager connectionManager;
+    private CloseableHttpClient httpClient;
+    private ScheduledExecutorService deadlineScheduler;
+    private RestTemplate restTemplate;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        serverExecutor = Executors.newCachedThreadPool();
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/fast", this::fast);
+        server.createContext("/trickle", HttpClientConfigTest::trickle);
+        server.setExecutor(serverExecutor);
+        server.start();
+
+        HttpClientConfig config = new HttpClientConfig();
+        ReflectionTestUtils.setField(config, "maxConnectionsTotal", 4);
+        ReflectionTestUtils.setField(config, "maxConnectionsPerRoute", 4);
+        ReflectionTestUtils.setField(config, "connectTimeout", Duration.ofSeconds(1));
+        // Okuma zaman aşımı her pakette sıfırlanır; tek başına damla damla akan cevabı kesmez
+        ReflectionTestUtils.setField(config, "readTimeout", Duration.ofSeconds(2));
+        ReflectionTestUtils.setField(config, "connectionRequestTimeout", Duration.ofSeconds(1));
+        ReflectionTestUtils.setField(config, "totalTimeout", TOTAL_TIMEOUT);
+        ReflectionTestUtils.setField(config, "keepAlive", Duration.ofSeconds(30));
+        connectionManager = config.providerConnectionManager(
+                new DefaultListableBeanFactory().getBeanProvider(MeterRegistry.class));
+        httpClient = config.pooledHttpClient(connectionManager);
+        deadlineScheduler = config.httpDeadlineScheduler();
+        restTemplate = config.restTemplate(httpClient, deadlineScheduler);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        httpClient.close();
+        connectionManager.close();
+        deadlineScheduler.shutdownNow();
+        server.stop(0);
+        serverExecutor.shutdownNow();
+    }
+
+    @Test
+    void sequentialRequestsReuseOnePooledConnection() {
+        for (int i = 0; i < 5; i++) {
+            assertEquals("ok", restTemplate.getForObject(baseUrl() + "/fast", String.class));
+        }
+
+        // Sunucu tarafında tek istemci portu = tek TCP bağlantısı; havuzda boşta bekliyor
+        assertEquals(1, clientPorts.size());
+        assertEquals(1, connectionManager.getTotalStats().getAvailable());
+        assertEquals(0, connectionManager.getTotalStats().getLeased());
+    }
+
+    @Test
+    void totalDeadlineAbortsTricklingResponse() throws InterruptedException {
+        long start = System.nanoTime();
+
+        assertThrows(RestClientException.class,
+                () -> restTemplate.getForObject(baseUrl() + "/trickle", String.class));
+
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        // Cevabın tamamı ~5 sn sürerdi; okuma zaman aşımı (2 sn) da hiç dolmaz
+        assertTrue(elapsedMillis >= TOTAL_TIMEOUT.toMillis() && elapsedMillis < 2_000,
+                "aborted after " + elapsedMillis + " ms");
+        // İptal edilen bağlantı havuza asenkron bırakılır; sızıntı olmadığını kısa bir beklemeyle doğrula
+        long deadline = System.currentTimeMillis() + 2_000;
+        while (connectionManager.getTotalStats().getLeased() > 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(0, connectionManager.getTotalStats().getLeased());
+    }
+
+    private String baseUrl() {
+        return "http://" + server.getAddress().getHostString() + ":" + server.getAddress().getPort();
+    }
+
+    private void fast(HttpExchange exchange) throws IOException {
+        clientPorts.add(exchange.getRemoteAddress().getPort());
+        byte[] body = "ok".getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "text/plain");
+        exchange.sendResponseHeaders(200, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    /**
+     * 100 ms'de bir bayt göndererek ~5 sn süren, chunked bir cevap.
+     */
+    private static void trickle(HttpExchange exchange) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", "text/plain");
+        exchange.sendResponseHeaders(200, 0);
+        try (OutputStream out = exchange.getResponseBody()) {
+            for (int i = 0; i < 50; i++) {
+                out.write('x');
+                out.flush();
+                Thread.sleep(100);
+            }
+        } catch (IOException | InterruptedException e) {
+            // İstemci isteği iptal edip bağlantıyı kapattı
+        } finally {
+            exchange.close();
+        }
+    }
+}
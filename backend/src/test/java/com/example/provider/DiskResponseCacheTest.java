@@ -0,0 +1,111 @@
+package com.example.provider;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DiskResponseCacheTest {
+
+    private static final Duration TTL = Duration.ofHours(1);
+
+    @TempDir
+    Path directory;
+
+    private final AtomicLong clock = new AtomicLong(1_000_000);
+
+    @Test
+    void entriesSurviveReopenAndExpireByTtl() throws IOException {
+        DiskResponseCache cache = open(false);
+        cache.store(ProviderHttpClient.OPENALEX, "openalex a", utf8("{\"a\":1}"));
+        cache.store(ProviderHttpClient.OPENALEX, "openalex b", utf8("{\"b\":2}"));
+        cache.store(ProviderHttpClient.OPENALEX, "openalex a", utf8("{\"a\":3}"));
+        cache.close();
+
+        DiskResponseCache reopened = open(false);
+        assertEquals(2, reopened.size());
+        DiskResponseCache.CachedResponse a = reopened.lookup("openalex a");
+        assertEquals("{\"a\":3}", text(a.body()));
+        assertTrue(a.fresh());
+        assertTrue(a.body().isReadOnly());
+        assertNull(reopened.lookup("openalex missing"));
+
+        clock.addAndGet(TTL.toMillis());
+        assertFalse(reopened.lookup("openalex b").fresh());
+        reopened.close();
+    }
+
+    @Test
+    void entriesAppendedAfterOpenAreReadable() throws IOException {
+        DiskResponseCache cache = open(false);
+        cache.store(ProviderHttpClient.SERPAPI, "serpapi x", utf8("first"));
+        assertEquals("first", text(cache.lookup("serpapi x").body()));
+        cache.store(ProviderHttpClient.SERPAPI, "serpapi y", utf8("second"));
+        assertEquals("second", text(cache.lookup("serpapi y").body()));
+        cache.close();
+    }
+
+    @Test
+    void tornIndexTailIsDroppedOnOpen() throws IOException {
+        DiskResponseCache cache = open(false);
+        cache.store(ProviderHttpClient.OPENALEX, "openalex a", utf8("body"));
+        cache.close();
+        try (FileChannel index = FileChannel.open(directory.resolve(DiskResponseCache.INDEX_FILE), StandardOpenOption.APPEND)) {
+            index.write(ByteBuffer.allocate(6).putInt(40).putShort((short) 1).flip());
+        }
+
+        DiskResponseCache reopened = open(false);
+        assertEquals(1, reopened.size());
+        reopened.store(ProviderHttpClient.OPENALEX, "openalex b", utf8("next"));
+        reopened.close();
+
+        DiskResponseCache again = open(false);
+        assertEquals("next", text(again.lookup("openalex b").body()));
+        again.close();
+    }
+
+    @Test
+    void expiredEntriesAreCompactedOnOpen() throws IOException {
+        DiskResponseCache cache = open(false);
+        cache.store(ProviderHttpClient.OPENALEX, "openalex old", utf8("x".repeat(1000)));
+        clock.addAndGet(TTL.toMillis() / 2);
+        cache.store(ProviderHttpClient.OPENALEX, "openalex new", utf8("kept"));
+        cache.close();
+        clock.addAndGet(TTL.toMillis() / 2 + 1);
+
+        DiskResponseCache compacted = open(false);
+        assertEquals(1, compacted.size());
+        assertEquals("kept", text(compacted.lookup("openalex new").body()));
+        assertEquals(4, Files.size(directory.resolve(DiskResponseCache.SEGMENT_FILE)));
+        compacted.close();
+    }
+
+    private DiskResponseCache open(boolean offline) {
+        return new DiskResponseCache(true, offline, directory, 1 << 20,
+                Map.of(ProviderHttpClient.OPENALEX, TTL, ProviderHttpClient.SERPAPI, TTL), clock::get);
+    }
+
+    private static ByteBuffer utf8(String text) {
+        return ByteBuffer.wrap(text.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String text(ByteBuffer body) {
+        byte[] bytes = new byte[body.remaining()];
+        body.duplicate().get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,390 @@
+package com.example.provider;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * OpenAlex ve SerpAPI'nin sağlayıcıların kullandığı alt kümesini taklit eden, süreç içi HTTP sunucusu.
+ * Yazarlar ve yayınları ID'den deterministik olarak üretilir; gecikme ve hata enjekte edilebilir.
+ * OpenAlex gibi page/per-page ile ilk 10.000 sonucun ötesine geçen istekler 400 ile reddedilir; offset
+ * ve cursor sayfaları aynı sırayı görsün diye sort=id vermeyen work listeleri de reddedilir.
+ * <ul>
+ *   <li>OpenAlex: {@code /people/{id}}, {@code /works} (filter=author.id[,from_updated_date], sort=id,
+ *       page/per-page, cursor, group_by=type|publication_year)</li>
+ *   <li>SerpAPI: {@code /search.json} (engine=google_scholar_author, engine=google_scholar)</li>
+ * </ul>
+ * Sağlayıcıları yönlendirmek için {@code openalex.api.base-url=}{@link #openAlexBaseUrl()} ve
+ * {@code serpapi.api.base-url=}{@link #serpApiBaseUrl()} kullanılır.
+ */
+public class FakeProviderServer implements AutoCloseable {
+
+    private static final String AUTHOR_PREFIX = "https://openalex.org/";
+    private static final String SCHOLAR_NAME_PREFIX = "Scholar ";
+    private static final String[] TYPES = {"article", "book-chapter", "dataset", "preprint"};
+    private static final String[] CONCEPTS = {"Computer science", "Machine learning", "Statistics", "Biology", "Physics"};
+    private static final LocalDate UPDATED_EPOCH = LocalDate.of(2024, 1, 1);
+    private static final int MAX_OFFSET_RESULTS = 10_000;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final Map<String, Integer> worksByAuthor = new ConcurrentHashMap<>();
+    private final AtomicInteger requests = new AtomicInteger();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger maxInFlight = new AtomicInteger();
+
+    private volatile int defaultWorks = 100;
+    private volatile Duration latency = Duration.ZERO;
+    private volatile int failEvery;
+    private volatile int failStatus = 503;
+
+    public FakeProviderServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        executor = Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "fake-provider");
+            thread.setDaemon(true);
+            return thread;
+        });
+        server.setExecutor(executor);
+        server.createContext("/", this::handle);
+        server.start();
+    }
+
+    public String openAlexBaseUrl() {
+        return "http://localhost:" + server.getAddress().getPort() + "/openalex";
+    }
+
+    public String serpApiBaseUrl() {
+        return "http://localhost:" + server.getAddress().getPort() + "/serpapi";
+    }
+
+    /**
+     * ID'si ayrıca tanımlanmamış yazarların yayın sayısı.
+     */
+    public FakeProviderServer defaultWorks(int works) {
+        this.defaultWorks = works;
+        return this;
+    }
+
+    public FakeProviderServer works(String authorId, int works) {
+        worksByAuthor.put(authorId, works);
+        return this;
+    }
+
+    /**
+     * Her cevaptan önce eklenen gecikme (uzak API gecikmesini taklit eder).
+     */
+    public FakeProviderServer latency(Duration latency) {
+        this.latency = latency;
+        return this;
+    }
+
+    /**
+     * Her n. isteği verilen durum koduyla (429 için Retry-After: 0) başarısız kılar; 0 kapatır.
+     */
+    public FakeProviderServer failEvery(int n, int status) {
+        this.failEvery = n;
+        this.failStatus = status;
+        return this;
+    }
+
+    public int requestCount() {
+        return requests.get();
+    }
+
+    /**
+     * Aynı anda işlenen en fazla istek sayısı.
+     */
+    public int maxConcurrentRequests() {
+        return maxInFlight.get();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        int status;
+        ObjectNode body;
+        boolean counted = true;
+        try {
+            int request = requests.incrementAndGet();
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            if (!latency.isZero()) {
+                Thread.sleep(latency.toMillis());
+            }
+            String path = exchange.getRequestURI().getPath();
+            Map<String, String> query = parseQuery(exchange.getRequestURI().getRawQuery());
+            if (failEvery > 0 && request % failEvery == 0) {
+                if (failStatus == 429) {
+                    exchange.getResponseHeaders().add("Retry-After", "0");
+                }
+                status = failStatus;
+                body = objectMapper.createObjectNode().put("error", "injected failure");
+            } else if (path.startsWith("/openalex/people/")) {
+                status = 200;
+                body = openAlexAuthor(path.substring("/openalex/people/".length()));
+            } else if (path.equals("/openalex/works")) {
+                if (!query.containsKey("group_by") && !"id".equals(query.get("sort"))) {
+                    status = 400;
+                    body = objectMapper.createObjectNode().put("error", "works listing without sort=id");
+                } else if (!query.containsKey("cursor") && !query.containsKey("group_by")
+                        && Integer.parseInt(query.getOrDefault("page", "1")) * Integer.parseInt(query.getOrDefault("per-page", "25")) > MAX_OFFSET_RESULTS) {
+                    status = 400;
+                    body = objectMapper.createObjectNode().put("error", "page/per-page beyond " + MAX_OFFSET_RESULTS + " results");
+                } else {
+                    status = 200;
+                    body = openAlexWorks(query);
+                }
+            } else if (path.equals("/serpapi/search.json")) {
+                status = 200;
+                body = "google_scholar_author".equals(query.get("engine"))
+                        ? scholarAuthor(query.get("author_id"))
+                        : scholarSearch(query);
+            } else {
+                status = 404;
+                body = objectMapper.createObjectNode().put("error", "unknown path " + path);
+            }
+            // Cevap yazılmadan önce düşülür: istemci gövdeyi alıp bir sonraki isteği gönderdiğinde bu
+            // istek artık uçuşta sayılmamalı (aksi halde seri istemci bile 2 eşzamanlı istek gibi görünür)
+            inFlight.decrementAndGet();
+            counted = false;
+            send(exchange, status, body);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            if (counted) {
+                inFlight.decrementAndGet();
+            }
+            exchange.close();
+        }
+    }
+
+    // ---- OpenAlex ----
+
+    private ObjectNode openAlexAuthor(String authorId) {
+        int works = worksOf(authorId);
+        ObjectNode author = objectMapper.createObjectNode();
+        author.put("id", AUTHOR_PREFIX + authorId);
+        author.put("display_name", "Synthetic Author " + authorId);
+        author.put("works_count", works);
+        long citations = 0;
+        for (int i = 0; i < works; i++) {
+            citations += citationsOf(authorId, i);
+        }
+        author.put("cited_by_count", citations);
+        return author;
+    }
+
+    private ObjectNode openAlexWorks(Map<String, String> query) {
+        String groupBy = query.get("group_by");
+        String filter = query.getOrDefault("filter", "");
+        String authorId = null;
+        LocalDate updatedSince = null;
+        for (String clause : filter.split(",")) {
+            if (clause.startsWith("author.id:")) {
+                String id = clause.substring("author.id:".length());
+                authorId = id.startsWith(AUTHOR_PREFIX) ? id.substring(AUTHOR_PREFIX.length()) : id;
+            } else if (clause.startsWith("from_updated_date:")) {
+                updatedSince = LocalDate.parse(clause.substring("from_updated_date:".length()));
+            }
+        }
+
+        if ("type".equals(groupBy)) {
+            ArrayNode groups = objectMapper.createArrayNode();
+            for (int i = 0; i < TYPES.length; i++) {
+                groups.addObject().put("key", "https://openalex.org/types/" + TYPES[i]).put("count", 1_000_000 / (i + 1));
+            }
+            ObjectNode response = objectMapper.createObjectNode();
+            response.set("group_by", groups);
+            return response;
+        }
+        if ("publication_year".equals(groupBy)) {
+            Map<Integer, Integer> byYear = new TreeMap<>();
+            for (int i = 0; i < worksOf(authorId); i++) {
+                byYear.merge(yearOf(i), 1, Integer::sum);
+            }
+            ArrayNode groups = objectMapper.createArrayNode();
+            byYear.forEach((year, count) -> groups.addObject().put("key", String.valueOf(year)).put("count", count));
+            ObjectNode response = objectMapper.createObjectNode();
+            response.set("group_by", groups);
+            return response;
+        }
+
+        // Eşleşen work'lerin sıralı indeksleri
+        int total = worksOf(authorId);
+        int[] matching = new int[total];
+        int count = 0;
+        for (int i = 0; i < total; i++) {
+            if (updatedSince == null || !updatedOf(i).isBefore(updatedSince)) {
+                matching[count++] = i;
+            }
+        }
+
+        int perPage = Integer.parseInt(query.getOrDefault("per-page", "25"));
+        int offset;
+        String cursor = query.get("cursor");
+        if (cursor != null) {
+            offset = "*".equals(cursor) ? 0 : Integer.parseInt(cursor);
+        } else {
+            offset = (Integer.parseInt(query.getOrDefault("page", "1")) - 1) * perPage;
+        }
+        int end = Math.min(count, offset + perPage);
+
+        ObjectNode response = objectMapper.createObjectNode();
+        ObjectNode meta = response.putObject("meta");
+        meta.put("count", count);
+        meta.put("per_page", perPage);
+        if (cursor != null && end < count) {
+            meta.put("next_cursor", String.valueOf(end));
+        } else {
+            meta.putNull("next_cursor");
+        }
+        ArrayNode results = response.putArray("results");
+        for (int i = offset; i < end; i++) {
+            results.add(openAlexWork(authorId, matching[i]));
+        }
+        return response;
+    }
+
+    private ObjectNode openAlexWork(String authorId, int index) {
+        ObjectNode work = objectMapper.createObjectNode();
+        work.put("id", "https://openalex.org/W" + authorId + "." + index);
+        work.put("doi", doiOf(authorId, index));
+        work.put("title", "Synthetic work " + index + " of " + authorId);
+        work.put("publication_year", yearOf(index));
+        work.put("type", TYPES[index % TYPES.length]);
+        work.put("cited_by_count", citationsOf(authorId, index));
+        work.put("updated_date", updatedOf(index).toString());
+        ArrayNode authorships = work.putArray("authorships");
+        authorships.addObject().putObject("author")
+                .put("id", AUTHOR_PREFIX + authorId)
+                .put("display_name", "Synthetic Author " + authorId);
+        for (int coAuthor = 1; coAuthor <= 2; coAuthor++) {
+            int coAuthorId = (index + coAuthor) % 50;
+            authorships.addObject().putObject("author")
+                    .put("id", AUTHOR_PREFIX + "AC" + coAuthorId)
+                    .put("display_name", "Co Author " + coAuthorId);
+        }
+        ObjectNode location = work.putObject("primary_location");
+        location.put("landing_page_url", "https://example.org/works/" + authorId + "/" + index);
+        location.putObject("source").put("display_name", "Journal " + (index % 20));
+        ArrayNode concepts = work.putArray("concepts");
+        for (int c = 0; c < 3; c++) {
+            concepts.addObject().put("display_name", CONCEPTS[(index + c) % CONCEPTS.length]).put("level", c);
+        }
+        return work;
+    }
+
+    // ---- SerpAPI ----
+
+    private ObjectNode scholarAuthor(String scholarId) {
+        ObjectNode response = objectMapper.createObjectNode();
+        ObjectNode author = response.putObject("author");
+        author.put("name", SCHOLAR_NAME_PREFIX + scholarId);
+        Map<Integer, Integer> citationsByYear = new TreeMap<>();
+        for (int i = 0; i < worksOf(scholarId); i++) {
+            citationsByYear.merge(yearOf(i), citationsOf(scholarId, i), Integer::sum);
+        }
+        ArrayNode table = author.putObject("cited_by").putArray("table");
+        citationsByYear.forEach((year, citations) -> {
+            ObjectNode row = table.addObject();
+            row.put("year", String.valueOf(year));
+            row.putObject("citations").put("all", citations);
+        });
+        return response;
+    }
+
+    private ObjectNode scholarSearch(Map<String, String> query) {
+        // q=author:"Scholar <id>"
+        String q = query.getOrDefault("q", "");
+        String name = q.replace("author:", "").replace("\"", "").trim();
+        String scholarId = name.startsWith(SCHOLAR_NAME_PREFIX) ? name.substring(SCHOLAR_NAME_PREFIX.length()) : name;
+        int start = Integer.parseInt(query.getOrDefault("start", "0"));
+        int num = Integer.parseInt(query.getOrDefault("num", "10"));
+        int end = Math.min(worksOf(scholarId), start + num);
+
+        ObjectNode response = objectMapper.createObjectNode();
+        ArrayNode results = response.putArray("organic_results");
+        for (int i = start; i < end; i++) {
+            ObjectNode article = results.addObject();
+            String title = "Synthetic scholar work " + i + " of " + scholarId;
+            article.put("title", i % 17 == 0 ? "[BOOK] " + title : title);
+            article.put("link", "https://example.org/scholar/" + scholarId + "/" + i);
+            ObjectNode info = article.putObject("publication_info");
+            String authors = name + ", C Author" + (i % 7);
+            info.put("summary", authors + " - Journal " + (i % 20) + ", " + yearOf(i) + " - example.org");
+            ArrayNode authorList = info.putArray("authors");
+            authorList.addObject().put("name", name);
+            authorList.addObject().put("name", "C Author" + (i % 7));
+            article.putObject("inline_links").putObject("cited_by").put("total", citationsOf(scholarId, i));
+        }
+        return response;
+    }
+
+    // ---- deterministik veri ----
+
+    private int worksOf(String authorId) {
+        return authorId == null ? 0 : worksByAuthor.getOrDefault(authorId, defaultWorks);
+    }
+
+    private static String doiOf(String authorId, int index) {
+        return "https://doi.org/10.5555/" + authorId + "." + index;
+    }
+
+    private static int yearOf(int index) {
+        return 1990 + index % 35;
+    }
+
+    private static int citationsOf(String authorId, int index) {
+        return Math.floorMod(authorId.hashCode() * 31 + index * 7919, 500);
+    }
+
+    private static LocalDate updatedOf(int index) {
+        return UPDATED_EPOCH.plusDays(index % 365);
+    }
+
+    private static Map<String, String> parseQuery(String rawQuery) {
+        Map<String, String> query = new HashMap<>();
+        if (rawQuery == null) {
+            return query;
+        }
+        for (String pair : rawQuery.split("&")) {
+            int eq = pair.indexOf('=');
+            String key = URLDecoder.decode(eq < 0 ? pair : pair.substring(0, eq), StandardCharsets.UTF_8);
+            String value = eq < 0 ? "" : URLDecoder.decode(pair.substring(eq + 1), StandardCharsets.UTF_8);
+            query.put(key, value);
+        }
+        return query;
+    }
+
+    private void send(HttpExchange exchange, int status, ObjectNode body) throws IOException {
+        byte[] bytes = objectMapper.writeValueAsBytes(body);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.example.provider;
+
+import com.example.model.Member;
+import com.example.model.Publication;
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+
+/**
+ * OpenAlexProvider'ın JsonNode ağacı üzerinden çalışan eski eşlemesi. Sadece karşılaştırma
+ * (benchmark baseline'ı ve streaming parser'ın eşdeğerlik testi) için tutulur.
+ */
+final class LegacyOpenAlexWorkMapper {
+
+    private LegacyOpenAlexWorkMapper() {
+    }
+
+    static List<Publication> mapWorks(JsonNode worksData, Member member) {
+        List<Publication> publications = new ArrayList<>();
+        for (JsonNode work : worksData.get("results")) {
+            String doi = work.path("doi").asText(null);
+            String landingPageUrl = work.path("primary_location").path("landing_page_url").asText(null);
+            String identifierUrl = (doi != null && !doi.isEmpty()) ? doi : landingPageUrl;
+            if (identifierUrl == null || identifierUrl.isEmpty()) {
+                continue;
+            }
+
+            String authors = work.path("authorships").isArray()
+                ? work.path("authorships")
+                      .findValues("author")
+                      .stream()
+                      .map(author -> author.path("display_name").asText("Unknown Author"))
+                      .collect(Collectors.joining(", "))
+                : "Unknown Author";
+            if (authors.length() > 255) {
+                authors = authors.substring(0, 240) + "... ve diğerleri";
+            }
+
+            Publication pub = new Publication();
+            pub.setTitle(work.path("title").asText("Untitled"));
+            pub.setIdentifierUrl(identifierUrl);
+            pub.setCitedByCount(work.path("cited_by_count").asInt(0));
+            pub.setAuthors(authors);
+            pub.setPublicationYear(work.path("publication_year").asInt(0) > 0 ? work.path("publication_year").asInt() : null);
+            pub.setMember(member);
+            pub.setType(work.path("type").asText(null));
+            pub.setSourceName(work.path("primary_location").path("source").path("display_name").asText(null));
+
+            if (work.hasNonNull("concepts")) {
+                List<String> concepts = StreamSupport.stream(work.get("concepts").spliterator(), false)
+                        .filter(concept -> concept.path("level").asInt(99) <= 2)
+                        .map(concept -> concept.path("display_name").asText())
+                        .filter(name -> name != null && !name.isEmpty())
+                        .distinct()
+                        .collect(Collectors.toList());
+                pub.setTags(concepts);
+            }
+
+            publications.add(pub);
+        }
+        return publications;
+    }
+}
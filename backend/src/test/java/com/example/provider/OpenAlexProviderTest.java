@@ -0,0 +1,97 @@
+package com.example.provider;
+
+import com.example.model.Member;
+import com.example.model.Publication;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Sayfalar paralel çekilse de consumer'a sırayla verilir; 10.000 sonucun ötesi cursor ile okunur.
+ */
+class OpenAlexProviderTest {
+
+    private static final int PARALLELISM = 4;
+
+    private final FakeProviderServer server = new FakeProviderServer();
+    private final ExecutorService executor = Executors.newFixedThreadPool(PARALLELISM);
+
+    OpenAlexProviderTest() throws IOException {
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+        server.close();
+    }
+
+    @Test
+    void fetchesPagesConcurrentlyAndDeliversThemInOrder() {
+        server.works("A1", 1_030).latency(Duration.ofMillis(20));
+
+        List<Integer> indexes = stream(provider(50, true), "A1");
+
+        assertEquals(IntStream.range(0, 1_030).boxed().toList(), indexes);
+        assertEquals(21, server.requestCount());
+        assertTrue(server.maxConcurrentRequests() > 1, "pages after the first should be fetched concurrently");
+    }
+
+    @Test
+    void switchesToCursorOnlyPastTheOffsetLimit() {
+        server.works("A2", 10_450);
+
+        List<Integer> indexes = stream(provider(200, true), "A2");
+
+        assertEquals(IntStream.range(0, 10_450).boxed().toList(), indexes);
+        // 50 offset sayfası, offset sınırına kadar 50 hafif cursor sayfası ve kalan 3 cursor sayfası
+        assertEquals(103, server.requestCount());
+        assertTrue(server.maxConcurrentRequests() > 1);
+    }
+
+    @Test
+    void serialModeUsesCursorForLargeAuthors() {
+        server.works("A3", 10_450);
+
+        List<Integer> indexes = stream(provider(200, false), "A3");
+
+        assertEquals(IntStream.range(0, 10_450).boxed().toList(), indexes);
+        assertEquals(1, server.maxConcurrentRequests());
+        // Baştan cursor ile okunur: 53 sayfa, ilk sayfa iki kez çekilmez
+        assertEquals(53, server.requestCount());
+    }
+
+    private OpenAlexProvider provider(int perPage, boolean concurrent) {
+        ProviderHttpClient httpClient = new ProviderHttpClient(new RestTemplate(), new ObjectMapper(), DiskResponseCache.disabled(),
+                10_000, 10_000, 10_000, 10_000, 1, Duration.ofMillis(1), Duration.ofMillis(1), Duration.ZERO, 16);
+        OpenAlexProvider provider = new OpenAlexProvider(httpClient, new ObjectMapper(), executor);
+        ReflectionTestUtils.setField(provider, "baseUrl", server.openAlexBaseUrl());
+        ReflectionTestUtils.setField(provider, "perPage", perPage);
+        ReflectionTestUtils.setField(provider, "parallelism", PARALLELISM);
+        ReflectionTestUtils.setField(provider, "concurrentPaging", concurrent);
+        return provider;
+    }
+
+    // Sahte sunucudaki başlıklar "Synthetic work <indeks> of <yazar>"
+    private static List<Integer> stream(OpenAlexProvider provider, String authorId) {
+        List<Integer> indexes = new ArrayList<>();
+        provider.streamPublications(authorId, new Member(), page -> {
+            for (Publication pub : page) {
+                indexes.add(Integer.parseInt(pub.getTitle().split(" ")[2]));
+            }
+        });
+        return indexes;
+    }
+}
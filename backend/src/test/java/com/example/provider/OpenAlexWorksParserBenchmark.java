@@ -0,0 +1,81 @@
+package com.example.provider;
+
+import com.example.model.Publication;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 200 work'lük bir OpenAlex sayfasının eşlenmesi: eski JsonNode ağacı yolu ile streaming parser,
+ * tam cevap ve select= ile kırpılmış cevap üzerinde. Zaman ve (gc profiler ile) sayfa başına
+ * bellek ayırımı ölçülür.
+ *
+ * <pre>mvn -Pbenchmark test -Djmh.include=OpenAlexWorksParserBenchmark</pre>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OpenAlexWorksParserBenchmark {
+
+    private static final int WORKS_PER_PAGE = 200;
+
+    private ObjectMapper objectMapper;
+    private OpenAlexWorksParser parser;
+    private byte[] fullPage;
+    private byte[] projectedPage;
+
+    @Setup
+    public void setup() throws IOException {
+        objectMapper = new ObjectMapper();
+        parser = new OpenAlexWorksParser(objectMapper.getFactory());
+        fullPage = ProviderFixtures.openAlexWorksPage(objectMapper, WORKS_PER_PAGE, null);
+        projectedPage = ProviderFixtures.openAlexWorksPage(objectMapper, WORKS_PER_PAGE, OpenAlexWorksParser.SELECT_FIELDS);
+    }
+
+    @Benchmark
+    public List<Publication> treeModelFullPage() throws IOException {
+        return LegacyOpenAlexWorkMapper.mapWorks(objectMapper.readTree(fullPage), null);
+    }
+
+    @Benchmark
+    public List<Publication> treeModelProjectedPage() throws IOException {
+        return LegacyOpenAlexWorkMapper.mapWorks(objectMapper.readTree(projectedPage), null);
+    }
+
+    @Benchmark
+    public List<Publication> streamingFullPage() throws IOException {
+        return parser.parse(new ByteArrayInputStream(fullPage), null).publications();
+    }
+
+    @Benchmark
+    public List<Publication> streamingProjectedPage() throws IOException {
+        return parser.parse(new ByteArrayInputStream(projectedPage), null).publications();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(OpenAlexWorksParserBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build()).run();
+    }
+}
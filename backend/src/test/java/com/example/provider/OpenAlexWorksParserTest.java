@@ -0,0 +1,66 @@
+package com.example.provider;
+
+import com.example.model.Publication;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class OpenAlexWorksParserTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final OpenAlexWorksParser parser = new OpenAlexWorksParser(objectMapper.getFactory());
+
+    @Test
+    void parsesRecordedWorksPage() throws IOException {
+        byte[] page = ProviderFixtures.resource(ProviderFixtures.OPENALEX_WORKS_PAGE);
+
+        OpenAlexWorksParser.WorksPage worksPage = parser.parse(new ByteArrayInputStream(page), null);
+
+        assertEquals(3, worksPage.count());
+        assertEquals(3, worksPage.resultCount());
+        assertNull(worksPage.nextCursor());
+        // Üçüncü work'ün DOI'si ve landing page'i yok, atlanır
+        assertEquals(2, worksPage.publications().size());
+
+        Publication first = worksPage.publications().get(0);
+        assertEquals("https://doi.org/10.7717/peerj.4375", first.getIdentifierUrl());
+        assertEquals("Heather Piwowar, Jason Priem, Stefanie Haustein", first.getAuthors());
+        assertEquals("PeerJ", first.getSourceName());
+        assertEquals(2018, first.getPublicationYear());
+        assertEquals(1105, first.getCitedByCount());
+        assertEquals(List.of("Citation", "Political science", "Computer science", "Library science"), first.getTags());
+
+        Publication second = worksPage.publications().get(1);
+        assertEquals("https://dergipark.org.tr/tr/pub/example/issue/1/2", second.getIdentifierUrl());
+        assertNull(second.getSourceName());
+        assertEquals("Derin öğrenme ile Türkçe metin sınıflandırma", second.getTitle());
+    }
+
+    @Test
+    void matchesTreeModelMapping() throws IOException {
+        byte[] page = ProviderFixtures.openAlexWorksPage(objectMapper, 50, null);
+
+        List<Publication> expected = LegacyOpenAlexWorkMapper.mapWorks(objectMapper.readTree(page), null);
+        List<Publication> actual = parser.parse(new ByteArrayInputStream(page), null).publications();
+
+        assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            Publication e = expected.get(i);
+            Publication a = actual.get(i);
+            assertEquals(e.getIdentifierUrl(), a.getIdentifierUrl());
+            assertEquals(e.getTitle(), a.getTitle());
+            assertEquals(e.getAuthors(), a.getAuthors());
+            assertEquals(e.getPublicationYear(), a.getPublicationYear());
+            assertEquals(e.getCitedByCount(), a.getCitedByCount());
+            assertEquals(e.getType(), a.getType());
+            assertEquals(e.getSourceName(), a.getSourceName());
+            assertEquals(e.getTags(), a.getTags());
+        }
+    }
+}
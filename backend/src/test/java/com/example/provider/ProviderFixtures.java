@@ -0,0 +1,91 @@
+package com.example.provider;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Set;
+
+/**
+ * src/test/resources/fixtures altındaki kayıtlı sağlayıcı cevaplarını yükler ve benchmark'lar için
+ * gerçek sayfa boyutuna çoğaltır.
+ */
+final class ProviderFixtures {
+
+    static final String OPENALEX_WORKS_PAGE = "fixtures/openalex-works-page.json";
+    static final String SERPAPI_SCHOLAR_PAGE = "fixtures/serpapi-scholar-page.json";
+
+    private ProviderFixtures() {
+    }
+
+    static byte[] resource(String path) {
+        try (InputStream in = ProviderFixtures.class.getClassLoader().getResourceAsStream(path)) {
+            if (in == null) {
+                throw new IllegalArgumentException("Fixture not found: " + path);
+            }
+            return in.readAllBytes();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Kayıtlı works sayfasındaki sonuçları sırayla tekrarlayarak {@code works} elemanlı bir sayfa üretir.
+     * {@code selectFields} verilirse her work OpenAlex'in select= projeksiyonundaki gibi kırpılır.
+     */
+    static byte[] openAlexWorksPage(ObjectMapper mapper, int works, String selectFields) throws IOException {
+        JsonNode fixture = mapper.readTree(resource(OPENALEX_WORKS_PAGE));
+        Set<String> selected = selectFields != null ? new HashSet<>(Arrays.asList(selectFields.split(","))) : null;
+
+        ArrayNode results = mapper.createArrayNode();
+        JsonNode recorded = fixture.get("results");
+        for (int i = 0; i < works; i++) {
+            ObjectNode work = recorded.get(i % recorded.size()).deepCopy();
+            if (work.hasNonNull("doi")) {
+                work.put("doi", work.get("doi").asText() + "." + i);
+            }
+            if (selected != null) {
+                for (Iterator<String> fields = work.fieldNames(); fields.hasNext(); ) {
+                    if (!selected.contains(fields.next())) {
+                        fields.remove();
+                    }
+                }
+            }
+            results.add(work);
+        }
+
+        ObjectNode page = mapper.createObjectNode();
+        ObjectNode meta = page.putObject("meta");
+        meta.put("count", works);
+        meta.put("per_page", works);
+        meta.putNull("next_cursor");
+        page.set("results", results);
+        return mapper.writeValueAsBytes(page);
+    }
+
+    /**
+     * Kayıtlı Google Scholar sayfasındaki organic_results kayıtlarını tekrarlayarak {@code articles}
+     * elemanlı bir sayfa üretir; tekrar eden kayıtların link'leri benzersizleştirilir.
+     */
+    static byte[] serpApiScholarPage(ObjectMapper mapper, int articles) throws IOException {
+        ObjectNode page = (ObjectNode) mapper.readTree(resource(SERPAPI_SCHOLAR_PAGE));
+        JsonNode recorded = page.get("organic_results");
+        ArrayNode results = mapper.createArrayNode();
+        for (int i = 0; i < articles; i++) {
+            ObjectNode article = recorded.get(i % recorded.size()).deepCopy();
+            if (i >= recorded.size()) {
+                article.put("link", article.get("link").asText() + "#" + i);
+            }
+            results.add(article);
+        }
+        page.set("organic_results", results);
+        return mapper.writeValueAsBytes(page);
+    }
+}
@@ -0,0 +1,186 @@
+package com.example.provider;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.RestTemplate;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ProviderHttpClientTest {
+
+    private static final String AUTHOR_URL =
+            "https://serpapi.com/search.json?engine=google_scholar_author&author_id=abc&api_key=secret&hl=en";
+
+    private final RestTemplate restTemplate = mock(RestTemplate.class);
+
+    @Test
+    void canonicalUrlDropsApiKeyAndSortsParameters() {
+        assertEquals("https://serpapi.com/search.json?author_id=abc&engine=google_scholar_author&hl=en",
+                ProviderHttpClient.canonicalUrl(AUTHOR_URL));
+        assertEquals(ProviderHttpClient.canonicalUrl(AUTHOR_URL),
+                ProviderHttpClient.canonicalUrl("https://serpapi.com/search.json?hl=en&api_key=other&author_id=abc&engine=google_scholar_author"));
+        assertEquals("https://api.openalex.org/people/A1", ProviderHttpClient.canonicalUrl("https://api.openalex.org/people/A1"));
+    }
+
+    @Test
+    void concurrentIdenticalRequestsShareOneCall() throws Exception {
+        CountDownLatch callStarted = new CountDownLatch(1);
+        CountDownLatch releaseCall = new CountDownLatch(1);
+        when(restTemplate.getForObject(anyString(), eq(byte[].class))).thenAnswer(invocation -> {
+            callStarted.countDown();
+            releaseCall.await(5, TimeUnit.SECONDS);
+            return "{\"author\":{}}".getBytes(StandardCharsets.UTF_8);
+        });
+        ProviderHttpClient client = client(Duration.ZERO);
+
+        ExecutorService callers = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<ByteBuffer>> results = new ArrayList<>();
+            results.add(callers.submit(() -> client.getBody(ProviderHttpClient.SERPAPI, AUTHOR_URL)));
+            assertTrue(callStarted.await(5, TimeUnit.SECONDS));
+            for (int i = 0; i < 3; i++) {
+                results.add(callers.submit(() -> client.getBody(ProviderHttpClient.SERPAPI, AUTHOR_URL)));
+            }
+            Thread.sleep(100);
+            releaseCall.countDown();
+
+            for (Future<ByteBuffer> result : results) {
+                assertEquals(13, result.get(5, TimeUnit.SECONDS).remaining());
+            }
+        } finally {
+            callers.shutdownNow();
+        }
+        verify(restTemplate, times(1)).getForObject(anyString(), eq(byte[].class));
+        assertEquals(1, client.getRequestCount(ProviderHttpClient.SERPAPI));
+    }
+
+    @Test
+    void memoServesRepeatedRequestsWithinTtl() {
+        when(restTemplate.getForObject(anyString(), eq(byte[].class)))
+                .thenReturn("{}".getBytes(StandardCharsets.UTF_8));
+        ProviderHttpClient client = client(Duration.ofMinutes(1));
+
+        ByteBuffer first = client.getBody(ProviderHttpClient.SERPAPI, AUTHOR_URL);
+        first.get(); // okuyan çağıranın position'ı diğerlerini etkilememeli
+        ByteBuffer second = client.getBody(ProviderHttpClient.SERPAPI, AUTHOR_URL.replace("secret", "rotated"));
+
+        assertEquals(2, second.remaining());
+        verify(restTemplate, times(1)).getForObject(anyString(), eq(byte[].class));
+    }
+
+    @Test
+    void tooManyRequestsWaitsForRetryAfterAndPausesOtherCallers() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.RETRY_AFTER, "7");
+        when(restTemplate.getForObject(anyString(), eq(byte[].class)))
+                .thenThrow(HttpClientErrorException.create(HttpStatus.TOO_MANY_REQUESTS, "Too Many Requests", headers, null, null))
+                .thenReturn("{}".getBytes(StandardCharsets.UTF_8));
+        List<Duration> sleeps = new ArrayList<>();
+        ProviderHttpClient client = retryingClient(sleeps);
+
+        assertEquals(2, client.getBody(ProviderHttpClient.OPENALEX, "https://api.openalex.org/works?page=1").remaining());
+
+        assertEquals(2, client.getRequestCount(ProviderHttpClient.OPENALEX));
+        assertEquals(Duration.ofSeconds(7), sleeps.get(0));
+        // 429 limiter'ı da durdurdu: sonraki istek (burada tekrar denemenin kendisi) de bekler
+        assertEquals(2, sleeps.size());
+        assertTrue(sleeps.get(1).compareTo(Duration.ofSeconds(6)) > 0, "limiter wait: " + sleeps.get(1));
+    }
+
+    @Test
+    void serverErrorsBackOffWithJitterUpToMaxDelay() {
+        when(restTemplate.getForObject(anyString(), eq(byte[].class)))
+                .thenThrow(new HttpServerErrorException(HttpStatus.SERVICE_UNAVAILABLE))
+                .thenThrow(new HttpServerErrorException(HttpStatus.BAD_GATEWAY))
+                .thenReturn("{}".getBytes(StandardCharsets.UTF_8));
+        List<Duration> sleeps = new ArrayList<>();
+        ProviderHttpClient client = retryingClient(sleeps);
+
+        client.getBody(ProviderHttpClient.OPENALEX, "https://api.openalex.org/works?page=1");
+
+        // 1. deneme: üst sınır 100 ms, 2. deneme: 200 ms yerine max-delay (150 ms); yarısı sabit
+        assertEquals(2, sleeps.size());
+        assertBetween(50, 100, sleeps.get(0));
+        assertBetween(75, 150, sleeps.get(1));
+        assertEquals(3, client.getRequestCount(ProviderHttpClient.OPENALEX));
+    }
+
+    @Test
+    void givesUpAfterMaxAttemptsAndDoesNotRetryClientErrors() {
+        when(restTemplate.getForObject(eq("https://api.openalex.org/a"), eq(byte[].class)))
+                .thenThrow(new HttpServerErrorException(HttpStatus.INTERNAL_SERVER_ERROR));
+        when(restTemplate.getForObject(eq("https://api.openalex.org/b"), eq(byte[].class)))
+                .thenThrow(new HttpClientErrorException(HttpStatus.NOT_FOUND));
+        List<Duration> sleeps = new ArrayList<>();
+        ProviderHttpClient client = retryingClient(sleeps);
+
+        assertThrows(HttpServerErrorException.class, () -> client.getBody(ProviderHttpClient.OPENALEX, "https://api.openalex.org/a"));
+        assertEquals(3, client.getRequestCount(ProviderHttpClient.OPENALEX));
+        assertEquals(2, sleeps.size());
+
+        assertThrows(HttpClientErrorException.class, () -> client.getBody(ProviderHttpClient.OPENALEX, "https://api.openalex.org/b"));
+        assertEquals(4, client.getRequestCount(ProviderHttpClient.OPENALEX));
+    }
+
+    @Test
+    void retryAfterAcceptsSecondsAndHttpDates() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.RETRY_AFTER, "120");
+        assertEquals(Duration.ofSeconds(120), ProviderHttpClient.parseRetryAfter(headers));
+
+        headers.set(HttpHeaders.RETRY_AFTER, DateTimeFormatter.RFC_1123_DATE_TIME.format(ZonedDateTime.now().plusMinutes(2)));
+        Duration untilDate = ProviderHttpClient.parseRetryAfter(headers);
+        assertBetween(100_000, 120_000, untilDate);
+
+        headers.set(HttpHeaders.RETRY_AFTER, DateTimeFormatter.RFC_1123_DATE_TIME.format(ZonedDateTime.now().minusMinutes(2)));
+        assertEquals(Duration.ZERO, ProviderHttpClient.parseRetryAfter(headers));
+
+        headers.set(HttpHeaders.RETRY_AFTER, "soon");
+        assertNull(ProviderHttpClient.parseRetryAfter(headers));
+        assertNull(ProviderHttpClient.parseRetryAfter(new HttpHeaders()));
+    }
+
+    private static void assertBetween(long minMillis, long maxMillis, Duration actual) {
+        assertTrue(actual.toMillis() >= minMillis && actual.toMillis() <= maxMillis,
+                actual.toMillis() + " ms not in [" + minMillis + ", " + maxMillis + "]");
+    }
+
+    /**
+     * 3 deneme, 100 ms taban ve 150 ms tavan gecikmeli; beklemeler uyumak yerine {@code sleeps}'e yazılır.
+     */
+    private ProviderHttpClient retryingClient(List<Duration> sleeps) {
+        return new ProviderHttpClient(restTemplate, new ObjectMapper(), DiskResponseCache.disabled(), 100, 100, 100, 100,
+                3, Duration.ofMillis(100), Duration.ofMillis(150), Duration.ZERO, 16, sleeps::add);
+    }
+
+    private ProviderHttpClient client(Duration memoTtl) {
+        return new ProviderHttpClient(restTemplate, new ObjectMapper(), DiskResponseCache.disabled(), 100, 100, 100, 100,
+                1, Duration.ofMillis(1), Duration.ofMillis(1), memoTtl, 16);
+    }
+}
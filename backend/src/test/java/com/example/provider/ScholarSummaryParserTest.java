@@ -0,0 +1,71 @@
+package com.example.provider;
+
+import com.example.model.Publication;
+import com.example.provider.ScholarSummaryParser.ScholarSummary;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class ScholarSummaryParserTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void parsesRecordedScholarSummaries() throws IOException {
+        JsonNode cases = objectMapper.readTree(ProviderFixtures.resource("fixtures/scholar-summaries.json"));
+
+        for (JsonNode expected : cases) {
+            String summary = expected.get("summary").asText();
+            ScholarSummary parsed = ScholarSummaryParser.parse(summary);
+
+            assertEquals(textOrNull(expected, "authors"), parsed.authors(), summary);
+            assertEquals(textOrNull(expected, "venue"), parsed.venue(), summary);
+            assertEquals(expected.get("year").isNull() ? null : expected.get("year").asInt(), parsed.year(), summary);
+            assertEquals(textOrNull(expected, "host"), parsed.host(), summary);
+        }
+    }
+
+    @Test
+    void acceptsNonBreakingSpaceSeparatorsAndEmptyInput() {
+        ScholarSummary parsed = ScholarSummaryParser.parse("X Li\u00a0- Science, 2010\u00a0- science.org");
+        assertEquals("X Li", parsed.authors());
+        assertEquals("Science", parsed.venue());
+        assertEquals(2010, parsed.year());
+
+        assertNull(ScholarSummaryParser.parse("").venue());
+        assertNull(ScholarSummaryParser.parse(null).year());
+    }
+
+    @Test
+    void mapsRecordedScholarPage() throws IOException {
+        JsonNode page = objectMapper.readTree(ProviderFixtures.resource(ProviderFixtures.SERPAPI_SCHOLAR_PAGE));
+        SerpApiProvider provider = new SerpApiProvider(null);
+
+        Publication book = provider.mapArticle(page.get("organic_results").get(1), null);
+        assertEquals("book", book.getType());
+        assertEquals("Pattern recognition and machine learning", book.getTitle());
+        assertEquals(2006, book.getPublicationYear());
+        assertNull(book.getSourceName());
+
+        Publication preprint = provider.mapArticle(page.get("organic_results").get(4), null);
+        assertEquals(2014, preprint.getPublicationYear());
+        assertEquals("arXiv preprint arXiv:1412.6980", preprint.getSourceName());
+        assertEquals("DP Kingma, J Ba", preprint.getAuthors());
+
+        // publication_info.authors yoksa yazarlar summary'den alınır
+        Publication citation = provider.mapArticle(page.get("organic_results").get(3), null);
+        assertEquals("paratext", citation.getType());
+        assertEquals("A Yılmaz", citation.getAuthors());
+        assertEquals("Bilişim Dergisi", citation.getSourceName());
+        assertEquals(2019, citation.getPublicationYear());
+    }
+
+    private static String textOrNull(JsonNode node, String field) {
+        return node.get(field).isNull() ? null : node.get(field).asText();
+    }
+}
@@ -0,0 +1,75 @@
+package com.example.provider;
+
+import ch.qos.logback.classic.Level;
+import com.example.model.Publication;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 20 kayıtlık bir Google Scholar sayfasının SerpApiProvider.mapArticle ile eşlenmesi (tür tahmini,
+ * yazar birleştirme, summary'den yıl ve kaynak adı çıkarma). Sadece eşleme ve JSON okuma + eşleme
+ * ayrı ölçülür. Profil ile çalıştırılır, sonuç target/jmh-result.json'a yazılır:
+ *
+ * <pre>mvn -Pbenchmark test -Djmh.include=SerpApiArticleMappingBenchmark</pre>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SerpApiArticleMappingBenchmark {
+
+    private static final int ARTICLES_PER_PAGE = 20;
+
+    private ObjectMapper objectMapper;
+    private SerpApiProvider provider;
+    private byte[] pageBytes;
+    private JsonNode page;
+
+    @Setup
+    public void setup() throws IOException {
+        // Eşleme yolundaki debug/warn logları (konsol I/O) ölçümü domine etmesin
+        ((ch.qos.logback.classic.Logger) LoggerFactory.getLogger(Logger.ROOT_LOGGER_NAME)).setLevel(Level.ERROR);
+        objectMapper = new ObjectMapper();
+        provider = new SerpApiProvider(null);
+        pageBytes = ProviderFixtures.serpApiScholarPage(objectMapper, ARTICLES_PER_PAGE);
+        page = objectMapper.readTree(pageBytes);
+    }
+
+    @Benchmark
+    public List<Publication> mapPage() {
+        return mapArticles(page);
+    }
+
+    @Benchmark
+    public List<Publication> readAndMapPage() throws IOException {
+        return mapArticles(objectMapper.readTree(pageBytes));
+    }
+
+    private List<Publication> mapArticles(JsonNode response) {
+        JsonNode articles = response.get("organic_results");
+        List<Publication> publications = new ArrayList<>(articles.size());
+        for (JsonNode article : articles) {
+            publications.add(provider.mapArticle(article, null));
+        }
+        return publications;
+    }
+}
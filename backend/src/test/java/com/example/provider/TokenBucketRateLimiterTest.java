@@ -0,0 +1,68 @@
+package com.example.provider;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class TokenBucketRateLimiterTest {
+
+    private static final long MILLIS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    // Başlangıç negatif: nanoTime'ın işareti garanti değil
+    private final AtomicLong clock = new AtomicLong(-1_000_000 * MILLIS);
+
+    @Test
+    void burstIsServedImmediatelyThenCallersQueueUpAtTheRate() {
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(10, 2, clock::get);
+
+        assertEquals(0, limiter.reserve());
+        assertEquals(0, limiter.reserve());
+        // Burst bitti: her rezervasyon bir önceki borcun arkasına 100 ms ekler
+        assertEquals(100 * MILLIS, limiter.reserve());
+        assertEquals(200 * MILLIS, limiter.reserve());
+
+        clock.addAndGet(200 * MILLIS);
+        assertEquals(100 * MILLIS, limiter.reserve());
+    }
+
+    @Test
+    void idleTimeRefillsUpToBurstOnly() {
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(10, 2, clock::get);
+        limiter.reserve();
+        limiter.reserve();
+
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(10));
+
+        assertEquals(0, limiter.reserve());
+        assertEquals(0, limiter.reserve());
+        assertEquals(100 * MILLIS, limiter.reserve());
+    }
+
+    @Test
+    void pauseHoldsEveryCallerAndDrainsTheBurst() {
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(10, 5, clock::get);
+
+        limiter.pauseFor(Duration.ofSeconds(5));
+
+        // Bekleme bitince tek istek hemen çıkar, sonrakiler normal hızla
+        assertEquals(5_000 * MILLIS, limiter.reserve());
+        assertEquals(5_100 * MILLIS, limiter.reserve());
+
+        clock.addAndGet(5_100 * MILLIS);
+        assertEquals(100 * MILLIS, limiter.reserve());
+    }
+
+    @Test
+    void shorterPauseDoesNotShortenALongerOne() {
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(10, 1, clock::get);
+
+        limiter.pauseFor(Duration.ofSeconds(5));
+        limiter.pauseFor(Duration.ofSeconds(1));
+
+        assertEquals(5_000 * MILLIS, limiter.reserve());
+    }
+}
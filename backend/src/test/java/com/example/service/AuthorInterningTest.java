@@ -0,0 +1,101 @@
+package com.example.service;
+
+import com.example.model.Author;
+import com.example.model.Member;
+import com.example.model.Publication;
+import com.example.provider.PublicationProviderFactory;
+import com.example.repository.AuthorRepository;
+import com.example.repository.PublicationRepository;
+import com.example.researchgroup.ResearchGroupBackendApplication;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+
+/**
+ * Aynı yazar (OpenAlex ID'si veya normalize adıyla) sayfalar ve yayınlar arasında tek satır olarak
+ * saklanır; yayındaki yazar sırası korunur ve yazarın yayınları join tablosu üzerinden bulunur.
+ */
+@SpringBootTest(classes = ResearchGroupBackendApplication.class)
+class AuthorInterningTest {
+
+    @Autowired
+    private MemberService memberService;
+
+    @Autowired
+    private AuthorService authorService;
+
+    @Autowired
+    private AuthorRepository authorRepository;
+
+    @Autowired
+    private PublicationRepository publicationRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @MockitoBean
+    private PublicationProviderFactory providerFactory;
+
+    @Test
+    void internsAuthorsAcrossPagesAndKeepsOrder() {
+        IngestionFixtures.StubProvider provider = IngestionFixtures.provider();
+        when(providerFactory.getProvider(anyString())).thenReturn(provider);
+
+        Publication w1 = work("w1");
+        w1.addAuthor("https://openalex.org/AINTERN1", "Ada Lovelace");
+        w1.addAuthor(null, "K. He");
+        Publication w2 = work("w2");
+        w2.addAuthor(null, "K He");
+        w2.addAuthor("https://openalex.org/AINTERN1", "A. Lovelace");
+        Publication w3 = work("w3");
+        w3.addAuthor("https://openalex.org/AINTERN2", "Grace Hopper");
+        w3.addAuthor("https://openalex.org/AINTERN1", "Ada Lovelace");
+        provider.pages(List.of(w1, w2), List.of(w3));
+
+        Member member = memberService.fetchAndSaveMember("author-interning", "openalex");
+        assertEquals(3, member.getWorksCount());
+
+        List<Author> authors = authorRepository.findByAuthorKeyIn(List.of("AINTERN1", "AINTERN2", "name:k he"));
+        assertEquals(3, authors.size());
+
+        transactionTemplate.executeWithoutResult(status -> {
+            Publication stored = publicationRepository.findByIdentifierUrl("https://doi.org/interning/w2").orElseThrow();
+            // Tekilleştirilen yazarın ilk görülen adı saklanır
+            assertEquals("K. He, Ada Lovelace", stored.getAuthors());
+
+            Author ada = authors.stream().filter(a -> "AINTERN1".equals(a.getOpenAlexId())).findFirst().orElseThrow();
+            assertEquals(3, authorService.getPublications(ada.getId(), 0, 10).getTotalElements());
+        });
+
+        assertEquals(1, authorService.searchByName("k he", 0, 10).getContent().stream()
+                .filter(a -> "name:k he".equals(a.getAuthorKey())).count());
+    }
+
+    @Test
+    void newAuthorsCommitIndependentlyOfTheCallersTransaction() {
+        Publication pub = work("rolled-back");
+        pub.addAuthor("https://openalex.org/AINTERN3", "Barbara Liskov");
+
+        transactionTemplate.executeWithoutResult(status -> {
+            authorService.intern(List.of(pub));
+            status.setRollbackOnly();
+        });
+
+        // Çağıranın rollback'i yeni yazarı geri almaz; atanan ID veritabanındaki satırı gösterir
+        List<Author> stored = authorRepository.findByAuthorKeyIn(List.of("AINTERN3"));
+        assertEquals(1, stored.size());
+        assertEquals(stored.get(0).getId(), pub.getAuthorList().get(0).getId());
+    }
+
+    private static Publication work(String key) {
+        return IngestionFixtures.work("interning", key).year(2022).build();
+    }
+}
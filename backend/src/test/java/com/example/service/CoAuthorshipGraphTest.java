@@ -0,0 +1,44 @@
+package com.example.service;
+
+import com.example.service.CoAuthorshipGraph.Collaboration;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class CoAuthorshipGraphTest {
+
+    @Test
+    void putAndRemoveKeepWeightsAndPublicationListsConsistent() {
+        CoAuthorshipGraph graph = new CoAuthorshipGraph(3);
+        graph.putPublication(10, new long[]{1, 2, 3});
+        graph.putPublication(11, new long[]{1, 2});
+        graph.putPublication(12, new long[]{2, 1, 1}); // tekrarlanan yazar bir kez sayılır
+        graph.putPublication(12, new long[]{2, 1});    // aynı olay ikinci kez: değişiklik yok
+        graph.putPublication(13, new long[]{1, 2, 3, 4}); // sınırın üstünde: kenar üretmez
+
+        assertEquals(3, graph.weight(1, 2));
+        assertEquals(3, graph.weight(2, 1));
+        assertEquals(1, graph.weight(1, 3));
+        assertEquals(0, graph.weight(1, 4));
+        assertEquals(3, graph.edgeCount());
+        assertArrayEquals(new long[]{10, 11, 12, 13}, graph.sharedPublications(1, 2));
+        assertEquals(List.of(new Collaboration(2, 3), new Collaboration(3, 1)), graph.topCollaborators(1, 5));
+        assertEquals(List.of(new Collaboration(2, 3)), graph.topCollaborators(1, 1));
+
+        // Yazarları değişen yayın: eski kenarlar düşer, yenileri eklenir
+        graph.putPublication(10, new long[]{1, 4});
+        assertEquals(0, graph.weight(1, 3));
+        assertEquals(1, graph.weight(1, 4));
+        assertEquals(List.of(1L, 4L), graph.authorsOf(10));
+
+        graph.removePublication(11);
+        graph.removePublication(11);
+        assertEquals(1, graph.weight(1, 2));
+        assertArrayEquals(new long[]{12, 13}, graph.sharedPublications(1, 2));
+        assertEquals(3, graph.publicationCount(1));
+        assertEquals(2, graph.edgeCount());
+    }
+}
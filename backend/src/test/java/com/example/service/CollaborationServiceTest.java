@@ -0,0 +1,143 @@
+package com.example.service;
+
+import com.example.model.Member;
+import com.example.model.Publication;
+import com.example.provider.PublicationProviderFactory;
+import com.example.repository.MemberRepository;
+import com.example.repository.PublicationRepository;
+import com.example.researchgroup.ResearchGroupBackendApplication;
+import com.example.service.CollaborationService.CollaborationGraph;
+import com.example.service.CollaborationService.Collaborator;
+import com.example.service.CollaborationService.GraphEdge;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Ortak yazarlık grafı kayıt ve silme yollarıyla artımlı güncellenir; iki üyenin ortak yayını
+ * yalnızca birinin altında saklansa da (URL tekilliği) yazar düğümleri üzerinden bulunur.
+ */
+@SpringBootTest(classes = ResearchGroupBackendApplication.class)
+class CollaborationServiceTest {
+
+    private static final String ADA = "https://openalex.org/ACOLLAB1";
+    private static final String GRACE = "https://openalex.org/ACOLLAB2";
+
+    @Autowired
+    private MemberService memberService;
+
+    @Autowired
+    private PublicationService publicationService;
+
+    @Autowired
+    private CollaborationService collaborationService;
+
+    @Autowired
+    private PublicationRepository publicationRepository;
+
+    @MockitoSpyBean
+    private MemberRepository memberRepository;
+
+    @MockitoBean
+    private PublicationProviderFactory providerFactory;
+
+    @Test
+    void tracksCollaborationsAcrossSavesAndDeletes() {
+        IngestionFixtures.StubProvider provider = IngestionFixtures.provider()
+                .name("ACOLLAB1", "Ada")
+                .name("ACOLLAB2", "Grace");
+        when(providerFactory.getProvider(anyString())).thenReturn(provider);
+
+        provider.pages("ACOLLAB1", List.of(
+                work("c1", ADA, GRACE, null),
+                work("c2", ADA, GRACE),
+                work("c3", ADA, null)));
+        // c1 iki üyede de var; ikinci üyede duplicate olarak atlanır
+        provider.pages("ACOLLAB2", List.of(
+                work("c1", ADA, GRACE, null),
+                work("c4", GRACE, ADA)));
+        Member ada = memberService.fetchAndSaveMember("ACOLLAB1", "openalex");
+        Member grace = memberService.fetchAndSaveMember("ACOLLAB2", "openalex");
+        assertEquals(1, grace.getWorksCount());
+
+        Collaborator top = collaborationService.getTopCollaborators(ada.getId(), 1).get(0);
+        assertEquals(grace.getId(), top.memberId());
+        assertEquals("Grace", top.name());
+        assertEquals(3, top.sharedPublications());
+        assertEquals(3, collaborationService.getSharedPublications(ada.getId(), grace.getId(), 0, 2).getTotalElements());
+        assertEquals(List.of(new GraphEdge(ada.getId(), grace.getId(), 3)), edgesBetween(ada, grace, 1));
+        assertTrue(edgesBetween(ada, grace, 4).isEmpty());
+
+        publicationService.deletePublication(publicationRepository.findByIdentifierUrl("https://doi.org/collab/c2").orElseThrow().getId());
+        assertEquals(2, collaborationService.getTopCollaborators(ada.getId(), 1).get(0).sharedPublications());
+
+        memberService.deleteMember(grace.getId());
+        Collaborator formerMember = collaborationService.getTopCollaborators(ada.getId(), 10).stream()
+                .filter(collaborator -> collaborator.authorId().equals(top.authorId()))
+                .findFirst().orElseThrow();
+        assertEquals(1, formerMember.sharedPublications());
+        assertNull(formerMember.memberId());
+    }
+
+    @Test
+    void membersAddedLaterAreRecognisedWithoutReadingAllMembers() {
+        String linusId = "https://openalex.org/ACOLLAB3";
+        String barbaraId = "https://openalex.org/ACOLLAB4";
+        IngestionFixtures.StubProvider provider = IngestionFixtures.provider()
+                .name("ACOLLAB3", "Linus")
+                .name("ACOLLAB4", "Barbara")
+                .pages("ACOLLAB3", List.of(IngestionFixtures.work("collab", "l1")
+                        .author(linusId, "Linus").author(barbaraId, "Barbara").build()))
+                .pages("ACOLLAB4", List.of(IngestionFixtures.work("collab", "b1")
+                        .author(barbaraId, "Barbara").author(linusId, "Linus").build()));
+        when(providerFactory.getProvider(anyString())).thenReturn(provider);
+
+        Member linus = memberService.fetchAndSaveMember("ACOLLAB3", "openalex");
+        Collaborator beforeJoining = collaborationService.getTopCollaborators(linus.getId(), 1).get(0);
+        assertEquals("Barbara", beforeJoining.name());
+        assertNull(beforeJoining.memberId());
+
+        Member barbara = memberService.fetchAndSaveMember("ACOLLAB4", "openalex");
+        clearInvocations(memberRepository);
+        Collaborator afterJoining = collaborationService.getTopCollaborators(linus.getId(), 1).get(0);
+
+        assertEquals(barbara.getId(), afterJoining.memberId());
+        assertEquals(2, afterJoining.sharedPublications());
+        verify(memberRepository, never()).findAll();
+    }
+
+    private List<GraphEdge> edgesBetween(Member member, Member other, int minWeight) {
+        CollaborationGraph graph = collaborationService.getGroupGraph(minWeight);
+        return graph.edges().stream()
+                .filter(edge -> edge.sourceMemberId().equals(member.getId()) && edge.targetMemberId().equals(other.getId()))
+                .toList();
+    }
+
+    /**
+     * null yazar, ismi "Co-author <anahtar>" olan OpenAlex ID'siz bir ortak yazardır.
+     */
+    private static Publication work(String key, String... authorIds) {
+        IngestionFixtures.WorkBuilder work = IngestionFixtures.work("collab", key).year(2023);
+        for (String authorId : authorIds) {
+            if (authorId == null) {
+                work.author(null, "Co-author " + key);
+            } else {
+                work.author(authorId, authorId.equals(ADA) ? "Ada" : "Grace");
+            }
+        }
+        return work.build();
+    }
+}
@@ -0,0 +1,130 @@
+package com.example.service;
+
+import com.example.model.Member;
+import com.example.model.Publication;
+import com.example.provider.PublicationProviderFactory;
+import com.example.researchgroup.ResearchGroupBackendApplication;
+import com.jayway.jsonpath.JsonPath;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import static com.example.service.IngestionFixtures.work;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * async=true ile çekme 202 ve iş ID'si döner, iş durumu sayfa/kayıt/duplicate sayılarını raporlar;
+ * iş kuyruğu doluyken yeni çekme 429 ile reddedilir.
+ */
+@SpringBootTest(classes = ResearchGroupBackendApplication.class, properties = {
+        "fetch.jobs.workers=1",
+        "fetch.jobs.queue-capacity=1"
+})
+@AutoConfigureMockMvc
+class FetchJobServiceTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private PublicationProviderFactory providerFactory;
+
+    @Test
+    void asyncFetchReportsProgressOfTheJob() throws Exception {
+        // j2 ikinci sayfada tekrar gelir ve duplicate sayılır
+        when(providerFactory.getProvider(anyString())).thenReturn(IngestionFixtures.provider().pages(
+                List.of(work("job", "j1").build(), work("job", "j2").build()),
+                List.of(work("job", "j2").build(), work("job", "j3").build())));
+
+        MvcResult submitted = mockMvc.perform(post("/api/members/fetch").param("sourceId", "fetch-job").param("async", "true"))
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.state").exists())
+                .andReturn();
+        String jobId = JsonPath.read(submitted.getResponse().getContentAsString(), "$.id");
+        assertTrue(submitted.getResponse().getHeader("Location").endsWith("/api/fetch-jobs/" + jobId));
+
+        awaitState(jobId, "COMPLETED");
+        mockMvc.perform(get("/api/fetch-jobs/{id}", jobId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.pagesFetched").value(2))
+                .andExpect(jsonPath("$.publicationsSaved").value(3))
+                .andExpect(jsonPath("$.duplicatesSkipped").value(1))
+                .andExpect(jsonPath("$.memberId").isNumber());
+        mockMvc.perform(get("/api/fetch-jobs/{id}", "no-such-job")).andExpect(status().isNotFound());
+    }
+
+    @Test
+    void fullQueueIsRejectedWithTooManyRequests() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        when(providerFactory.getProvider(anyString())).thenReturn(new BlockingProvider(release));
+        List<String> jobIds = new ArrayList<>();
+        try {
+            // Tek işçi ilk işi çalıştırıyor, ikinci iş kuyrukta; üçüncüye yer yok
+            for (String sourceId : List.of("queue-1", "queue-2")) {
+                MvcResult accepted = mockMvc.perform(post("/api/members/fetch").param("sourceId", sourceId).param("async", "true"))
+                        .andExpect(status().isAccepted())
+                        .andReturn();
+                jobIds.add(JsonPath.read(accepted.getResponse().getContentAsString(), "$.id"));
+            }
+            mockMvc.perform(post("/api/members/fetch").param("sourceId", "queue-3").param("async", "true"))
+                    .andExpect(status().isTooManyRequests())
+                    .andExpect(header().exists("Retry-After"))
+                    .andExpect(jsonPath("$.status").value("429"));
+        } finally {
+            release.countDown();
+        }
+        for (String jobId : jobIds) {
+            awaitState(jobId, "COMPLETED");
+        }
+    }
+
+    private void awaitState(String jobId, String state) throws Exception {
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (System.currentTimeMillis() < deadline) {
+            String body = mockMvc.perform(get("/api/fetch-jobs/{id}", jobId)).andReturn().getResponse().getContentAsString();
+            if (state.equals(JsonPath.read(body, "$.state"))) {
+                return;
+            }
+            Thread.sleep(50);
+        }
+        throw new AssertionError("Fetch job " + jobId + " did not reach " + state);
+    }
+
+    /**
+     * Serbest bırakılana kadar ilk sayfayı vermez; işçiyi meşgul tutar.
+     */
+    private static final class BlockingProvider extends IngestionFixtures.StubProvider {
+
+        private final CountDownLatch release;
+
+        private BlockingProvider(CountDownLatch release) {
+            this.release = release;
+        }
+
+        @Override
+        public void streamPublications(String sourceId, Member member, Consumer<List<Publication>> pageConsumer) {
+            try {
+                release.await(30, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
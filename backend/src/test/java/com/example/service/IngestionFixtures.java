@@ -0,0 +1,154 @@
+package com.example.service;
+
+import com.example.model.Member;
+import com.example.model.Publication;
+import com.example.provider.PublicationProvider;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Ingestion testleri için ortak sağlayıcı ve yayın üreticisi. Testler PublicationProviderFactory'yi
+ * mock'layıp {@link StubProvider} döndürür; yayınlar {@link #work(String, String)} ile kurulur.
+ */
+final class IngestionFixtures {
+
+    private IngestionFixtures() {
+    }
+
+    static StubProvider provider() {
+        return new StubProvider();
+    }
+
+    /**
+     * URL'si {@code https://doi.org/<group>/<key>}, başlığı {@code "<group> <key>"} olan yayın.
+     */
+    static WorkBuilder work(String group, String key) {
+        return new WorkBuilder(group, key);
+    }
+
+    /**
+     * Kaynak ID'sine göre ayarlanan sayfaları sırayla veren sağlayıcı. Sayfası ayarlanmamış kaynaklar
+     * için {@link #pages(List[])} ile verilen varsayılan sayfalar kullanılır; {@link #failOnPage} ile
+     * verilen sayfa yerine hata fırlatılır. Yavaş veya eşzamanlılık ölçen sağlayıcılar bu sınıfı genişletir.
+     */
+    static class StubProvider implements PublicationProvider {
+
+        private final Map<String, List<List<Publication>>> pagesBySource = new HashMap<>();
+        private final Map<String, String> names = new HashMap<>();
+        private List<List<Publication>> defaultPages = List.of();
+        private boolean requiresMemberDetails = true;
+        private int failingPage;
+        private RuntimeException failure;
+        volatile LocalDate lastSince;
+
+        @SafeVarargs
+        final StubProvider pages(List<Publication>... pages) {
+            this.defaultPages = List.of(pages);
+            return this;
+        }
+
+        @SafeVarargs
+        final StubProvider pages(String sourceId, List<Publication>... pages) {
+            pagesBySource.put(sourceId, List.of(pages));
+            return this;
+        }
+
+        StubProvider name(String sourceId, String name) {
+            names.put(sourceId, name);
+            return this;
+        }
+
+        StubProvider detailsInParallel() {
+            this.requiresMemberDetails = false;
+            return this;
+        }
+
+        /**
+         * {@code page}. sayfa (1'den başlar) teslim edilmek yerine {@code failure} fırlatılır.
+         */
+        StubProvider failOnPage(int page, RuntimeException failure) {
+            this.failingPage = page;
+            this.failure = failure;
+            return this;
+        }
+
+        @Override
+        public Member getMemberDetails(String sourceId) {
+            Member member = new Member();
+            member.setName(names.getOrDefault(sourceId, "Member " + sourceId));
+            member.setOpenAlexId(sourceId);
+            return member;
+        }
+
+        @Override
+        public boolean publicationsRequireMemberDetails() {
+            return requiresMemberDetails;
+        }
+
+        @Override
+        public void streamPublications(String sourceId, Member member, Consumer<List<Publication>> pageConsumer) {
+            List<List<Publication>> pages = pagesBySource.getOrDefault(sourceId, defaultPages);
+            for (int page = 1; page <= pages.size(); page++) {
+                if (page == failingPage) {
+                    throw failure;
+                }
+                pageConsumer.accept(pages.get(page - 1));
+            }
+        }
+
+        @Override
+        public void streamPublicationsSince(String sourceId, Member member, LocalDate since, Consumer<List<Publication>> pageConsumer) {
+            lastSince = since;
+            streamPublications(sourceId, member, pageConsumer);
+        }
+    }
+
+    static final class WorkBuilder {
+
+        private final Publication pub = new Publication();
+
+        private WorkBuilder(String group, String key) {
+            pub.setTitle(group + " " + key);
+            pub.setIdentifierUrl("https://doi.org/" + group + "/" + key);
+        }
+
+        WorkBuilder title(String title) {
+            pub.setTitle(title);
+            return this;
+        }
+
+        WorkBuilder year(Integer year) {
+            pub.setPublicationYear(year);
+            return this;
+        }
+
+        WorkBuilder citations(int citations) {
+            pub.setCitedByCount(citations);
+            return this;
+        }
+
+        WorkBuilder type(String type) {
+            pub.setType(type);
+            return this;
+        }
+
+        WorkBuilder tags(String... tags) {
+            pub.setTags(new ArrayList<>(List.of(tags)));
+            return this;
+        }
+
+        WorkBuilder author(String openAlexId, String name) {
+            pub.addAuthor(openAlexId, name);
+            return this;
+        }
+
+        Publication build() {
+            return pub;
+        }
+    }
+}
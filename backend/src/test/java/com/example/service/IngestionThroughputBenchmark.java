@@ -0,0 +1,149 @@
+package com.example.service;
+
+import com.example.model.Member;
+import com.example.provider.FakeProviderServer;
+import com.example.researchgroup.ResearchGroupBackendApplication;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Uçtan uca içe aktarma hızı: sağlayıcılar süreç içi {@link FakeProviderServer}'a yönlendirilir,
+ * 1, 10 ve 50 eşzamanlı fetchAndSaveMember için works/sn ve en yüksek heap kullanımı ölçülür.
+ * Sunucu her isteğe sabit gecikme ekler ve belirli aralıklarla 429 döner (tekrar yolu da ölçülür).
+ * Hız sınırları ölçülen şey olmasın diye yükseltilmiştir. Normal test koşusunda çalışmaz:
+ *
+ * <pre>mvn -Dtest=IngestionThroughputBenchmark test -Dbench.works=2000</pre>
+ */
+@SpringBootTest(classes = ResearchGroupBackendApplication.class, properties = {
+        "spring.jpa.show-sql=false",
+        "logging.level.org.hibernate.SQL=WARN",
+        "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN",
+        "logging.level.com.example=WARN",
+        "members.refresh.cron=-",
+        "provider.rate-limit.openalex.requests-per-second=10000",
+        "provider.rate-limit.openalex.burst=1000",
+        "provider.rate-limit.serpapi.requests-per-second=10000",
+        "provider.rate-limit.serpapi.burst=1000",
+        "provider.retry.base-delay=PT0.01S",
+        "provider.http.max-connections-per-route=50",
+        "provider.http.memo-ttl=PT0S",
+        "provider.fetch.parallelism=16"
+})
+class IngestionThroughputBenchmark {
+
+    private static final int WORKS_PER_AUTHOR = Integer.getInteger("bench.works", 1_000);
+    private static final int[] CONCURRENCY = {1, 10, 50};
+    private static final Duration LATENCY = Duration.ofMillis(20);
+    private static final int FAIL_EVERY = 97;
+
+    private static final FakeProviderServer server = startServer();
+
+    @Autowired
+    private MemberService memberService;
+
+    @DynamicPropertySource
+    static void providerUrls(DynamicPropertyRegistry registry) {
+        registry.add("openalex.api.base-url", server::openAlexBaseUrl);
+        registry.add("serpapi.api.base-url", server::serpApiBaseUrl);
+    }
+
+    @AfterAll
+    static void stopServer() {
+        server.close();
+    }
+
+    @Test
+    void measureConcurrentImports() throws Exception {
+        // Isınma: JIT, bağlantı havuzları ve H2 sekansları hazır olsun
+        runRound("warmup", 4);
+
+        // SerpAPI alt kümesi de uçtan uca çalışıyor mu (en fazla 6 sayfa x 20)
+        Member scholar = memberService.fetchAndSaveMember("bench-scholar", "serpapi");
+        assertEquals(Math.min(WORKS_PER_AUTHOR, 120), scholar.getWorksCount());
+
+        List<String> rows = new ArrayList<>();
+        for (int concurrency : CONCURRENCY) {
+            rows.add(runRound("c" + concurrency, concurrency));
+        }
+
+        System.out.printf("%n=== OpenAlex import, %d works/author, %d ms latency, 429 every %d requests ===%n",
+                WORKS_PER_AUTHOR, LATENCY.toMillis(), FAIL_EVERY);
+        System.out.printf("%-12s %10s %10s %12s %14s %10s%n",
+                "concurrent", "works", "wall ms", "works/sec", "peak heap MB", "requests");
+        rows.forEach(System.out::println);
+    }
+
+    private String runRound(String label, int concurrency) throws Exception {
+        System.gc();
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        AtomicLong peakHeap = new AtomicLong(memory.getHeapMemoryUsage().getUsed());
+        AtomicBoolean sampling = new AtomicBoolean(true);
+        Thread sampler = new Thread(() -> {
+            while (sampling.get()) {
+                peakHeap.accumulateAndGet(memory.getHeapMemoryUsage().getUsed(), Math::max);
+                try {
+                    Thread.sleep(5);
+                } catch (InterruptedException e) {
+                    return;
+                }
+            }
+        }, "heap-sampler");
+        sampler.setDaemon(true);
+        sampler.start();
+
+        int requestsBefore = server.requestCount();
+        ExecutorService importers = Executors.newFixedThreadPool(concurrency);
+        long start = System.nanoTime();
+        long works = 0;
+        try {
+            List<Future<Member>> imports = new ArrayList<>(concurrency);
+            for (int i = 0; i < concurrency; i++) {
+                String authorId = "bench-" + label + "-" + i;
+                imports.add(importers.submit(() -> memberService.fetchAndSaveMember(authorId, "openalex")));
+            }
+            for (Future<Member> imported : imports) {
+                Member member = imported.get();
+                assertEquals(WORKS_PER_AUTHOR, member.getWorksCount());
+                works += member.getWorksCount();
+            }
+        } finally {
+            importers.shutdownNow();
+            sampling.set(false);
+            sampler.join();
+        }
+        long wallMillis = Math.max(1, (System.nanoTime() - start) / 1_000_000);
+
+        return String.format("%-12d %10d %10d %12.0f %14.1f %10d", concurrency, works, wallMillis,
+                works * 1000.0 / wallMillis, peakHeap.get() / (1024.0 * 1024.0), server.requestCount() - requestsBefore);
+    }
+
+    private static FakeProviderServer startServer() {
+        try {
+            return new FakeProviderServer()
+                    .defaultWorks(WORKS_PER_AUTHOR)
+                    .latency(LATENCY)
+                    .failEvery(FAIL_EVERY, 429);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.example.service;
+
+import com.example.model.Member;
+import com.example.model.YearCount;
+import com.example.provider.PublicationProviderFactory;
+import com.example.repository.MemberYearCountRepository;
+import com.example.researchgroup.ResearchGroupBackendApplication;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+
+import java.util.List;
+
+import static com.example.service.IngestionFixtures.work;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * counts-by-year özeti yalnızca hiç kurulmamışsa (özetten önceki kayıtlar) GROUP BY ile yeniden hesaplanır;
+ * boş özet tek başına yeniden hesaplama sebebi değildir.
+ */
+@SpringBootTest(classes = ResearchGroupBackendApplication.class)
+class MemberCountsByYearTest {
+
+    @Autowired
+    private MemberService memberService;
+
+    @Autowired
+    private MemberYearCountRepository yearCountRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @MockitoSpyBean
+    private MemberYearCountService yearCountService;
+
+    @MockitoBean
+    private PublicationProviderFactory providerFactory;
+
+    @Test
+    void memberWithoutYearsIsNotRebuiltOnEveryRequest() {
+        when(providerFactory.getProvider(anyString())).thenReturn(IngestionFixtures.provider()
+                .pages(List.of(work("no-year", "a").build(), work("no-year", "b").build())));
+        Member member = memberService.fetchAndSaveMember("no-year", "openalex");
+        assertEquals(2, member.getWorksCount());
+
+        assertEquals(List.of(), memberService.getMemberCountsByYear(member.getId()));
+        assertEquals(List.of(), memberService.getMemberCountsByYear(member.getId()));
+        verify(yearCountService, never()).rebuildAndMarkBuilt(anyLong());
+    }
+
+    @Test
+    void legacyMemberIsRebuiltOnce() {
+        when(providerFactory.getProvider(anyString())).thenReturn(IngestionFixtures.provider()
+                .pages(List.of(work("legacy", "a").year(2019).build(), work("legacy", "b").year(2021).build())));
+        Member member = memberService.fetchAndSaveMember("legacy", "openalex");
+
+        // Özet tablosundan önce kaydedilmiş bir üye gibi: işaret NULL, özet satırı yok
+        jdbcTemplate.update("UPDATE member SET year_counts_built = NULL WHERE id = ?", member.getId());
+        yearCountRepository.deleteByMemberId(member.getId());
+
+        List<YearCount> expected = List.of(new YearCount("2019", 1), new YearCount("2021", 1));
+        assertEquals(expected, memberService.getMemberCountsByYear(member.getId()));
+        assertEquals(expected, memberService.getMemberCountsByYear(member.getId()));
+        verify(yearCountService, times(1)).rebuildAndMarkBuilt(member.getId());
+    }
+}
@@ -0,0 +1,59 @@
+package com.example.service;
+
+import com.example.model.Member;
+import com.example.provider.PublicationProviderFactory;
+import com.example.repository.MemberRepository;
+import com.example.repository.PublicationRepository;
+import com.example.researchgroup.ResearchGroupBackendApplication;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.util.List;
+
+import static com.example.service.IngestionFixtures.work;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+
+/**
+ * Sayfalardan biri başarısız olan çekme yarım üye bırakmaz; aynı üye tekrar çekildiğinde baştan kaydedilir.
+ */
+@SpringBootTest(classes = ResearchGroupBackendApplication.class)
+class MemberFetchFailureTest {
+
+    @Autowired
+    private MemberService memberService;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private PublicationRepository publicationRepository;
+
+    @MockitoBean
+    private PublicationProviderFactory providerFactory;
+
+    @Test
+    void failedPageDiscardsPartiallySavedMember() {
+        IngestionFixtures.StubProvider provider = IngestionFixtures.provider()
+                .pages(List.of(work("partial", "p1").year(2020).build()), List.of(work("partial", "p2").year(2021).build()))
+                .failOnPage(2, new IllegalStateException("rate limit retries exhausted"));
+        when(providerFactory.getProvider(anyString())).thenReturn(provider);
+
+        assertThrows(RuntimeException.class, () -> memberService.fetchAndSaveMember("partial-fetch", "openalex"));
+        assertNull(memberRepository.findByOpenAlexId("partial-fetch"));
+        assertTrue(publicationRepository.findByIdentifierUrl("https://doi.org/partial/p1").isEmpty());
+
+        // Gerçek sağlayıcılar gibi her çekmede yeni nesneler
+        provider.pages(List.of(work("partial", "p1").year(2020).build()), List.of(work("partial", "p2").year(2021).build()))
+                .failOnPage(0, null);
+        Member member = memberService.fetchAndSaveMember("partial-fetch", "openalex");
+        assertEquals(2, member.getWorksCount());
+        assertEquals(2, memberService.getMemberCountsByYear(member.getId()).size());
+    }
+}
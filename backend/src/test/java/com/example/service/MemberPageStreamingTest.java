@@ -0,0 +1,104 @@
+package com.example.service;
+
+import com.example.model.Member;
+import com.example.model.Publication;
+import com.example.provider.PublicationProviderFactory;
+import com.example.repository.PublicationRepository;
+import com.example.researchgroup.ResearchGroupBackendApplication;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+
+import static com.example.service.IngestionFixtures.work;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+
+/**
+ * Sağlayıcı sayfaları tek tek akıtıldığında her sayfa, bir sonraki sayfa istenmeden önce commit
+ * edilmiş olmalı; bir sayfa hata verirse önceki sayfalar zaten kaydedilmiş ve hata çağırana iletilmiş olur.
+ */
+@SpringBootTest(classes = ResearchGroupBackendApplication.class)
+class MemberPageStreamingTest {
+
+    @Autowired
+    private MemberService memberService;
+
+    @Autowired
+    private PublicationRepository publicationRepository;
+
+    @MockitoBean
+    private PublicationProviderFactory providerFactory;
+
+    @Test
+    void eachPageIsCommittedBeforeTheNextPageIsRequested() {
+        List<List<Publication>> pages = pages("stream-ok", 3, 2);
+        CommitRecordingProvider provider = new CommitRecordingProvider(urls(pages));
+        provider.pages(pages.get(0), pages.get(1), pages.get(2));
+        when(providerFactory.getProvider(anyString())).thenReturn(provider);
+
+        Member member = memberService.fetchAndSaveMember("stream-ok", "openalex");
+
+        // Her sayfa tüketildikten sonra, sağlayıcı devam etmeden önce ayrı bir transaction'dan görünür
+        assertEquals(List.of(2, 4, 6), provider.committedAfterEachPage);
+        assertEquals(6, member.getWorksCount());
+    }
+
+    @Test
+    void failureOnLaterPageKeepsEarlierPagesCommittedAndPropagates() {
+        List<List<Publication>> pages = pages("stream-fail", 4, 2);
+        CommitRecordingProvider provider = new CommitRecordingProvider(urls(pages));
+        IllegalStateException failure = new IllegalStateException("page 3 failed");
+        provider.pages(pages.get(0), pages.get(1), pages.get(2), pages.get(3)).failOnPage(3, failure);
+        when(providerFactory.getProvider(anyString())).thenReturn(provider);
+
+        RuntimeException thrown = assertThrows(RuntimeException.class,
+                () -> memberService.fetchAndSaveMember("stream-fail", "openalex"));
+
+        assertSame(failure, thrown.getCause());
+        // 1. ve 2. sayfa hata gelmeden önce kaydedildi; 3. ve 4. sayfa hiç tüketilmedi
+        assertEquals(List.of(2, 4), provider.committedAfterEachPage);
+    }
+
+    private static List<List<Publication>> pages(String group, int pageCount, int pageSize) {
+        return IntStream.range(0, pageCount)
+                .mapToObj(page -> IntStream.range(0, pageSize)
+                        .mapToObj(i -> work(group, page + "-" + i).citations(1).build())
+                        .toList())
+                .toList();
+    }
+
+    private static List<String> urls(List<List<Publication>> pages) {
+        return pages.stream().flatMap(List::stream).map(Publication::getIdentifierUrl).toList();
+    }
+
+    /**
+     * Her sayfa tüketicisi döndükten sonra, bir sonraki sayfaya geçmeden veritabanında commit edilmiş
+     * yayın sayısını kaydeder.
+     */
+    private class CommitRecordingProvider extends IngestionFixtures.StubProvider {
+
+        private final List<String> allUrls;
+        private final List<Integer> committedAfterEachPage = new ArrayList<>();
+
+        CommitRecordingProvider(List<String> allUrls) {
+            this.allUrls = allUrls;
+        }
+
+        @Override
+        public void streamPublications(String sourceId, Member member, Consumer<List<Publication>> pageConsumer) {
+            super.streamPublications(sourceId, member, page -> {
+                pageConsumer.accept(page);
+                committedAfterEachPage.add(publicationRepository.findExistingIdentifierUrls(allUrls).size());
+            });
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package com.example.service;
+
+import com.example.model.Member;
+import com.example.model.MemberRefreshRun;
+import com.example.model.Publication;
+import com.example.provider.PublicationProviderFactory;
+import com.example.repository.MemberRepository;
+import com.example.researchgroup.ResearchGroupBackendApplication;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+
+/**
+ * Yenileme çalışması yakın zamanda senkronize edilmiş üyeleri atlar ve sağlayıcı başına
+ * eşzamanlılık sınırını aşmaz.
+ */
+@SpringBootTest(classes = ResearchGroupBackendApplication.class, properties = {
+        "members.refresh.cron=-",
+        "members.refresh.window=PT0S",
+        "members.refresh.concurrency.openalex=1"
+})
+class MemberRefreshServiceTest {
+
+    private static final int STALE_MEMBERS = 4;
+
+    @Autowired
+    private MemberRefreshService memberRefreshService;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @MockitoBean
+    private PublicationProviderFactory providerFactory;
+
+    @Test
+    void refreshesStaleMembersWithinProviderConcurrencyLimit() throws Exception {
+        ConcurrencyTrackingProvider provider = new ConcurrencyTrackingProvider();
+        when(providerFactory.getProvider(anyString())).thenReturn(provider);
+
+        for (int i = 0; i < STALE_MEMBERS; i++) {
+            memberRepository.save(member("refresh-stale-" + i, Instant.now().minus(Duration.ofDays(2))));
+        }
+        memberRepository.save(member("refresh-recent", Instant.now()));
+
+        MemberRefreshRun run = memberRefreshService.startRun("test");
+        long deadline = System.currentTimeMillis() + 20_000;
+        while (run.getState() == MemberRefreshRun.State.RUNNING && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+        }
+
+        assertEquals(MemberRefreshRun.State.COMPLETED, run.getState());
+        // Diğer testlerin üyeleri de yeni senkronize edilmiş olduğundan atlanır
+        assertEquals(run.getMembersTotal() - STALE_MEMBERS, run.getMembersSkipped());
+        assertEquals(STALE_MEMBERS, run.getMembersRefreshed());
+        assertEquals(STALE_MEMBERS, run.getPublicationsInserted());
+        assertEquals(1, provider.maxConcurrent.get());
+        assertTrue(memberRefreshService.getRuns().contains(run));
+    }
+
+    private static Member member(String sourceId, Instant lastSyncedAt) {
+        Member member = new Member();
+        member.setName(sourceId);
+        member.setOpenAlexId(sourceId);
+        member.setProviderType("openalex");
+        member.setLastSyncedAt(lastSyncedAt);
+        return member;
+    }
+
+    private static final class ConcurrencyTrackingProvider extends IngestionFixtures.StubProvider {
+
+        private final AtomicInteger running = new AtomicInteger();
+        private final AtomicInteger maxConcurrent = new AtomicInteger();
+
+        @Override
+        public void streamPublicationsSince(String sourceId, Member member, LocalDate since, Consumer<List<Publication>> pageConsumer) {
+            maxConcurrent.accumulateAndGet(running.incrementAndGet(), Math::max);
+            try {
+                Thread.sleep(100);
+                pageConsumer.accept(List.of(IngestionFixtures.work("refresh", sourceId).build()));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                running.decrementAndGet();
+            }
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.example.service;
+
+import com.example.model.Member;
+import com.example.model.Publication;
+import com.example.model.YearCount;
+import com.example.provider.PublicationProviderFactory;
+import com.example.repository.MemberRepository;
+import com.example.repository.PublicationRepository;
+import com.example.researchgroup.ResearchGroupBackendApplication;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+
+/**
+ * Re-sync sadece son senkronizasyondan sonra değişenleri ister, yenileri ekler, değişenleri
+ * günceller ve üye sayaçlarını (yıl özeti dahil) farklar kadar düzeltir.
+ */
+@SpringBootTest(classes = ResearchGroupBackendApplication.class)
+class MemberResyncTest {
+
+    @Autowired
+    private MemberService memberService;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private PublicationRepository publicationRepository;
+
+    @Autowired
+    private MemberYearCountService yearCountService;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @MockitoBean
+    private PublicationProviderFactory providerFactory;
+
+    @Test
+    void resyncUpsertsChangedWorksAndAdjustsCounts() {
+        IngestionFixtures.StubProvider provider = IngestionFixtures.provider();
+        when(providerFactory.getProvider(anyString())).thenReturn(provider);
+
+        provider.pages(List.of(work("r1", 10, "A"), work("r2", 20, "B"), work("r3", 30, "C")));
+        Member member = memberService.fetchAndSaveMember("resync-test", "openalex");
+        assertEquals(3, member.getWorksCount());
+        assertEquals(60, member.getCitedByCount());
+        assertNotNull(member.getLastSyncedAt());
+
+        assertEquals(List.of(new YearCount("2020", 3)), memberService.getMemberCountsByYear(member.getId()));
+
+        // r2'nin atıfı, yılı ve kavramları değişti, r3 aynı, r4 yeni
+        Publication r2Changed = work("r2", 25, "B", "D");
+        r2Changed.setPublicationYear(2021);
+        Publication r4 = work("r4", 5, "E");
+        r4.setPublicationYear(2019);
+        provider.pages(List.of(r2Changed, work("r3", 30, "C"), r4));
+        ResyncResult result = memberService.resyncMember(member.getId());
+
+        assertEquals(LocalDate.ofInstant(member.getLastSyncedAt(), ZoneOffset.UTC), provider.lastSince);
+        assertEquals(1, result.inserted());
+        assertEquals(1, result.updated());
+        assertEquals(1, result.unchanged());
+        assertEquals(4, result.worksCount());
+        assertEquals(70, result.citedByCount());
+
+        Member synced = memberRepository.findById(member.getId()).orElseThrow();
+        assertEquals(4, synced.getWorksCount());
+        assertEquals(70, synced.getCitedByCount());
+        assertEquals(result.syncedAt(), synced.getLastSyncedAt());
+
+        transactionTemplate.executeWithoutResult(status -> {
+            Publication r2 = publicationRepository.findByIdentifierUrl("https://doi.org/resync/r2").orElseThrow();
+            assertEquals(25, r2.getCitedByCount());
+            assertEquals(List.of("B", "D"), r2.getTags());
+        });
+
+        List<YearCount> expectedCounts = List.of(new YearCount("2019", 1), new YearCount("2020", 2), new YearCount("2021", 1));
+        assertEquals(expectedCounts, memberService.getMemberCountsByYear(member.getId()));
+        // GROUP BY ile yeniden hesaplanan özet artımlı güncellenenle aynı olmalı
+        assertEquals(expectedCounts, yearCountService.rebuild(member.getId()));
+    }
+
+    private static Publication work(String key, int citations, String... tags) {
+        return IngestionFixtures.work("resync", key).citations(citations).year(2020).tags(tags).build();
+    }
+}
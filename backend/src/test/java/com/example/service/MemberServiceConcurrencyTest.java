@@ -0,0 +1,124 @@
+package com.example.service;
+
+import com.example.model.Member;
+import com.example.model.Publication;
+import com.example.provider.PublicationProviderFactory;
+import com.example.repository.MemberRepository;
+import com.example.researchgroup.ResearchGroupBackendApplication;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import static com.example.service.IngestionFixtures.work;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Devam eden (uzak çağrıda bekleyen) fetch'ler bağlantı havuzunu tutmamalı:
+ * havuzdan fazla sayıda eşzamanlı fetch varken GET /api/members hâlâ cevap verebilmeli.
+ */
+@SpringBootTest(classes = ResearchGroupBackendApplication.class, properties = {
+        "spring.datasource.hikari.maximum-pool-size=2",
+        "spring.datasource.hikari.connection-timeout=1000"
+})
+@AutoConfigureMockMvc
+class MemberServiceConcurrencyTest {
+
+    private static final int CONCURRENT_FETCHES = 3;
+
+    @Autowired
+    private MemberService memberService;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private PublicationProviderFactory providerFactory;
+
+    @Test
+    void inFlightFetchesDoNotStarveReadEndpoints() throws Exception {
+        CountDownLatch fetchesWaitingOnRemote = new CountDownLatch(CONCURRENT_FETCHES);
+        CountDownLatch releaseRemote = new CountDownLatch(1);
+        when(providerFactory.getProvider(anyString()))
+                .thenReturn(new SlowProvider(fetchesWaitingOnRemote, releaseRemote));
+
+        ExecutorService callers = Executors.newFixedThreadPool(CONCURRENT_FETCHES);
+        try {
+            List<Future<Member>> fetches = new ArrayList<>();
+            for (int i = 0; i < CONCURRENT_FETCHES; i++) {
+                String sourceId = "concurrency-test-" + i;
+                fetches.add(callers.submit(() -> memberService.fetchAndSaveMember(sourceId, "openalex")));
+            }
+
+            // Tüm fetch'ler ilk sayfayı kaydetti ve "uzak" ikinci sayfayı bekliyor
+            assertTrue(fetchesWaitingOnRemote.await(10, TimeUnit.SECONDS), "fetches did not reach the remote call");
+
+            long start = System.nanoTime();
+            mockMvc.perform(get("/api/members")).andExpect(status().isOk());
+            long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+            assertTrue(elapsedMillis < 1000, "GET /api/members waited " + elapsedMillis + " ms for a connection");
+
+            releaseRemote.countDown();
+            for (Future<Member> fetch : fetches) {
+                Member member = fetch.get(10, TimeUnit.SECONDS);
+                assertEquals(2, memberRepository.findById(member.getId()).orElseThrow().getWorksCount());
+            }
+        } finally {
+            releaseRemote.countDown();
+            callers.shutdownNow();
+        }
+    }
+
+    /**
+     * İlk sayfayı hemen verir, ikinci sayfa için uzak API'yi taklit ederek serbest bırakılana kadar bekler.
+     */
+    private static final class SlowProvider extends IngestionFixtures.StubProvider {
+
+        private final CountDownLatch waitingOnRemote;
+        private final CountDownLatch releaseRemote;
+
+        private SlowProvider(CountDownLatch waitingOnRemote, CountDownLatch releaseRemote) {
+            this.waitingOnRemote = waitingOnRemote;
+            this.releaseRemote = releaseRemote;
+            detailsInParallel();
+        }
+
+        @Override
+        public void streamPublications(String sourceId, Member member, Consumer<List<Publication>> pageConsumer) {
+            pageConsumer.accept(List.of(publication(sourceId, 1)));
+            waitingOnRemote.countDown();
+            try {
+                if (!releaseRemote.await(30, TimeUnit.SECONDS)) {
+                    throw new IllegalStateException("remote call was never released");
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            }
+            pageConsumer.accept(List.of(publication(sourceId, 2)));
+        }
+
+        private static Publication publication(String sourceId, int index) {
+            return work(sourceId, String.valueOf(index)).title("Work " + index + " of " + sourceId).build();
+        }
+    }
+}
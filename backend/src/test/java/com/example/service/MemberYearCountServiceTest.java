@@ -0,0 +1,68 @@
+package com.example.service;
+
+import com.example.model.YearCount;
+import com.example.researchgroup.ResearchGroupBackendApplication;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Yıl özetine eşzamanlı yazan import'lar birbirinin artışını kaybetmemeli; sıfıra inen yıllar silinir.
+ */
+@SpringBootTest(classes = ResearchGroupBackendApplication.class)
+class MemberYearCountServiceTest {
+
+    private static final long MEMBER_ID = 9_100_001L;
+
+    @Autowired
+    private MemberYearCountService yearCountService;
+
+    @Test
+    void concurrentDeltasAreNotLost() throws Exception {
+        yearCountService.applyDeltas(MEMBER_ID, deltas(2020, 1, 2021, 1000));
+
+        ExecutorService writers = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> results = new ArrayList<>();
+            for (int i = 0; i < 200; i++) {
+                results.add(writers.submit(() -> yearCountService.applyDeltas(MEMBER_ID, deltas(2020, 1, 2021, -1))));
+                results.add(writers.submit(() -> yearCountService.applyDeltas(MEMBER_ID, deltas(2021, 1))));
+            }
+            for (Future<?> result : results) {
+                result.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            writers.shutdownNow();
+        }
+
+        assertEquals(List.of(new YearCount("2020", 201), new YearCount("2021", 1000)), yearCountService.getCounts(MEMBER_ID));
+    }
+
+    @Test
+    void yearsThatDropToZeroAreRemoved() {
+        long memberId = MEMBER_ID + 1;
+        yearCountService.applyDeltas(memberId, deltas(2018, 2, 2019, 1));
+        yearCountService.applyDeltas(memberId, deltas(2018, -1, 2019, -1, 2023, 1));
+
+        assertEquals(List.of(new YearCount("2018", 1), new YearCount("2023", 1)), yearCountService.getCounts(memberId));
+    }
+
+    private static Map<Integer, Integer> deltas(int... yearAndDelta) {
+        Map<Integer, Integer> deltas = new HashMap<>();
+        for (int i = 0; i < yearAndDelta.length; i += 2) {
+            deltas.put(yearAndDelta[i], yearAndDelta[i + 1]);
+        }
+        return deltas;
+    }
+}
@@ -0,0 +1,63 @@
+package com.example.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class NearDuplicateIndexTest {
+
+    private static final double THRESHOLD = 0.8;
+
+    @Test
+    void matchesCrossProviderCopiesAndRejectsLookAlikes() {
+        NearDuplicateIndex index = new NearDuplicateIndex();
+        index.put(1, NearDuplicateIndex.key("Deep Learning for Protein Structure Prediction", 2021,
+                List.of("ayse yilmaz", "j smith")));
+        index.put(2, NearDuplicateIndex.key("Graph neural networks for traffic forecasting: Part 1", 2020,
+                List.of("k he")));
+        index.put(3, NearDuplicateIndex.key("Editorial", 2020, List.of("k he")));
+
+        // Büyük/küçük harf, noktalama ve yazar adı biçimi farklı kopya (örn. Scholar)
+        assertEquals(List.of(1L), index.matches(NearDuplicateIndex.key("deep learning for protein-structure prediction.",
+                2022, List.of("a yilmaz", "john smith", "m demir")), THRESHOLD, -1));
+        // Yıl farkı, yazar örtüşmemesi ve farklı bölüm numarası ayrı yayın demektir
+        assertEquals(List.of(), index.matches(NearDuplicateIndex.key("Deep Learning for Protein Structure Prediction",
+                2015, List.of("ayse yilmaz")), THRESHOLD, -1));
+        assertEquals(List.of(), index.matches(NearDuplicateIndex.key("Deep Learning for Protein Structure Prediction",
+                2021, List.of("p brown", "q green")), THRESHOLD, -1));
+        assertEquals(List.of(), index.matches(NearDuplicateIndex.key("Graph neural networks for traffic forecasting: Part 2",
+                2020, List.of("kaiming he")), THRESHOLD, -1));
+        assertEquals(List.of(2L), index.matches(NearDuplicateIndex.key("Graph Neural Networks for Traffic Forecasting - Part 1",
+                2020, List.of()), THRESHOLD, -1));
+        // Kendisiyle eşleşmez
+        assertEquals(List.of(), index.matches(index.keyOf(1), THRESHOLD, 1));
+
+        // Kısa başlıklar indekslenmez
+        assertNull(index.keyOf(3));
+        assertEquals(2, index.publicationCount());
+    }
+
+    @Test
+    void reusesSlotsAfterRemoval() {
+        NearDuplicateIndex index = new NearDuplicateIndex();
+        for (long id = 1; id <= 200; id++) {
+            index.put(id, NearDuplicateIndex.key("Study number " + id + " of coastal erosion models", 2020, List.of("k he")));
+        }
+        for (long id = 1; id <= 150; id++) {
+            index.remove(id);
+        }
+        for (long id = 201; id <= 300; id++) {
+            index.put(id, NearDuplicateIndex.key("Study number " + id + " of coastal erosion models", 2020, List.of("k he")));
+        }
+        assertEquals(150, index.publicationCount());
+        assertEquals(List.of(), index.matches(NearDuplicateIndex.key("Study number 10 of coastal erosion models", 2020,
+                List.of("k he")), THRESHOLD, -1));
+        assertEquals(List.of(250L), index.matches(NearDuplicateIndex.key("Study Number 250 of Coastal Erosion Models",
+                2021, List.of("kai he")), THRESHOLD, -1));
+        assertTrue(index.publicationIds().contains(300L));
+    }
+}
@@ -0,0 +1,59 @@
+package com.example.service;
+
+import com.example.model.Member;
+import com.example.model.Publication;
+import com.example.provider.PublicationProviderFactory;
+import com.example.repository.PublicationRepository;
+import com.example.researchgroup.ResearchGroupBackendApplication;
+import org.junit.jupiter.api.Test;
+import org.mockito.stubbing.Answer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+
+import java.util.List;
+
+import static com.example.service.IngestionFixtures.work;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mockingDetails;
+import static org.mockito.Mockito.when;
+
+/**
+ * Mevcut URL kontrolünden sonra aynı URL'yi başka bir import eklemişse sayfa unique kısıtına takılır;
+ * sayfa yeniden denenir ve yarışı kaybeden yayın duplicate sayılır.
+ */
+@SpringBootTest(classes = ResearchGroupBackendApplication.class)
+class PublicationBatchWriterTest {
+
+    @Autowired
+    private MemberService memberService;
+
+    @MockitoSpyBean
+    private PublicationRepository publicationRepository;
+
+    @MockitoBean
+    private PublicationProviderFactory providerFactory;
+
+    @Test
+    void pageThatLosesAnInsertRaceIsRetried() {
+        IngestionFixtures.StubProvider provider = IngestionFixtures.provider()
+                .pages("race-first", List.of(work("race", "shared").year(2022).build()))
+                .pages("race-second", List.of(work("race", "shared").year(2022).build(), work("race", "own").year(2022).build()));
+        when(providerFactory.getProvider(anyString())).thenReturn(provider);
+        memberService.fetchAndSaveMember("race-first", "openalex");
+
+        // İkinci import'un kontrolü, ilk import'un commit'inden önce çalışmış gibi boş döner
+        // Repository proxy'sinin casusu gerçek çağrıları varsayılan cevabıyla iletir
+        Answer<?> realCall = mockingDetails(publicationRepository).getMockCreationSettings().getDefaultAnswer();
+        doReturn(List.of()).doAnswer(realCall).when(publicationRepository).findExistingIdentifierUrls(anyCollection());
+
+        Member second = memberService.fetchAndSaveMember("race-second", "openalex");
+        assertEquals(1, second.getWorksCount());
+        assertEquals(List.of("https://doi.org/race/own"), publicationRepository.findByMemberId(second.getId()).stream()
+                .map(Publication::getIdentifierUrl).toList());
+    }
+}
@@ -0,0 +1,74 @@
+package com.example.service;
+
+import com.example.service.PublicationFacetIndex.Order;
+import com.example.service.PublicationsChangedEvent.PublicationSnapshot;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.roaringbitmap.RoaringBitmap;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tek üyenin çok sayıda yayını üzerinde filtre tıklaması: tür + iki etiket kesişimi, toplam sayı
+ * ve yıla göre sıralı 20'lik bir sayfanın ID'leri (satırların yüklenmesi hariç).
+ *
+ * <pre>mvn -Pbenchmark test -Djmh.include=PublicationFacetIndexBenchmark</pre>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PublicationFacetIndexBenchmark {
+
+    private static final String[] TYPES = {"article", "book-chapter", "dataset", "preprint"};
+    private static final int TAGS = 200;
+
+    @Param({"10000", "50000"})
+    private int works;
+
+    private PublicationFacetIndex index;
+
+    @Setup
+    public void setup() {
+        Random random = new Random(42);
+        index = new PublicationFacetIndex();
+        for (int i = 1; i <= works; i++) {
+            int[] tags = new int[1 + random.nextInt(5)];
+            for (int t = 0; t < tags.length; t++) {
+                // Birkaç popüler kavram ve uzun kuyruk
+                tags[t] = random.nextInt(4) == 0 ? random.nextInt(5) : random.nextInt(TAGS);
+            }
+            index.put(new PublicationSnapshot(i, 1L, null, null, TYPES[random.nextInt(TYPES.length)], 1990 + random.nextInt(35),
+                    random.nextInt(500), new long[0], tags));
+        }
+        // Sıralama dizileri ilk sorguda kurulur; ölçüm her tıklamanın maliyetini göstersin
+        index.page(1L, index.filter(1L, null, null), Order.YEAR_DESC, 0, 1);
+    }
+
+    @Benchmark
+    public void filterCountAndPage(Blackhole blackhole) {
+        RoaringBitmap matches = index.filter(1L, List.of("article", "preprint"), List.of(1, 3));
+        blackhole.consume(matches.getCardinality());
+        blackhole.consume(index.page(1L, matches, Order.YEAR_DESC, 40, 20));
+    }
+
+    @Benchmark
+    public long[] unfilteredPageById() {
+        RoaringBitmap matches = index.filter(1L, null, null);
+        return index.page(1L, matches, Order.ID, 200, 20);
+    }
+}
@@ -0,0 +1,61 @@
+package com.example.service;
+
+import com.example.service.PublicationFacetIndex.Order;
+import com.example.service.PublicationsChangedEvent.PublicationSnapshot;
+import org.junit.jupiter.api.Test;
+import org.roaringbitmap.RoaringBitmap;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class PublicationFacetIndexTest {
+
+    private static final long MEMBER = 1L;
+
+    @Test
+    void filtersWithBitmapsAndPagesInRequestedOrder() {
+        PublicationFacetIndex index = new PublicationFacetIndex();
+        index.put(publication(10, "article", 2020, 5, 1, 2));
+        index.put(publication(11, "article", 2022, 50, 2));
+        index.put(publication(12, "dataset", null, 7, 1));
+        index.put(publication(13, "preprint", 2021, 0));
+        index.put(new PublicationSnapshot(14, 2L, null, null, "article", 2020, 1, new long[0], new int[]{1}));
+
+        assertEquals(4, index.filter(MEMBER, null, null).getCardinality());
+        assertBitmap(index.filter(MEMBER, List.of("article", "dataset"), null), 10, 11, 12);
+        assertBitmap(index.filter(MEMBER, null, List.of(1)), 10, 12);
+        assertBitmap(index.filter(MEMBER, List.of("article"), List.of(1, 2)), 10, 11);
+        assertBitmap(index.filter(MEMBER, List.of("book"), null));
+        assertBitmap(index.filter(MEMBER, null, List.of()));
+
+        RoaringBitmap all = index.filter(MEMBER, null, null);
+        assertArrayEquals(new long[]{11, 12}, index.page(MEMBER, all, Order.ID, 1, 2));
+        assertArrayEquals(new long[]{11, 13, 10, 12}, index.page(MEMBER, all, Order.YEAR_DESC, 0, 10));
+        assertArrayEquals(new long[]{12, 10}, index.page(MEMBER, all, Order.YEAR_ASC, 0, 2));
+        assertArrayEquals(new long[]{12, 10}, index.page(MEMBER, all, Order.CITATIONS_DESC, 1, 2));
+        RoaringBitmap tagged = index.filter(MEMBER, null, List.of(1, 2));
+        assertArrayEquals(new long[]{12, 11}, index.page(MEMBER, tagged, Order.CITATIONS_ASC, 1, 5));
+        assertArrayEquals(new long[0], index.page(MEMBER, tagged, Order.ID, 3, 5));
+
+        // Güncelleme eski facet'leri kaldırır, sıralama dizileri yeniden kurulur
+        index.put(publication(11, "dataset", 2019, 50));
+        assertBitmap(index.filter(MEMBER, List.of("article"), null), 10);
+        assertBitmap(index.filter(MEMBER, null, List.of(2)), 10);
+        assertArrayEquals(new long[]{13, 10, 11, 12}, index.page(MEMBER, index.filter(MEMBER, null, null), Order.YEAR_DESC, 0, 10));
+
+        index.remove(10);
+        index.remove(10);
+        assertBitmap(index.filter(MEMBER, null, List.of(1, 2)), 12);
+        assertEquals(4, index.publicationCount());
+    }
+
+    private static PublicationSnapshot publication(long id, String type, Integer year, int citations, int... tagIds) {
+        return new PublicationSnapshot(id, MEMBER, null, null, type, year, citations, new long[0], tagIds);
+    }
+
+    private static void assertBitmap(RoaringBitmap bitmap, int... expected) {
+        assertArrayEquals(expected, bitmap.toArray());
+    }
+}
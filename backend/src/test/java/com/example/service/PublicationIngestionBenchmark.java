@@ -0,0 +1,163 @@
+package com.example.service;
+
+import com.example.model.Member;
+import com.example.model.Publication;
+import com.example.repository.MemberRepository;
+import com.example.repository.PublicationRepository;
+import com.example.researchgroup.ResearchGroupBackendApplication;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 5.000 yayınlık bir üyenin kaydı için eski (satır satır) ve yeni (toplu) yolu karşılaştırır.
+ * Normal test koşusunda çalışmaz; elle çalıştırmak için:
+ *
+ * <pre>mvn -Dtest=PublicationIngestionBenchmark test</pre>
+ */
+@SpringBootTest(classes = ResearchGroupBackendApplication.class, properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.jpa.show-sql=false",
+        "logging.level.org.hibernate.SQL=WARN",
+        "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN",
+        "logging.level.com.example=INFO"
+})
+class PublicationIngestionBenchmark {
+
+    private static final int WORKS = 5_000;
+    private static final int PAGE_SIZE = 200;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private PublicationRepository publicationRepository;
+
+    @Autowired
+    private PublicationBatchWriter publicationBatchWriter;
+
+    @Autowired
+    private AuthorService authorService;
+
+    @Autowired
+    private TagService tagService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    void compareRowByRowAndBatchedIngestion() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        // Isınma: JIT ve bağlantı havuzu her iki yol için de hazır olsun
+        runRowByRow(newMember("warmup-legacy"), works("warmup-legacy", 500));
+        runBatched(newMember("warmup-batched"), works("warmup-batched", 500));
+
+        Member legacyMember = newMember("legacy");
+        List<List<Publication>> legacyPages = works("legacy", WORKS);
+        statistics.clear();
+        long legacyStart = System.nanoTime();
+        runRowByRow(legacyMember, legacyPages);
+        long legacyMillis = (System.nanoTime() - legacyStart) / 1_000_000;
+        long legacyStatements = statistics.getPrepareStatementCount();
+
+        Member batchedMember = newMember("batched");
+        List<List<Publication>> batchedPages = works("batched", WORKS);
+        statistics.clear();
+        long batchedStart = System.nanoTime();
+        int saved = runBatched(batchedMember, batchedPages);
+        long batchedMillis = (System.nanoTime() - batchedStart) / 1_000_000;
+        long batchedStatements = statistics.getPrepareStatementCount();
+
+        System.out.printf("%n=== Ingestion of %d works (3 tags each) ===%n", WORKS);
+        System.out.printf("%-14s %12s %10s%n", "path", "statements", "wall ms");
+        System.out.printf("%-14s %12d %10d%n", "row-by-row", legacyStatements, legacyMillis);
+        System.out.printf("%-14s %12d %10d%n", "batched", batchedStatements, batchedMillis);
+
+        assertEquals(WORKS, saved);
+        assertTrue(batchedStatements < legacyStatements / 10,
+                "batched path should issue an order of magnitude fewer statements");
+    }
+
+    /**
+     * Değişiklik öncesi davranış: her yayın için findByIdentifierUrl + save. IDENTITY ID'lerde
+     * insert hemen çalıştığı için her kayıttan sonra flush edilir.
+     */
+    private void runRowByRow(Member member, List<List<Publication>> pages) {
+        pages.forEach(authorService::intern);
+        pages.forEach(tagService::intern);
+        transactionTemplate.executeWithoutResult(status -> {
+            for (List<Publication> page : pages) {
+                for (Publication pub : page) {
+                    if (publicationRepository.findByIdentifierUrl(pub.getIdentifierUrl()).isPresent()) {
+                        continue;
+                    }
+                    pub.setMember(entityManager.getReference(Member.class, member.getId()));
+                    authorService.attach(pub);
+                    tagService.attach(pub);
+                    publicationRepository.save(pub);
+                    publicationRepository.flush();
+                }
+                entityManager.clear();
+            }
+        });
+    }
+
+    private int runBatched(Member member, List<List<Publication>> pages) {
+        int saved = 0;
+        for (List<Publication> page : pages) {
+            authorService.intern(page);
+            tagService.intern(page);
+            saved += publicationBatchWriter.insertNew(member, page).saved();
+        }
+        return saved;
+    }
+
+    private Member newMember(String name) {
+        Member member = new Member();
+        member.setName(name);
+        member.setOpenAlexId("bench-" + name);
+        return memberRepository.save(member);
+    }
+
+    private static List<List<Publication>> works(String prefix, int count) {
+        List<List<Publication>> pages = new ArrayList<>();
+        List<Publication> page = new ArrayList<>(PAGE_SIZE);
+        for (int i = 0; i < count; i++) {
+            Publication pub = new Publication();
+            pub.setTitle("Synthetic work " + i);
+            pub.setIdentifierUrl("https://doi.org/10.0000/" + prefix + "." + i);
+            pub.setAuthors("Author A, Author B");
+            pub.setPublicationYear(2000 + i % 25);
+            pub.setCitedByCount(i % 50);
+            pub.setType("article");
+            pub.setTags(new ArrayList<>(List.of("Computer science", "Topic " + i % 7, "Field " + i % 3)));
+            page.add(pub);
+            if (page.size() == PAGE_SIZE) {
+                pages.add(page);
+                page = new ArrayList<>(PAGE_SIZE);
+            }
+        }
+        if (!page.isEmpty()) {
+            pages.add(page);
+        }
+        return pages;
+    }
+}
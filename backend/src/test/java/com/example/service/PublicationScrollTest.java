@@ -0,0 +1,99 @@
+package com.example.service;
+
+import com.example.model.Member;
+import com.example.model.Publication;
+import com.example.provider.PublicationProviderFactory;
+import com.example.researchgroup.ResearchGroupBackendApplication;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+
+/**
+ * Keyset sayfalama offset sayfalamasıyla aynı sırayı verir: eşit değerler ID ile, yılsız yayınlar
+ * azalan sırada sonda, artan sırada başta; filtreler token'la birlikte korunur.
+ */
+@SpringBootTest(classes = ResearchGroupBackendApplication.class)
+class PublicationScrollTest {
+
+    private static final int WORKS = 23;
+
+    @Autowired
+    private MemberService memberService;
+
+    @MockitoBean
+    private PublicationProviderFactory providerFactory;
+
+    @Test
+    void scrollsInStableOrderWithoutGapsOrRepeats() {
+        when(providerFactory.getProvider(anyString())).thenReturn(IngestionFixtures.provider().pages(works()));
+        Member member = memberService.fetchAndSaveMember("scroll-test", "openalex");
+        List<Publication> all = memberService.getPublicationsByMemberId(member.getId(), 0, 100, "id", null, null).getContent();
+        assertEquals(WORKS, all.size());
+
+        Comparator<Publication> byId = Comparator.comparing(Publication::getId);
+        Comparator<Publication> yearAsc = Comparator.comparing(Publication::getPublicationYear,
+                Comparator.nullsFirst(Comparator.<Integer>naturalOrder())).thenComparing(byId);
+        Comparator<Publication> citedAsc = Comparator.comparingInt(Publication::getCitedByCount).thenComparing(byId);
+        assertEquals(ids(sorted(all, byId)), scroll(member.getId(), "id", null));
+        assertEquals(ids(sorted(all, yearAsc)), scroll(member.getId(), "publicationYearAsc", null));
+        assertEquals(ids(sorted(all, yearAsc.reversed())), scroll(member.getId(), "publicationYear", null));
+        assertEquals(ids(sorted(all, citedAsc)), scroll(member.getId(), "citedByCountAsc", null));
+        assertEquals(ids(sorted(all, citedAsc.reversed())), scroll(member.getId(), "citedByCount", null));
+
+        List<Publication> datasets = all.stream().filter(pub -> "dataset".equals(pub.getType())).toList();
+        assertEquals(ids(sorted(datasets, yearAsc.reversed())), scroll(member.getId(), "publicationYear", List.of("dataset")));
+
+        PublicationSlice last = memberService.getPublicationSliceByMemberId(member.getId(), null, 100, "id", null, null);
+        assertFalse(last.hasNext());
+        assertNull(last.nextCursor());
+        String cursor = memberService.getPublicationSliceByMemberId(member.getId(), null, 5, "citedByCount", null, null).nextCursor();
+        assertThrows(IllegalArgumentException.class,
+                () -> memberService.getPublicationSliceByMemberId(member.getId(), cursor, 5, "publicationYear", null, null));
+        assertThrows(IllegalArgumentException.class,
+                () -> memberService.getPublicationSliceByMemberId(member.getId(), "not a cursor", 5, "id", null, null));
+    }
+
+    private List<Long> scroll(Long memberId, String sort, List<String> types) {
+        List<Long> ids = new ArrayList<>();
+        String cursor = null;
+        do {
+            PublicationSlice slice = memberService.getPublicationSliceByMemberId(memberId, cursor, 4, sort, types, null);
+            ids.addAll(ids(slice.content()));
+            cursor = slice.nextCursor();
+        } while (cursor != null);
+        return ids;
+    }
+
+    private static List<Publication> sorted(List<Publication> publications, Comparator<Publication> order) {
+        return publications.stream().sorted(order).toList();
+    }
+
+    private static List<Long> ids(List<Publication> publications) {
+        return publications.stream().map(Publication::getId).toList();
+    }
+
+    private static List<Publication> works() {
+        List<Publication> works = new ArrayList<>();
+        for (int i = 0; i < WORKS; i++) {
+            // Yıllar ve atıflar bilerek tekrarlı, bazı yayınların yılı yok
+            works.add(IngestionFixtures.work("scroll", String.valueOf(i))
+                    .type(i % 3 == 0 ? "dataset" : "article")
+                    .year(i % 5 == 0 ? null : 2018 + i % 4)
+                    .citations(i % 6)
+                    .build());
+        }
+        return works;
+    }
+}
@@ -0,0 +1,88 @@
+package com.example.service;
+
+import com.example.service.PublicationSearchIndex.Filter;
+import com.example.service.PublicationsChangedEvent.PublicationSnapshot;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Grup genelinde arama: Zipf benzeri kelime dağılımıyla üretilmiş başlıklar, paylaşılan yazar havuzu.
+ * Ölçülen süre sorgunun terimlerini bulup puanlamak ve ilk 20 sonucu seçmektir (satırların yüklenmesi hariç).
+ *
+ * <pre>mvn -Pbenchmark test -Djmh.include=PublicationSearchIndexBenchmark</pre>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PublicationSearchIndexBenchmark {
+
+    private static final int VOCABULARY = 20_000;
+    private static final int AUTHORS = 30_000;
+    private static final String[] TYPES = {"article", "book-chapter", "dataset", "preprint"};
+
+    @Param({"100000"})
+    private int works;
+
+    private PublicationSearchIndex index;
+    private Filter filter;
+
+    @Setup
+    public void setup() {
+        Random random = new Random(42);
+        index = new PublicationSearchIndex();
+        for (int author = 0; author < AUTHORS; author++) {
+            index.putAuthor(author, "author" + random.nextInt(AUTHORS / 3) + " surname" + author);
+        }
+        for (int i = 1; i <= works; i++) {
+            StringBuilder title = new StringBuilder();
+            int words = 6 + random.nextInt(10);
+            for (int w = 0; w < words; w++) {
+                title.append(word(random)).append(' ');
+            }
+            long[] authors = new long[1 + random.nextInt(6)];
+            for (int a = 0; a < authors.length; a++) {
+                authors[a] = random.nextInt(AUTHORS);
+            }
+            index.put(new PublicationSnapshot(i, (long) (1 + i % 30), title.toString(), "venue" + random.nextInt(500),
+                    TYPES[random.nextInt(TYPES.length)], 1990 + random.nextInt(35), 0, authors, new int[]{random.nextInt(200)}));
+        }
+        filter = new Filter(null, Set.of("article"), 2010, 2024, null);
+    }
+
+    // Küçük sıra numaralı kelimeler çok sık ("the", "of" benzeri), büyükler nadir
+    private static String word(Random random) {
+        double u = random.nextDouble();
+        return "w" + (int) Math.pow(VOCABULARY, u);
+    }
+
+    @Benchmark
+    public PublicationSearchIndex.Result commonAndRareTerm() {
+        return index.search("w3 w4000 ", Filter.NONE, 0, 20);
+    }
+
+    @Benchmark
+    public PublicationSearchIndex.Result prefixWithFilter() {
+        return index.search("w2 w15", filter, 0, 20);
+    }
+
+    @Benchmark
+    public PublicationSearchIndex.Result authorName() {
+        return index.search("surname123", Filter.NONE, 0, 20);
+    }
+}
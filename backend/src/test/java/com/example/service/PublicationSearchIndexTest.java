@@ -0,0 +1,90 @@
+package com.example.service;
+
+import com.example.service.PublicationSearchIndex.Filter;
+import com.example.service.PublicationSearchIndex.Hit;
+import com.example.service.PublicationsChangedEvent.PublicationSnapshot;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PublicationSearchIndexTest {
+
+    @Test
+    void foldsTurkishAndEnglishText() {
+        assertEquals(List.of("isik", "ve", "gunes", "enerjisi"), SearchTokenizer.tokenize("IŞIK ve Güneş-enerjisi"));
+        assertEquals(List.of("turkiye", "alzheimer", "obrien", "istanbul"),
+                SearchTokenizer.tokenize("Türkiye'deki Alzheimer’s O'Brien İstanbul"));
+        assertEquals(List.of("resume", "naive", "2024"), SearchTokenizer.tokenize("Résumé: naïve (2024)"));
+    }
+
+    @Test
+    void ranksWithBm25AndAppliesPrefixAndFilters() {
+        PublicationSearchIndex index = new PublicationSearchIndex();
+        index.putAuthor(100, "ayse yilmaz");
+        index.putAuthor(101, "john smith");
+        index.put(publication(1, 1L, "Deep learning for protein folding", "Nature", "article", 2021, new long[]{101}, 1));
+        index.put(publication(2, 1L, "Learning rates in neural networks", "NeurIPS", "article", 2019, new long[]{100}, 2));
+        index.put(publication(3, 2L, "Derin öğrenme ile protein katlanması", "Türkiye Bilişim Dergisi", "article", 2022, new long[]{100}));
+        index.put(publication(4, 2L, "A survey", "Deep Learning Workshop", "preprint", null, new long[]{101}));
+
+        // Başlıktaki eşleşme yayın yerindekinden önce gelir; tüm kelimeler eşleşmeli
+        assertEquals(List.of(1L, 4L), ids(index.search("deep learning", Filter.NONE, 0, 10).hits()));
+        assertEquals(List.of(1L), ids(index.search("deep learning protein", Filter.NONE, 0, 10).hits()));
+        assertEquals(0, index.search("deep quantum", Filter.NONE, 0, 10).total());
+
+        // Son kelime önek olarak da eşleşir, boşlukla bitince sadece tam kelime
+        assertEquals(List.of(3L), ids(index.search("OGREN", Filter.NONE, 0, 10).hits()));
+        assertEquals(0, index.search("ogren ", Filter.NONE, 0, 10).total());
+        assertEquals(List.of(2L, 3L), sorted(ids(index.search("Ayşe Yılmaz", Filter.NONE, 0, 10).hits())));
+        assertEquals(List.of(3L), ids(index.search("bilisim", Filter.NONE, 0, 10).hits()));
+
+        assertEquals(3, index.search("learn", Filter.NONE, 0, 10).total());
+        assertEquals(List.of(2L), ids(index.search("learn", new Filter(1L, null, 2018, 2020, null), 0, 10).hits()));
+        assertEquals(List.of(4L), ids(index.search("learn", new Filter(null, Set.of("preprint"), null, null, null), 0, 10).hits()));
+        assertEquals(List.of(1L), ids(index.search("learn", new Filter(null, null, null, null, Set.of(1, 7)), 0, 10).hits()));
+        assertEquals(0, index.search("learn", new Filter(null, null, null, null, Set.of()), 0, 10).total());
+
+        PublicationSearchIndex.Result page = index.search("learn", Filter.NONE, 1, 1);
+        assertEquals(3, page.total());
+        assertEquals(ids(index.search("learn", Filter.NONE, 0, 3).hits()).subList(1, 2), ids(page.hits()));
+
+        // Güncelleme eski terimleri kaldırır
+        index.put(publication(1, 1L, "Protein structure prediction", "Nature", "article", 2021, new long[]{101}));
+        assertEquals(List.of(4L), ids(index.search("deep learning", Filter.NONE, 0, 10).hits()));
+        index.remove(4);
+        assertEquals(0, index.search("survey", Filter.NONE, 0, 10).total());
+        assertEquals(3, index.publicationCount());
+    }
+
+    @Test
+    void compactsAfterManyUpdates() {
+        PublicationSearchIndex index = new PublicationSearchIndex();
+        for (int round = 0; round < 3; round++) {
+            for (int id = 1; id <= 1000; id++) {
+                index.put(publication(id, 1L, "Round" + round + " paper " + id, null, "article", 2020, new long[0]));
+            }
+        }
+        assertEquals(1000, index.publicationCount());
+        assertEquals(1000, index.search("round2 paper", Filter.NONE, 0, 5).total());
+        assertEquals(0, index.search("round0", Filter.NONE, 0, 5).total());
+        assertEquals(List.of(7L), ids(index.search("paper 7 ", Filter.NONE, 0, 5).hits()));
+        assertTrue(index.termCount() <= 1003);
+    }
+
+    private static PublicationSnapshot publication(long id, Long memberId, String title, String venue, String type,
+                                                   Integer year, long[] authorIds, int... tagIds) {
+        return new PublicationSnapshot(id, memberId, title, venue, type, year, 0, authorIds, tagIds);
+    }
+
+    private static List<Long> ids(List<Hit> hits) {
+        return hits.stream().map(Hit::publicationId).toList();
+    }
+
+    private static List<Long> sorted(List<Long> ids) {
+        return ids.stream().sorted().toList();
+    }
+}
@@ -0,0 +1,148 @@
+package com.example.service;
+
+import com.example.model.Member;
+import com.example.model.Publication;
+import com.example.provider.PublicationProviderFactory;
+import com.example.repository.PublicationRepository;
+import com.example.repository.TagRepository;
+import com.example.researchgroup.ResearchGroupBackendApplication;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.when;
+
+/**
+ * Etiketler sözlükte bir kez saklanır; etiket düzenleme sadece farkı yazar, filtre ve metadata
+ * (facet sayılarıyla) sözlük üzerinden çalışır.
+ */
+@SpringBootTest(classes = ResearchGroupBackendApplication.class)
+class PublicationTagsTest {
+
+    @Autowired
+    private MemberService memberService;
+
+    @Autowired
+    private PublicationService publicationService;
+
+    @Autowired
+    private PublicationSearchService publicationSearchService;
+
+    @Autowired
+    private PublicationRepository publicationRepository;
+
+    @Autowired
+    private TagService tagService;
+
+    @Autowired
+    private TagRepository tagRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @MockitoSpyBean
+    private PublicationFacetService facetService;
+
+    @MockitoBean
+    private PublicationProviderFactory providerFactory;
+
+    @Test
+    void storesEachTagOnceAndUpdatesByDiff() {
+        when(providerFactory.getProvider(anyString())).thenReturn(IngestionFixtures.provider()
+                .pages(List.of(work("t1", "article", "Tagged science"), work("t2", "dataset", "Tagged science", "Tagged topic"))));
+
+        Member member = memberService.fetchAndSaveMember("tag-dictionary", "openalex");
+        assertEquals(2, member.getWorksCount());
+        assertEquals(1, tagRepository.findByNameIn(List.of("Tagged science")).size());
+
+        Long t1 = publicationRepository.findByIdentifierUrl("https://doi.org/tags/t1").orElseThrow().getId();
+        publicationService.updatePublicationTags(t1, List.of("Tagged statistics", " Tagged science ", "Tagged statistics", ""));
+        transactionTemplate.executeWithoutResult(status ->
+                assertEquals(List.of("Tagged science", "Tagged statistics"), publicationRepository.findById(t1).orElseThrow().getTags()));
+
+        PublicationMetadata metadata = memberService.getPublicationMetadata(member.getId(), null, null);
+        assertEquals(List.of("Tagged science", "Tagged statistics", "Tagged topic"), metadata.tags());
+        assertEquals(Map.of("Tagged science", 2, "Tagged statistics", 1, "Tagged topic", 1), metadata.tagCounts());
+        assertEquals(Map.of("article", 1, "dataset", 1), metadata.typeCounts());
+        // Her boyutun sayıları diğer boyutun filtresine göre daralır
+        metadata = memberService.getPublicationMetadata(member.getId(), List.of("dataset"), List.of("Tagged statistics"));
+        assertEquals(Map.of("Tagged science", 1, "Tagged statistics", 0, "Tagged topic", 1), metadata.tagCounts());
+        assertEquals(Map.of("article", 1, "dataset", 0), metadata.typeCounts());
+        assertEquals(List.of("article", "dataset"), metadata.types());
+        assertEquals(1, memberService.getPublicationsByMemberId(member.getId(), 0, 10, "id", null,
+                List.of("Tagged statistics")).getTotalElements());
+        assertEquals(2, memberService.getPublicationsByMemberId(member.getId(), 0, 10, "id", null,
+                List.of("Tagged science", "Tagged topic")).getTotalElements());
+        assertEquals(0, memberService.getPublicationsByMemberId(member.getId(), 0, 10, "id", null,
+                List.of("No such tag")).getTotalElements());
+        // Arama indeksi ingestion ve etiket düzenlemesiyle commit sonrası güncellenir
+        assertEquals(2, publicationSearchService.search("tags", member.getId(), null, null, null, null, 0, 10)
+                .orElseThrow().getTotalElements());
+        assertEquals(List.of(t1), publicationSearchService.search("tags", member.getId(), null, null, null,
+                List.of("Tagged statistics"), 0, 10).orElseThrow().map(hit -> hit.publication().getId()).getContent());
+
+        publicationService.updatePublicationTags(t1, null);
+        transactionTemplate.executeWithoutResult(status ->
+                assertEquals(List.of(), publicationRepository.findById(t1).orElseThrow().getTags()));
+    }
+
+    @Test
+    void metadataFallbackMatchesIndexWhenIndexIsNotReady() {
+        when(providerFactory.getProvider(anyString())).thenReturn(IngestionFixtures.provider()
+                .pages(List.of(work("f1", "article", "Tagged science"),
+                        work("f2", "dataset", "Tagged science", "Tagged statistics"),
+                        work("f3", "dataset"),
+                        work("f4", null, "Tagged topic"))));
+        Member member = memberService.fetchAndSaveMember("tag-fallback", "openalex");
+
+        List<List<List<String>>> filters = List.of(
+                Arrays.asList(null, null),
+                Arrays.asList(List.of("dataset"), List.of("Tagged statistics")),
+                Arrays.asList(List.of("article", "dataset"), List.of("Tagged science", "Tagged topic")),
+                Arrays.asList(null, List.of("No such tag")));
+        List<PublicationMetadata> indexed = new ArrayList<>();
+        for (List<List<String>> filter : filters) {
+            indexed.add(memberService.getPublicationMetadata(member.getId(), filter.get(0), filter.get(1)));
+        }
+
+        // İndeks henüz kurulmamış gibi: sayılar veritabanındaki GROUP BY sorgularından gelir
+        doReturn(Optional.empty()).when(facetService).findMetadata(any(), any(), any());
+        for (int i = 0; i < filters.size(); i++) {
+            List<List<String>> filter = filters.get(i);
+            assertEquals(indexed.get(i), memberService.getPublicationMetadata(member.getId(), filter.get(0), filter.get(1)),
+                    "filter " + filter);
+        }
+    }
+
+    @Test
+    void newTagsCommitIndependentlyOfTheCallersTransaction() {
+        List<Integer> ids = transactionTemplate.execute(status -> {
+            List<Integer> interned = tagService.internNames(List.of("Tagged rollback"));
+            status.setRollbackOnly();
+            return interned;
+        });
+
+        // Çağıranın rollback'i yeni etiketi geri almaz; önbellekteki ID veritabanındaki satırı gösterir
+        assertEquals(1, ids.size());
+        assertTrue(tagRepository.existsById(ids.get(0)));
+        assertEquals(ids, tagService.internNames(List.of("Tagged rollback")));
+    }
+
+    private static Publication work(String key, String type, String... tags) {
+        return IngestionFixtures.work("tags", key).title("Tags " + key).type(type).year(2021).tags(tags).build();
+    }
+}
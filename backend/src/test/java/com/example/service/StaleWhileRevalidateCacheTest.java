@@ -0,0 +1,98 @@
+package com.example.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class StaleWhileRevalidateCacheTest {
+
+    private static final Duration TTL = Duration.ofMinutes(10);
+    private static final Duration BACKOFF = Duration.ofMinutes(1);
+
+    private final AtomicLong clock = new AtomicLong();
+    private final List<Runnable> pendingRefreshes = new ArrayList<>();
+    private final Executor manualExecutor = pendingRefreshes::add;
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    @Test
+    void servesStaleValueWhileSingleRefreshRunsInBackground() {
+        AtomicInteger loads = new AtomicInteger();
+        StaleWhileRevalidateCache<String> cache = cache(() -> "v" + loads.incrementAndGet());
+
+        assertEquals("v1", cache.get()); // miss: çağıran thread'de yüklenir
+        assertEquals("v1", cache.get()); // hit
+
+        clock.addAndGet(TTL.toNanos());
+        assertEquals("v1", cache.get()); // stale: eski değer + arka plan yenilemesi
+        assertEquals("v1", cache.get()); // aynı yenileme zaten uçuşta
+        assertEquals(1, pendingRefreshes.size());
+
+        pendingRefreshes.remove(0).run();
+        assertEquals("v2", cache.get());
+        assertEquals(2, loads.get());
+
+        assertEquals(2, count("hit"));
+        assertEquals(2, count("stale"));
+        assertEquals(1, count("miss"));
+    }
+
+    @Test
+    void keepsLastKnownValueWhenRefreshFails() {
+        AtomicInteger loads = new AtomicInteger();
+        StaleWhileRevalidateCache<String> cache = cache(() -> {
+            if (loads.incrementAndGet() > 1) {
+                throw new IllegalStateException("remote down");
+            }
+            return "good";
+        });
+
+        assertEquals("good", cache.get());
+        clock.addAndGet(TTL.toNanos());
+        assertEquals("good", cache.get());
+        pendingRefreshes.remove(0).run();
+
+        assertEquals("good", cache.get());
+        // Hata sonrası backoff süresince yeni yenileme başlatılmaz
+        assertEquals(0, pendingRefreshes.size());
+        clock.addAndGet(BACKOFF.toNanos());
+        cache.get();
+        assertEquals(1, pendingRefreshes.size());
+    }
+
+    @Test
+    void returnsNullWhenNothingWasEverLoaded() {
+        StaleWhileRevalidateCache<String> cache = cache(() -> {
+            throw new IllegalStateException("remote down");
+        });
+
+        assertNull(cache.get());
+    }
+
+    @Test
+    void loadsOnFirstGetWhenClockIsNegative() {
+        // nanoTime'ın orijini keyfi; negatif değerler de geçerli
+        clock.set(Long.MIN_VALUE / 2);
+        StaleWhileRevalidateCache<String> cache = cache(() -> "v");
+
+        assertEquals("v", cache.get());
+        assertEquals(1, count("miss"));
+    }
+
+    private StaleWhileRevalidateCache<String> cache(Supplier<String> loader) {
+        return new StaleWhileRevalidateCache<>("test", TTL, BACKOFF, loader, manualExecutor, registry, clock::get);
+    }
+
+    private long count(String result) {
+        return (long) registry.get("cache.gets").tag("result", result).counter().count();
+    }
+}
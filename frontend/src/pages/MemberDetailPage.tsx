@@ -74,6 +74,8 @@ interface PageData<T> {
 interface PublicationMetadata {
   types: string[];
   tags: string[];
+  typeCounts: Record<string, number>;
+  tagCounts: Record<string, number>;
 }
 
 // Yıla göre gruplanmış veriler için tip
@@ -188,8 +190,9 @@ function MemberDetailPage() {
   });
 
   const { data: pubMetadata } = useQuery<PublicationMetadata, Error>({
-    queryKey: ['publicationMetadata', id],
-    queryFn: () => getPublicationMetadata(id!),
+    queryKey: ['publicationMetadata', id, selectedTypes, selectedTags],
+    queryFn: () => getPublicationMetadata(id!, selectedTypes, selectedTags),
+    placeholderData: (previousData) => previousData,
   });
 
   const { data: openAlexTypes, isLoading: isLoadingTypes } = useQuery<string[], Error>({
@@ -718,6 +721,7 @@ function MemberDetailPage() {
                               }`}
                             >
                                {type.replace("_", " ")}
+                               <span className="ml-1 opacity-75">({pubMetadata.typeCounts?.[type] ?? 0})</span>
                             </button>
                           ))}
                          </div>
@@ -739,6 +743,7 @@ function MemberDetailPage() {
                               }`}
                             >
                                {tag}
+                               <span className="ml-1 opacity-75">({pubMetadata.tagCounts?.[tag] ?? 0})</span>
                             </button>
                           ))}
                        </div>
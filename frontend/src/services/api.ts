@@ -60,8 +60,17 @@ export const getPublicationsByMember = async (
   return response.data;
 };
 
-export const getPublicationMetadata = async (id: string) => {
-  const response = await api.get(`/members/${id}/publication-metadata`);
+export const getPublicationMetadata = async (
+  id: string,
+  types: string[] = [],
+  tags: string[] = []
+) => {
+  // Aktif filtreler yollanır; sayılar diğer boyutun filtresine göre hesaplanır
+  const params = new URLSearchParams();
+  types.forEach(type => params.append('types', type));
+  tags.forEach(tag => params.append('tags', tag));
+
+  const response = await api.get(`/members/${id}/publication-metadata`, { params });
   return response.data;
 };
 